@@ -0,0 +1,50 @@
+package com.j2c.j2c.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    public static void main(final String[] args) throws Exception {
+        final CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        } else if (cli.shouldList()) {
+            new Runner(cli).list();
+            return;
+        }
+        // JSON results named after the current commit, so that runs on different commits can be diffed
+        final OptionsBuilder options = new OptionsBuilder();
+        options.parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result("jmh-result-" + commitId() + ".json");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String commitId() {
+        try (final InputStream is = BenchmarkRunner.class.getResourceAsStream("/git.properties")) {
+            if (is == null) {
+                return "unknown";
+            }
+            final Properties properties = new Properties();
+            properties.load(is);
+            return properties.getProperty("git.commit.id.abbrev", "unknown");
+        } catch (final IOException exception) {
+            return "unknown";
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.j2c.j2c.benchmark;
+
+import com.j2c.j2c.domain.entity.*;
+import com.j2c.j2c.domain.entity.Checkout.PreCheckoutLine;
+import com.j2c.j2c.domain.enums.MassUnit;
+import com.j2c.j2c.domain.enums.RoleType;
+import com.j2c.j2c.domain.enums.ShippingMethodType;
+import com.neovisionaries.i18n.CountryCode;
+import com.neovisionaries.i18n.CurrencyCode;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class Fixtures {
+
+    private static final AtomicLong ids = new AtomicLong();
+
+    private Fixtures() {}
+
+    public static User customer() {
+        final Role role = newInstance(Role.class);
+        setField(role, "id", nextId());
+        setField(role, "type", RoleType.Customer);
+        final User customer = User.builder()
+                .role(role)
+                .build();
+        setField(customer, "id", nextId());
+        return customer;
+    }
+
+    public static Product publishedProduct(final boolean digital) {
+        final Product product = Product.builder()
+                .name("Product " + nextId())
+                .description("Product description.")
+                .digital(digital)
+                .defaultPrice(300L)
+                .build();
+        setField(product, "id", nextId());
+        final ProductVariant variant = product.newVariant()
+                .name("Variant " + nextId())
+                .mass(100)
+                .price(250L)
+                .add();
+        setField(variant, "id", nextId());
+        product.setDefaultVariant(variant);
+        product.publish();
+        return product;
+    }
+
+    public static List<Product> publishedProducts(final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> publishedProduct(i % 4 == 0))
+                .collect(Collectors.toList());
+    }
+
+    public static List<PreCheckoutLine> preCheckoutLines(final int size) {
+        return publishedProducts(size).stream()
+                .map(Product::getDefaultVariant)
+                .map(v -> PreCheckoutLine.builder().variant(v).quantity(2).build())
+                .collect(Collectors.toList());
+    }
+
+    public static Checkout checkout(final List<PreCheckoutLine> lines) {
+        return Checkout.builder()
+                .customer(customer())
+                .lines(lines)
+                .email("customer@j2c.com")
+                .currency(CurrencyCode.EUR)
+                .ipAddress("127.0.0.1")
+                .massUnit(MassUnit.g)
+                .build();
+    }
+
+    public static Address address(final CountryCode country) {
+        return Address.builder()
+                .firstName("First Name")
+                .lastName("Last Name")
+                .streetAddress1("Street Address 1")
+                .country(country)
+                .countryArea("Country Area")
+                .city("City")
+                .postalCode("ABC123")
+                .phone1("123456789")
+                .build();
+    }
+
+    public static ShippingZone shippingZone(final int numberOfCountries) {
+        final ShippingZone zone = ShippingZone.builder()
+                .name("Shipping Zone " + nextId())
+                .build();
+        setField(zone, "id", nextId());
+        zone.addCountries(
+                Arrays.stream(CountryCode.values())
+                        .filter(c -> c != CountryCode.UNDEFINED)
+                        .limit(numberOfCountries)
+                        .map(Fixtures::shippingCountry)
+                        .collect(Collectors.toList())
+        );
+        return zone;
+    }
+
+    public static ShippingMethod shippingMethod(final ShippingZone zone, final ShippingMethodType type) {
+        final ShippingMethod method = ShippingMethod.builder()
+                .name("Shipping Method " + nextId())
+                .type(type)
+                .min(0L)
+                .max(Long.MAX_VALUE)
+                .rate(350L)
+                .zone(zone)
+                .build();
+        setField(method, "id", nextId());
+        return method;
+    }
+
+    public static ProductCategory category() {
+        final ProductCategory category = ProductCategory.builder()
+                .name("Category " + nextId())
+                .description("Category description.")
+                .build();
+        setField(category, "id", nextId());
+        return category;
+    }
+
+    public static ProductTag tag() {
+        final ProductTag tag = ProductTag.builder()
+                .name("Tag " + nextId())
+                .build();
+        setField(tag, "id", nextId());
+        return tag;
+    }
+
+    private static ShippingCountry shippingCountry(final CountryCode code) {
+        final ShippingCountry country = newInstance(ShippingCountry.class);
+        setField(country, "id", nextId());
+        setField(country, "code", code);
+        return country;
+    }
+
+    private static long nextId() {
+        return ids.incrementAndGet();
+    }
+
+    private static <T> T newInstance(final Class<T> clazz) {
+        try {
+            final Constructor<T> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (final ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static void setField(final Object obj, final String fieldName, final Object value) {
+        try {
+            final Field field = obj.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(obj, value);
+        } catch (final ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+}
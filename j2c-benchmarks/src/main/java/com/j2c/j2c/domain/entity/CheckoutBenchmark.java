@@ -0,0 +1,34 @@
+package com.j2c.j2c.domain.entity;
+
+import com.j2c.j2c.benchmark.Fixtures;
+import com.j2c.j2c.domain.entity.Checkout.PreCheckoutLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int lines;
+
+    private List<PreCheckoutLine> preCheckoutLines;
+
+    @Setup
+    public void setup() {
+        preCheckoutLines = Fixtures.preCheckoutLines(lines);
+    }
+
+    @Benchmark
+    public Checkout create() {
+        // covers verifyAllProductsArePublished, calculatePrice, calculateShippingRequired and calculateTotalMass
+        return Fixtures.checkout(preCheckoutLines);
+    }
+
+}
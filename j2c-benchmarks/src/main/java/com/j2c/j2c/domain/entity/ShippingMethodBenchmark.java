@@ -0,0 +1,72 @@
+package com.j2c.j2c.domain.entity;
+
+import com.j2c.j2c.benchmark.Fixtures;
+import com.j2c.j2c.domain.enums.ShippingMethodType;
+import com.neovisionaries.i18n.CountryCode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShippingMethodBenchmark {
+
+    @Param({"5", "50", "250"})
+    private int countries;
+
+    private ShippingZone zone;
+
+    private ShippingMethod priceMethod;
+
+    private ShippingMethod weightMethod;
+
+    private Checkout checkout;
+
+    private CountryCode missingCountry;
+
+    @Setup
+    public void setup() {
+        zone = Fixtures.shippingZone(countries);
+        priceMethod = Fixtures.shippingMethod(zone, ShippingMethodType.Price);
+        weightMethod = Fixtures.shippingMethod(zone, ShippingMethodType.Weight);
+        checkout = Fixtures.checkout(Fixtures.preCheckoutLines(10));
+        // worst case for hasCountry: the shipping address' country is the last one in the zone
+        checkout.setShippingAddress(Fixtures.address(lastCountry()));
+        missingCountry = CountryCode.UNDEFINED;
+    }
+
+    @Benchmark
+    public boolean hasCountry() {
+        return zone.hasCountry(checkout.getActualShippingAddress().getCountry());
+    }
+
+    @Benchmark
+    public boolean hasCountryMiss() {
+        return zone.hasCountry(missingCountry);
+    }
+
+    @Benchmark
+    public boolean canBeAppliedToCheckoutByPrice() {
+        return priceMethod.canBeAppliedToCheckout(checkout);
+    }
+
+    @Benchmark
+    public boolean canBeAppliedToCheckoutByWeight() {
+        return weightMethod.canBeAppliedToCheckout(checkout);
+    }
+
+    private CountryCode lastCountry() {
+        CountryCode last = null;
+        for (final CountryCode code : CountryCode.values()) {
+            if (zone.hasCountry(code)) {
+                last = code;
+            }
+        }
+        return last;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.j2c.j2c.service.mapper;
+
+import com.j2c.j2c.benchmark.Fixtures;
+import com.j2c.j2c.domain.entity.Product;
+import com.j2c.j2c.domain.entity.ProductCategory;
+import com.j2c.j2c.domain.entity.ProductTag;
+import com.j2c.j2c.service.dto.ProductCategoryDTO;
+import com.j2c.j2c.service.dto.ProductDTO;
+import com.j2c.j2c.service.dto.ProductTagDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mapstruct.factory.Mappers.getMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DTOMapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ProductDTOMapper productMapper;
+
+    private ProductCategoryDTOMapper categoryMapper;
+
+    private ProductTagDTOMapper tagMapper;
+
+    private Page<Product> products;
+
+    private Page<ProductCategory> categories;
+
+    private Page<ProductTag> tags;
+
+    @Setup
+    public void setup() {
+        productMapper = getMapper(ProductDTOMapper.class);
+        categoryMapper = getMapper(ProductCategoryDTOMapper.class);
+        tagMapper = getMapper(ProductTagDTOMapper.class);
+        final PageRequest pageable = PageRequest.of(0, pageSize);
+        products = new PageImpl<>(Fixtures.publishedProducts(pageSize), pageable, pageSize * 10L);
+        categories = new PageImpl<>(
+                IntStream.range(0, pageSize)
+                        .mapToObj(i -> Fixtures.category())
+                        .collect(Collectors.toList()),
+                pageable,
+                pageSize * 10L
+        );
+        tags = new PageImpl<>(
+                IntStream.range(0, pageSize)
+                        .mapToObj(i -> Fixtures.tag())
+                        .collect(Collectors.toList()),
+                pageable,
+                pageSize * 10L
+        );
+    }
+
+    @Benchmark
+    public Page<ProductDTO> products() {
+        return productMapper.fromEntities(products);
+    }
+
+    @Benchmark
+    public Page<ProductCategoryDTO> categories() {
+        return categoryMapper.fromEntities(categories);
+    }
+
+    @Benchmark
+    public Page<ProductTagDTO> tags() {
+        return tagMapper.fromEntities(tags);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.j2c.j2c.service.util;
+
+import com.j2c.j2c.service.input.Line;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergedLinesBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int size;
+
+    // number of distinct ids among the lines, as a percentage of their total number
+    @Param({"100", "25"})
+    private int distinct;
+
+    private List<Line> lines;
+
+    @Setup
+    public void setup() {
+        final int ids = Math.max(1, size * distinct / 100);
+        lines = IntStream.range(0, size)
+                .mapToObj(i -> Line.builder().id((long) (i % ids) + 1).quantity(1).build())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MergedLines merge() {
+        return MergedLines.merge(lines);
+    }
+
+}
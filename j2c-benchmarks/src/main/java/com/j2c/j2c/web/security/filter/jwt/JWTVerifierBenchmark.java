@@ -0,0 +1,40 @@
+package com.j2c.j2c.web.security.filter.jwt;
+
+import com.j2c.j2c.web.security.token.TokenProvider;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.j2c.j2c.web.util.WebConstants.Bearer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTVerifierBenchmark {
+
+    private static final String SECRET = "rbcjXddtz1kJnfAU1dAV0vX5PfM5r0bT/Q5F6xl+eSo7FyIJixsxIQ9Nv9JySxFl2qlvbqeOCAZ0wLGynryxwQ==";
+
+    private JWTVerifier verifier;
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        final Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        verifier = new JWTVerifier(key);
+        token = Bearer + new TokenProvider(key).create(1L, Set.of("read_products", "write_products", "process_orders"));
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return verifier.verify(token).isPresent();
+    }
+
+}
@@ -0,0 +1 @@
+create index checkout_last_activity_idx on checkout (coalesce(updated_at, created_at));
@@ -0,0 +1 @@
+create index user_anonymous_created_at_idx on "user" (created_at) where email is null;
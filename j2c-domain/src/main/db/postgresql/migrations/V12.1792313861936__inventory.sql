@@ -0,0 +1,21 @@
+create table inventorystripe (
+   id int8 not null,
+   variant_id int8 not null,
+   stripe int4 not null,
+   available int4 not null,
+   primary key (id)
+);
+
+create sequence inventorystripe_id_seq increment by 50 owned by inventorystripe.id;
+
+alter table if exists inventorystripe
+   add constraint inventorystripe_variant_stripe_key unique (variant_id, stripe);
+
+alter table if exists inventorystripe
+   add constraint inventorystripe_variant_fkey
+   foreign key (variant_id)
+   references productvariant
+   on delete cascade;
+
+alter table if exists checkoutline
+   add column reserved_variant_id int8;
@@ -0,0 +1,12 @@
+create table outboxevent (
+   id uuid not null,
+   created_at timestamp not null,
+   type varchar(100) not null,
+   payload varchar(65536) not null,
+   attempts int4 not null default 0,
+   available_at timestamp not null,
+   processed_at timestamp,
+   primary key (id)
+);
+
+create index outboxevent_pending_idx on outboxevent (available_at) where processed_at is null;
@@ -0,0 +1,7 @@
+create table joblease (
+   id varchar(100) not null,
+   owner varchar(250),
+   leased_until timestamp not null,
+   checkpoint varchar(1000),
+   primary key (id)
+);
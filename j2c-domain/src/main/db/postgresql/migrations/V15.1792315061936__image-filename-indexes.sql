@@ -0,0 +1,3 @@
+create index product_image_filename_idx on product (image_filename);
+create index productcategory_image_filename_idx on productcategory (image_filename);
+create index productvariantimage_filename_idx on productvariantimage (filename);
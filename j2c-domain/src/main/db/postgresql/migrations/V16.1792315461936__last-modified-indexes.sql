@@ -0,0 +1,3 @@
+create index product_last_modified_idx on product (last_modified, id);
+create index productcategory_last_modified_idx on productcategory (last_modified);
+create index producttag_last_modified_idx on producttag (last_modified);
@@ -0,0 +1,3 @@
+create index product_name_id_idx on product (name, id);
+create index product_default_price_id_idx on product (default_price, id);
+create index order_email_id_idx on "order" (email, id);
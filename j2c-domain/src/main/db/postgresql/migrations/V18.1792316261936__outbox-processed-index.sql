@@ -0,0 +1 @@
+create index outboxevent_processed_idx on outboxevent (processed_at) where processed_at is not null;
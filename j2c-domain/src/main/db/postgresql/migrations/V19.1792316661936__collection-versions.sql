@@ -0,0 +1,8 @@
+create table collectionversion (
+   id varchar(100) not null,
+   version int8 not null,
+   primary key (id)
+);
+
+drop index productcategory_last_modified_idx;
+drop index producttag_last_modified_idx;
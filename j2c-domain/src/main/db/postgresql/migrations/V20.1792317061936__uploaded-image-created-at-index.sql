@@ -0,0 +1 @@
+create index uploadedimage_created_at_idx on uploadedimage (created_at);
@@ -0,0 +1 @@
+alter table paymentevent alter column payload type text;
@@ -0,0 +1,55 @@
+alter table checkoutline alter column id drop identity if exists;
+create sequence checkoutline_id_seq increment by 50 owned by checkoutline.id;
+select setval('checkoutline_id_seq', coalesce((select max(id) from checkoutline), 0) + 1, false);
+
+alter table "order" alter column id drop identity if exists;
+create sequence order_id_seq increment by 50 owned by "order".id;
+select setval('order_id_seq', coalesce((select max(id) from "order"), 0) + 1, false);
+
+alter table orderfulfillment alter column id drop identity if exists;
+create sequence orderfulfillment_id_seq increment by 50 owned by orderfulfillment.id;
+select setval('orderfulfillment_id_seq', coalesce((select max(id) from orderfulfillment), 0) + 1, false);
+
+alter table orderfulfillmentline alter column id drop identity if exists;
+create sequence orderfulfillmentline_id_seq increment by 50 owned by orderfulfillmentline.id;
+select setval('orderfulfillmentline_id_seq', coalesce((select max(id) from orderfulfillmentline), 0) + 1, false);
+
+alter table orderline alter column id drop identity if exists;
+create sequence orderline_id_seq increment by 50 owned by orderline.id;
+select setval('orderline_id_seq', coalesce((select max(id) from orderline), 0) + 1, false);
+
+alter table product alter column id drop identity if exists;
+create sequence product_id_seq increment by 50 owned by product.id;
+select setval('product_id_seq', coalesce((select max(id) from product), 0) + 1, false);
+
+alter table productcategory alter column id drop identity if exists;
+create sequence productcategory_id_seq increment by 50 owned by productcategory.id;
+select setval('productcategory_id_seq', coalesce((select max(id) from productcategory), 0) + 1, false);
+
+alter table producttag alter column id drop identity if exists;
+create sequence producttag_id_seq increment by 50 owned by producttag.id;
+select setval('producttag_id_seq', coalesce((select max(id) from producttag), 0) + 1, false);
+
+alter table productvariant alter column id drop identity if exists;
+create sequence productvariant_id_seq increment by 50 owned by productvariant.id;
+select setval('productvariant_id_seq', coalesce((select max(id) from productvariant), 0) + 1, false);
+
+alter table productvariantimage alter column id drop identity if exists;
+create sequence productvariantimage_id_seq increment by 50 owned by productvariantimage.id;
+select setval('productvariantimage_id_seq', coalesce((select max(id) from productvariantimage), 0) + 1, false);
+
+alter table shippingmethod alter column id drop identity if exists;
+create sequence shippingmethod_id_seq increment by 50 owned by shippingmethod.id;
+select setval('shippingmethod_id_seq', coalesce((select max(id) from shippingmethod), 0) + 1, false);
+
+alter table shippingzone alter column id drop identity if exists;
+create sequence shippingzone_id_seq increment by 50 owned by shippingzone.id;
+select setval('shippingzone_id_seq', coalesce((select max(id) from shippingzone), 0) + 1, false);
+
+alter table "user" alter column id drop identity if exists;
+create sequence user_id_seq increment by 50 owned by "user".id;
+select setval('user_id_seq', coalesce((select max(id) from "user"), 0) + 1, false);
+
+alter table useraddress alter column id drop identity if exists;
+create sequence useraddress_id_seq increment by 50 owned by useraddress.id;
+select setval('useraddress_id_seq', coalesce((select max(id) from useraddress), 0) + 1, false);
@@ -0,0 +1,5 @@
+alter table product add column last_modified timestamp not null default now();
+
+alter table productcategory add column last_modified timestamp not null default now();
+
+alter table producttag add column last_modified timestamp not null default now();
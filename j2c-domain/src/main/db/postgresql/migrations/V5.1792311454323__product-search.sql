@@ -0,0 +1,12 @@
+create extension if not exists pg_trgm;
+
+alter table product add column search_vector tsvector generated always as (
+   setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+   setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) stored;
+
+create index product_search_vector_idx on product using gin (search_vector);
+
+create index product_name_trgm_idx on product using gin (lower(name) gin_trgm_ops);
+
+create index product_producttag_producttag_id_idx on product_producttag (producttag_id, product_id);
@@ -0,0 +1,38 @@
+create table productcategoryfacet (
+   category_id int8 not null,
+   product_count int8 not null default 0,
+   primary key (category_id)
+);
+
+create table producttagfacet (
+   tag_id int8 not null,
+   product_count int8 not null default 0,
+   primary key (tag_id)
+);
+
+alter table if exists productcategoryfacet
+   add constraint FK_productcategoryfacet_category
+   foreign key (category_id)
+   references productcategory
+   on delete cascade;
+
+alter table if exists producttagfacet
+   add constraint FK_producttagfacet_tag
+   foreign key (tag_id)
+   references producttag
+   on delete cascade;
+
+insert into productcategoryfacet (category_id, product_count)
+select c.id, count(p.id)
+from productcategory c
+left join product p on p.category_id = c.id and p.published
+group by c.id;
+
+insert into producttagfacet (tag_id, product_count)
+select t.id, count(p.id)
+from producttag t
+left join product_producttag a on a.producttag_id = t.id
+left join product p on p.id = a.product_id and p.published
+group by t.id;
+
+create index productcategory_root_id_lft_rgt_idx on productcategory (root_id, lft, rgt);
@@ -0,0 +1,16 @@
+alter table productcategory alter column lft type int8;
+
+alter table productcategory alter column rgt type int8;
+
+alter table productcategory add column next_lft int8;
+
+-- spread every tree over the whole interval of a root, so that existing categories get free space
+update productcategory c
+set lft = c.lft * r.scale, rgt = c.rgt * r.scale
+from (select id, 4611686018427387904 / rgt as scale from productcategory where root_id is null) r
+where coalesce(c.root_id, c.id) = r.id;
+
+update productcategory c
+set next_lft = coalesce((select max(s.rgt) from productcategory s where s.parent_id = c.id), c.lft) + 1;
+
+alter table productcategory alter column next_lft set not null;
@@ -0,0 +1,22 @@
+create table paymentevent (
+   id varchar(250) not null,
+   created_at timestamp not null,
+   type varchar(20) not null,
+   payment_id varchar(250),
+   amount int8,
+   payment_method_id varchar(250),
+   payload varchar(65536) not null,
+   attempts int4 not null default 0,
+   processed_at timestamp,
+   primary key (id)
+);
+
+create index paymentevent_pending_idx on paymentevent (created_at) where processed_at is null;
+
+alter table if exists checkout
+   add column payment_authorized_amount int8,
+   add column payment_method_id varchar(250);
+
+create index checkout_payment_id_idx on checkout (payment_id);
+
+create index order_payment_id_idx on "order" (payment_id);
@@ -0,0 +1,3 @@
+alter table if exists checkout
+   add column payment_amount int8,
+   add column payment_sync_version int4 not null default 0;
@@ -5,6 +5,9 @@ import javax.persistence.PersistenceUtil;
 
 abstract class BaseEntity<ID> implements Entity<ID> {
 
+    // must match the 'increment by' of the id sequences
+    static final int ID_ALLOCATION_SIZE = 50;
+
     protected boolean isLoaded(final Object obj) {
         final PersistenceUtil persistenceUtil = Persistence.getPersistenceUtil();
         return persistenceUtil.isLoaded(obj);
@@ -51,6 +51,11 @@ public class Checkout extends OnUpdateAuditedEntity<Long> {
     @Embedded
     private PaymentDetails paymentDetails;
 
+    // incremented whenever a sync of the payment amount starts, a sync that is not the latest one is discarded
+    @Getter
+    @Column(name = "payment_sync_version", nullable = false)
+    private int paymentSyncVersion;
+
     @Getter
     @Column(name = "ip_address", nullable = false, updatable = false,
             length = IPADDRESS_MAXLENGTH)
@@ -160,15 +165,86 @@ public class Checkout extends OnUpdateAuditedEntity<Long> {
     }
 
     public void setPayment(final Payment payment) {
+        setPayment(payment, null);
+    }
+
+    /**
+     * @param amount the amount the payment was created with, {@code null} if unknown
+     */
+    public void setPayment(final Payment payment, final Long amount) {
         if (payment == null) {
             throw new IllegalArgumentException("payment must not be null");
         }
         paymentDetails = PaymentDetails.builder()
                 .id(payment.getId())
                 .token(payment.getToken())
+                .amount(amount)
+                .build();
+    }
+
+    /**
+     * Whether the amount of the payment on the gateway is the current total price.
+     */
+    public boolean isPaymentSynced() {
+        return paymentDetails != null && getTotalPrice().equals(paymentDetails.getAmount());
+    }
+
+    /**
+     * Starts a sync of the payment amount and returns its version, to be passed to {@link #completePaymentSync}.
+     */
+    public int startPaymentSync() {
+        if (paymentDetails == null) {
+            throw new DomainException(String.format(CHECKOUT_NO_PAYMENT, id), this);
+        }
+        return ++paymentSyncVersion;
+    }
+
+    /**
+     * Records the amount the payment was updated with, unless another sync started in the meantime.
+     * In that case the amount on the gateway is whichever update landed last, so it is recorded as unknown.
+     * @return whether the sync was the latest one
+     */
+    public boolean completePaymentSync(final int version, final Long amount) {
+        if (paymentDetails == null) {
+            throw new DomainException(String.format(CHECKOUT_NO_PAYMENT, id), this);
+        }
+        final boolean latest = version == paymentSyncVersion;
+        paymentDetails = paymentDetails.toBuilder()
+                .amount(latest ? assertNotNull(amount, "amount") : null)
+                .build();
+        return latest;
+    }
+
+    public void authorizePayment(final Long amount, final String paymentMethodId) {
+        if (paymentDetails == null) {
+            throw new DomainException(String.format(CHECKOUT_NO_PAYMENT, id), this);
+        }
+        paymentDetails = paymentDetails.toBuilder()
+                .authorizedAmount(assertNotNull(amount, "amount"))
+                .paymentMethodId(paymentMethodId)
                 .build();
     }
 
+    public void revokePaymentAuthorization() {
+        if (paymentDetails != null) {
+            paymentDetails = paymentDetails.toBuilder()
+                    .authorizedAmount(null)
+                    .paymentMethodId(null)
+                    .build();
+        }
+    }
+
+    /**
+     * Whether the gateway reported the payment as authorized for the current total,
+     * an authorization for a previous total does not count.
+     */
+    public boolean isPaymentAuthorized() {
+        if (paymentDetails == null || paymentDetails.getAuthorizedAmount() == null) {
+            return false;
+        }
+        return paymentDetails.getAuthorizedAmount().equals(getTotalPrice());
+    }
+
     public void addShippingAddress(final Address newShippingAddress) {
         setShippingAddress(newShippingAddress);
         shippingAddressCreated = true;
@@ -215,6 +291,10 @@ public class Checkout extends OnUpdateAuditedEntity<Long> {
                 .build();
     }
 
+    public void removeShippingMethod() {
+        shippingMethodDetails = null;
+    }
+
     public void useSingleAddress(final boolean usa) {
         if (usa) {
             if (shippingAddress != null) {
@@ -243,9 +323,9 @@ public class Checkout extends OnUpdateAuditedEntity<Long> {
                 .checkout(this)
                 .capturedAmount(payment.getCapturedAmount())
                 .build();
+        lines.forEach(CheckoutLine::commitReservation);
         saveCustomerAddressesIfWanted();
         savePaymentMethodAsDefaultIfWanted(payment);
-        payment.capture();
         return order;
     }
 
@@ -424,10 +504,15 @@ public class Checkout extends OnUpdateAuditedEntity<Long> {
         @Getter
         private final int quantity;
 
+        // whether the quantity was reserved from the stock of the variant
+        @Getter
+        private final boolean reserved;
+
         @Builder
         private PreCheckoutLine(
                 final ProductVariant variant,
-                final int quantity
+                final int quantity,
+                final boolean reserved
         ) {
             if (variant == null) {
                 throw new IllegalArgumentException("variant must not be null");
@@ -436,6 +521,7 @@ public class Checkout extends OnUpdateAuditedEntity<Long> {
             }
             this.quantity = quantity;
             this.variant = variant;
+            this.reserved = reserved;
         }
 
         public Long price() {
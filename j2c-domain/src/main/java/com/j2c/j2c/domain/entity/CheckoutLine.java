@@ -23,7 +23,9 @@ public class CheckoutLine extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "checkoutline_id_seq")
+    @SequenceGenerator(name = "checkoutline_id_seq", sequenceName = "checkoutline_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -62,6 +64,11 @@ public class CheckoutLine extends BaseEntity<Long> {
     @Column(name = "shipping_required", nullable = false, updatable = false)
     private boolean shippingRequired;
 
+    // the variant whose stock holds units for the line until the checkout is completed, cancelled or expires
+    @Getter
+    @Column(name = "reserved_variant_id")
+    private Long reservedVariantId;
+
     @SuppressWarnings("unused")
     CheckoutLine() {}
 
@@ -78,6 +85,20 @@ public class CheckoutLine extends BaseEntity<Long> {
         this.unitPriceAmount = preCheckoutLine.getVariant().getEffectivePrice();
         this.quantity = preCheckoutLine.getQuantity();
         this.shippingRequired = preCheckoutLine.requiresShipping();
+        if (preCheckoutLine.isReserved()) {
+            this.reservedVariantId = preCheckoutLine.getVariant().getId();
+        }
+    }
+
+    public boolean isReserved() {
+        return reservedVariantId != null;
+    }
+
+    /**
+     * Marks the reserved units as sold, so that they are no longer given back to the stock of the variant.
+     */
+    void commitReservation() {
+        reservedVariantId = null;
     }
 
     public CheckoutLine verifyBelongsToCheckout(final Checkout checkout) {
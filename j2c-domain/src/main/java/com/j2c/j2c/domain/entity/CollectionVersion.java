@@ -0,0 +1,34 @@
+package com.j2c.j2c.domain.entity;
+
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import static com.j2c.j2c.domain.entity.MaxLengths.COLLECTIONVERSION_ID_MAXLENGTH;
+
+/**
+ * The version of a collection of entities, identified by the simple name of their class, that is incremented
+ * whenever an entity is added to, modified in or removed from the collection.
+ * It lets a conditional request for the collection be answered without reading the collection.
+ * Rows are created on demand when a collection first changes, see {@code CollectionVersionRepository#increment}.
+ */
+@javax.persistence.Entity
+@Table(name = "collectionversion")
+public class CollectionVersion extends BaseEntity<String> {
+
+    @Id
+    @Getter
+    @Column(name = "id",
+            length = COLLECTIONVERSION_ID_MAXLENGTH)
+    private String id;
+
+    @Getter
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @SuppressWarnings("unused")
+    CollectionVersion() {}
+
+}
@@ -4,6 +4,8 @@ import com.j2c.j2c.domain.enums.MassUnit;
 import com.j2c.j2c.domain.enums.Profile;
 import com.neovisionaries.i18n.CurrencyCode;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
@@ -11,6 +13,8 @@ import static com.j2c.j2c.domain.entity.MaxLengths.*;
 import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
 
 @javax.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "configuration")
 public class Configuration extends BaseEntity<Long> {
 
@@ -0,0 +1,90 @@
+package com.j2c.j2c.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+
+import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+
+/**
+ * A share of the units of a variant that are available for sale.
+ * The stock of a variant is split over {@link #STRIPES} rows, so that concurrent checkouts of the same variant
+ * take their units from different rows instead of queueing up on the lock of a single one.
+ * A variant without stripes is not tracked and can be sold in unlimited quantities.
+ */
+@javax.persistence.Entity
+@Table(name = "inventorystripe",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"variant_id", "stripe"})
+)
+public class InventoryStripe extends BaseEntity<Long> {
+
+    public static final int STRIPES = 8;
+
+    @Id
+    @Getter
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventorystripe_id_seq")
+    @SequenceGenerator(name = "inventorystripe_id_seq", sequenceName = "inventorystripe_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
+    @Column(name = "id")
+    private Long id;
+
+    @Getter
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "variant_id", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.CONSTRAINT))
+    private ProductVariant variant;
+
+    @Getter
+    @Column(name = "stripe", nullable = false, updatable = false)
+    private int stripe;
+
+    @Getter
+    @Column(name = "available", nullable = false)
+    private int available;
+
+    @SuppressWarnings("unused")
+    InventoryStripe() {}
+
+    @Builder
+    private InventoryStripe(
+            final ProductVariant variant,
+            final int stripe,
+            final int available
+    ) {
+        this.variant = assertNotNull(variant, "variant");
+        if (stripe < 0 || stripe >= STRIPES) {
+            throw new IllegalArgumentException("stripe must be between 0 and " + (STRIPES - 1));
+        }
+        this.stripe = stripe;
+        setAvailable(available);
+    }
+
+    public void setAvailable(final int available) {
+        if (available < 0) {
+            throw new IllegalArgumentException("available must not be negative");
+        }
+        this.available = available;
+    }
+
+    /**
+     * Takes up to {@code quantity} units from the stripe.
+     * @return the number of units taken
+     */
+    public int take(final int quantity) {
+        final int taken = Math.max(Math.min(quantity, available), 0);
+        available -= taken;
+        return taken;
+    }
+
+    /**
+     * The share of {@code quantity} units that stripe {@code stripe} holds when they are spread over all stripes.
+     */
+    public static int share(final int quantity, final int stripe) {
+        return quantity / STRIPES + (stripe < quantity % STRIPES ? 1 : 0);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.j2c.j2c.domain.entity;
+
+import lombok.Getter;
+
+import javax.persistence.Column;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+import static com.j2c.j2c.domain.entity.MaxLengths.*;
+import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+
+/**
+ * The lease of a periodic job, identified by the name of the job, that lets only one node run the job at a time.
+ * The lease is held by its owner until {@code leasedUntil}, afterwards any node may take it, so that a job
+ * whose node stopped while running it is resumed elsewhere. A released lease has no owner, but is still
+ * not taken before {@code leasedUntil}, the time the job is due again.
+ * Rows are created on demand when a job first takes its lease, see {@code JobLeaseRepository#createIfAbsent}.
+ */
+@javax.persistence.Entity
+@Table(name = "joblease")
+public class JobLease extends BaseEntity<String> {
+
+    @Id
+    @Getter
+    @Column(name = "id",
+            length = JOBLEASE_ID_MAXLENGTH)
+    private String id;
+
+    @Getter
+    @Column(name = "owner",
+            length = JOBLEASE_OWNER_MAXLENGTH)
+    private String owner;
+
+    @Getter
+    @Column(name = "leased_until", nullable = false)
+    private LocalDateTime leasedUntil;
+
+    // where the next run of the job resumes, null if it starts from the beginning
+    @Getter
+    @Column(name = "checkpoint",
+            length = JOBLEASE_CHECKPOINT_MAXLENGTH)
+    private String checkpoint;
+
+    @SuppressWarnings("unused")
+    JobLease() {}
+
+    public boolean isHeldBy(final String owner) {
+        return this.owner != null && this.owner.equals(owner);
+    }
+
+    public boolean isAvailableTo(final String owner, final LocalDateTime now) {
+        return isHeldBy(owner) || !leasedUntil.isAfter(now);
+    }
+
+    public void acquire(final String owner, final LocalDateTime until) {
+        this.owner = assertNotNull(owner, "owner");
+        this.leasedUntil = assertNotNull(until, "until");
+    }
+
+    public void renew(final String checkpoint, final LocalDateTime until) {
+        this.checkpoint = checkpoint;
+        this.leasedUntil = assertNotNull(until, "until");
+    }
+
+    /**
+     * Gives up the lease, no node takes it before {@code until}.
+     */
+    public void release(final String checkpoint, final LocalDateTime until) {
+        this.owner = null;
+        this.checkpoint = checkpoint;
+        this.leasedUntil = assertNotNull(until, "until");
+    }
+
+}
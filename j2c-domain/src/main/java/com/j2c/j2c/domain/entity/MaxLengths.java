@@ -14,6 +14,14 @@ public final class MaxLengths {
     public static final int ORDERFULFILLMENT_TRACKINGNUMBER_MAXLENGTH = 50;
     public static final int PAYMENT_ID_MAXLENGTH = 250;
     public static final int PAYMENT_TOKEN_MAXLENGTH = 250;
+    public static final int PAYMENTEVENT_ID_MAXLENGTH = 250;
+    public static final int PAYMENTEVENT_TYPE_MAXLENGTH = 20;
+    public static final int OUTBOXEVENT_TYPE_MAXLENGTH = 100;
+    public static final int OUTBOXEVENT_PAYLOAD_MAXLENGTH = 65536;
+    public static final int JOBLEASE_ID_MAXLENGTH = 100;
+    public static final int JOBLEASE_OWNER_MAXLENGTH = 250;
+    public static final int JOBLEASE_CHECKPOINT_MAXLENGTH = 1000;
+    public static final int COLLECTIONVERSION_ID_MAXLENGTH = 100;
     public static final int ROLE_TYPE_MAXLENGTH = 20;
     public static final int USER_PASSWORD_MAXLENGTH = 150;
     public static final int USER_EXTERNALID_MAXLENGTH = 150;
@@ -25,7 +25,9 @@ public class Order extends OnUpdateAuditedEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_id_seq")
+    @SequenceGenerator(name = "order_id_seq", sequenceName = "order_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -23,7 +23,9 @@ public class OrderFulfillment extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderfulfillment_id_seq")
+    @SequenceGenerator(name = "orderfulfillment_id_seq", sequenceName = "orderfulfillment_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -21,7 +21,9 @@ public class OrderFulfillmentLine extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderfulfillmentline_id_seq")
+    @SequenceGenerator(name = "orderfulfillmentline_id_seq", sequenceName = "orderfulfillmentline_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -23,7 +23,9 @@ public class OrderLine extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderline_id_seq")
+    @SequenceGenerator(name = "orderline_id_seq", sequenceName = "orderline_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
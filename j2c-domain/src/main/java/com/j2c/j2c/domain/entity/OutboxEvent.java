@@ -0,0 +1,83 @@
+package com.j2c.j2c.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.j2c.j2c.domain.entity.MaxLengths.OUTBOXEVENT_PAYLOAD_MAXLENGTH;
+import static com.j2c.j2c.domain.entity.MaxLengths.OUTBOXEVENT_TYPE_MAXLENGTH;
+import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+import static java.time.LocalDateTime.now;
+
+/**
+ * An event that is stored in the transaction of the change it is about and delivered to its handler
+ * once that transaction has committed, until the handler succeeds.
+ * Its id is the idempotency key of the event, it is the same for every delivery.
+ */
+@javax.persistence.Entity
+@Table(name = "outboxevent")
+public class OutboxEvent extends OnCreateAuditedEntity<UUID> {
+
+    @Id
+    @Getter
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "id")
+    private UUID id;
+
+    @Getter
+    @Column(name = "type", nullable = false, updatable = false,
+            length = OUTBOXEVENT_TYPE_MAXLENGTH)
+    private String type;
+
+    @Getter
+    @Column(name = "payload", nullable = false, updatable = false,
+            length = OUTBOXEVENT_PAYLOAD_MAXLENGTH)
+    private String payload;
+
+    @Getter
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // the event is not delivered before this time, it is pushed back while a delivery is under way
+    @Getter
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Getter
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @SuppressWarnings("unused")
+    OutboxEvent() {}
+
+    @Builder
+    private OutboxEvent(final String type, final String payload) {
+        this.type = assertNotNull(type, "type");
+        this.payload = assertNotNull(payload, "payload");
+        this.availableAt = now();
+    }
+
+    public boolean isProcessed() {
+        return processedAt != null;
+    }
+
+    /**
+     * Keeps the event from being delivered again until {@code until}, while it is being delivered.
+     */
+    public void claim(final LocalDateTime until) {
+        this.availableAt = assertNotNull(until, "until");
+    }
+
+    public void markProcessed() {
+        processedAt = now();
+    }
+
+    public void recordFailedAttempt(final LocalDateTime retryAt) {
+        attempts++;
+        availableAt = assertNotNull(retryAt, "retryAt");
+    }
+
+}
@@ -24,16 +24,36 @@ public class PaymentDetails {
             length = PAYMENT_TOKEN_MAXLENGTH)
     private String token;
 
+    // the amount the payment was created or last updated with on the gateway
+    @Getter
+    @Column(name = "payment_amount")
+    private Long amount;
+
+    @Getter
+    @Column(name = "payment_authorized_amount")
+    private Long authorizedAmount;
+
+    @Getter
+    @Column(name = "payment_method_id",
+            length = PAYMENT_ID_MAXLENGTH)
+    private String paymentMethodId;
+
     @SuppressWarnings("unused")
     PaymentDetails() {}
 
-    @Builder(access = AccessLevel.PACKAGE)
+    @Builder(access = AccessLevel.PACKAGE, toBuilder = true)
     private PaymentDetails(
             final String id,
-            final String token
+            final String token,
+            final Long amount,
+            final Long authorizedAmount,
+            final String paymentMethodId
     ) {
         this.id = assertNotNull(id, "id");
         this.token = assertNotNull(token, "token");
+        this.amount = amount;
+        this.authorizedAmount = authorizedAmount;
+        this.paymentMethodId = paymentMethodId;
     }
 
     @Override
@@ -41,6 +61,9 @@ public class PaymentDetails {
         return "PaymentDetails(" +
                 "id='" + id + '\'' +
                 ", token='" + token + '\'' +
+                ", amount=" + amount +
+                ", authorizedAmount=" + authorizedAmount +
+                ", paymentMethodId='" + paymentMethodId + '\'' +
                 ')';
     }
 
@@ -0,0 +1,110 @@
+package com.j2c.j2c.domain.entity;
+
+import com.j2c.j2c.domain.enums.PaymentEventType;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static com.j2c.j2c.domain.entity.MaxLengths.*;
+import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+import static java.time.LocalDateTime.now;
+
+/**
+ * An event received from the payment gateway, identified by the id the gateway gave it,
+ * so that a redelivered event is recognized and never applied twice.
+ */
+@javax.persistence.Entity
+@Table(name = "paymentevent")
+public class PaymentEvent extends OnCreateAuditedEntity<String> implements Persistable<String> {
+
+    @Id
+    @Getter
+    @Column(name = "id",
+            length = PAYMENTEVENT_ID_MAXLENGTH)
+    private String id;
+
+    @Getter
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, updatable = false,
+            length = PAYMENTEVENT_TYPE_MAXLENGTH)
+    private PaymentEventType type;
+
+    @Getter
+    @Column(name = "payment_id", updatable = false,
+            length = PAYMENT_ID_MAXLENGTH)
+    private String paymentId;
+
+    @Getter
+    @Column(name = "amount", updatable = false)
+    private Long amount;
+
+    @Getter
+    @Column(name = "payment_method_id", updatable = false,
+            length = PAYMENT_ID_MAXLENGTH)
+    private String paymentMethodId;
+
+    // stored unbounded, the gateway decides how large an event is and an event that cannot be stored is redelivered forever
+    @Getter
+    @Column(name = "payload", nullable = false, updatable = false,
+            columnDefinition = "text")
+    private String payload;
+
+    @Getter
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Getter
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // ids are assigned by the gateway, so whether the event is new cannot be told from the id
+    @Transient
+    private boolean stored;
+
+    @SuppressWarnings("unused")
+    PaymentEvent() {}
+
+    @Builder
+    private PaymentEvent(
+            final String id,
+            final PaymentEventType type,
+            final String paymentId,
+            final Long amount,
+            final String paymentMethodId,
+            final String payload
+    ) {
+        this.id = assertNotNull(id, "id");
+        this.type = assertNotNull(type, "type");
+        this.payload = assertNotNull(payload, "payload");
+        this.paymentId = paymentId;
+        this.amount = amount;
+        this.paymentMethodId = paymentMethodId;
+    }
+
+    public boolean isProcessed() {
+        return processedAt != null;
+    }
+
+    public void markProcessed() {
+        processedAt = now();
+    }
+
+    public void recordFailedAttempt() {
+        attempts++;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !stored;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        stored = true;
+    }
+
+}
@@ -22,7 +22,9 @@ public class Product extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_id_seq")
+    @SequenceGenerator(name = "product_id_seq", sequenceName = "product_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -57,6 +59,10 @@ public class Product extends BaseEntity<Long> {
     @Column(name = "last_unpublished")
     private LocalDateTime lastUnpublished;
 
+    @Getter
+    @Column(name = "last_modified", nullable = false)
+    private LocalDateTime lastModified = now();
+
     @Getter
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "default_variant_id",
@@ -184,6 +190,11 @@ public class Product extends BaseEntity<Long> {
         }
     }
 
+    @PreUpdate
+    public void markAsModified() {
+        lastModified = now();
+    }
+
     private boolean xMinutesHavePassedSinceLastUnpublish() {
         if (lastUnpublished == null) {
             return true;
@@ -1,22 +1,47 @@
 package com.j2c.j2c.domain.entity;
 
+import com.j2c.j2c.domain.exception.DomainException;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.j2c.j2c.domain.entity.MaxLengths.*;
+import static com.j2c.j2c.domain.exception.DomainErrorMessages.CATEGORY_TREE_FULL;
 import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+import static java.time.LocalDateTime.now;
 
 @javax.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "productcategory")
 public class ProductCategory extends BaseEntity<Long> {
 
+    /*
+     * The tree is stored as nested intervals: every category owns the interval [left, right] of its root's tree,
+     * and the intervals of its sub categories are carved out of it, starting from nextSubCategoryLeft.
+     * Since intervals are wide, adding a sub category only writes the new category and its parent,
+     * until the parent runs out of space and the tree has to be rebalanced.
+     * Since a sub category takes 1/32 of the space left in its parent, a category runs out after about 1,260 sub
+     * categories, and a chain of categories after about 12 levels, on a fresh tree. Rebalancing makes room for any
+     * number of sub categories, but halves the space at every level, so no tree can be deeper than about 60 levels.
+     */
+    public static final long ROOT_LEFT = 1L;
+    public static final long ROOT_RIGHT = 1L << 62;
+
+    // a new sub category takes this fraction of the space left in its parent
+    private static final long SUBCATEGORY_SHARE = 32L;
+
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productcategory_id_seq")
+    @SequenceGenerator(name = "productcategory_id_seq", sequenceName = "productcategory_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -48,12 +73,21 @@ public class ProductCategory extends BaseEntity<Long> {
 
     @Getter
     @Column(name = "lft", nullable = false)
-    private int left = 1;
+    private long left = ROOT_LEFT;
 
     @Getter
     @Column(name = "rgt", nullable = false)
-    private int right = 2;
+    private long right = ROOT_RIGHT;
+
+    @Getter
+    @Column(name = "next_lft", nullable = false)
+    private long nextSubCategoryLeft = ROOT_LEFT + 1;
 
+    @Getter
+    @Column(name = "last_modified", nullable = false)
+    private LocalDateTime lastModified = now();
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(fetch = FetchType.LAZY,
             mappedBy = "parent", orphanRemoval = true)
     private List<ProductCategory> subCategories;
@@ -85,14 +119,36 @@ public class ProductCategory extends BaseEntity<Long> {
                 .description(description)
                 .imageFilename(imageFilename)
                 .build();
+        if (!hasSpaceForSubCategory()) {
+            throw new DomainException(String.format(CATEGORY_TREE_FULL, id), this);
+        }
+        final long space = right - nextSubCategoryLeft;
+        final long size = Math.max(space / SUBCATEGORY_SHARE, Math.min(space, 2L));
         subCategory.root = getRootForNewSubCategory();
         subCategory.parent = this;
-        subCategory.left = right;
-        subCategory.right = right + 1;
-        right += 2;
+        subCategory.left = nextSubCategoryLeft;
+        subCategory.right = nextSubCategoryLeft + size - 1;
+        subCategory.nextSubCategoryLeft = subCategory.left + 1;
+        nextSubCategoryLeft += size;
         return subCategory;
     }
 
+    public boolean hasSpaceForSubCategory() {
+        return right - nextSubCategoryLeft >= 2;
+    }
+
+    /**
+     * Moves the category to a new interval, only meant to be used when rebalancing the whole tree.
+     */
+    public void renumber(final long left, final long right, final long nextSubCategoryLeft) {
+        if (left >= right || nextSubCategoryLeft <= left || nextSubCategoryLeft > right) {
+            throw new IllegalArgumentException("invalid interval");
+        }
+        this.left = left;
+        this.right = right;
+        this.nextSubCategoryLeft = nextSubCategoryLeft;
+    }
+
     public void setImageFilename(final String imageFilename) {
         this.imageFilename = imageFilename;
     }
@@ -112,6 +168,11 @@ public class ProductCategory extends BaseEntity<Long> {
         this.name = assertNotNull(name, "name");
     }
 
+    @PreUpdate
+    protected void markAsModified() {
+        lastModified = now();
+    }
+
     private ProductCategory getRootForNewSubCategory() {
         if (isRootCategory()) {
             return this;
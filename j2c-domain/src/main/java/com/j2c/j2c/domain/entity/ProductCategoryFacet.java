@@ -0,0 +1,35 @@
+package com.j2c.j2c.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.persistence.*;
+
+import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+
+/**
+ * Number of published products directly in the category, kept apart from {@link ProductCategory}
+ * so that maintaining it does not invalidate the cached category.
+ */
+@javax.persistence.Entity
+@Table(name = "productcategoryfacet")
+public class ProductCategoryFacet extends BaseEntity<Long> {
+
+    @Id
+    @Getter
+    @Column(name = "category_id")
+    private Long id;
+
+    @Getter
+    @Column(name = "product_count", nullable = false, updatable = false)
+    private long productCount;
+
+    @SuppressWarnings("unused")
+    ProductCategoryFacet() {}
+
+    @Builder
+    private ProductCategoryFacet(final ProductCategory category) {
+        this.id = assertNotNull(assertNotNull(category, "category").getId(), "category.id");
+    }
+
+}
@@ -2,20 +2,28 @@ package com.j2c.j2c.domain.entity;
 
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.Set;
 
 import static com.j2c.j2c.domain.entity.MaxLengths.PRODUCTCATEGORY_NAME_MAXLENGTH;
 import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+import static java.time.LocalDateTime.now;
 
 @javax.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "producttag")
 public class ProductTag extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "producttag_id_seq")
+    @SequenceGenerator(name = "producttag_id_seq", sequenceName = "producttag_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -24,6 +32,10 @@ public class ProductTag extends BaseEntity<Long> {
             length = PRODUCTCATEGORY_NAME_MAXLENGTH)
     private String name;
 
+    @Getter
+    @Column(name = "last_modified", nullable = false)
+    private LocalDateTime lastModified = now();
+
     @OneToMany(fetch = FetchType.LAZY,
             mappedBy = "tag", orphanRemoval = true)
     private Set<ProductToTagAssociation> productAssociations;
@@ -40,4 +52,9 @@ public class ProductTag extends BaseEntity<Long> {
         this.name = assertNotNull(name, "name");
     }
 
+    @PreUpdate
+    protected void markAsModified() {
+        lastModified = now();
+    }
+
 }
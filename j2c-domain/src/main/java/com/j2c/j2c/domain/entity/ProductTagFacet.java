@@ -0,0 +1,35 @@
+package com.j2c.j2c.domain.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import javax.persistence.*;
+
+import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
+
+/**
+ * Number of published products with the tag, kept apart from {@link ProductTag}
+ * so that maintaining it does not invalidate the cached tag.
+ */
+@javax.persistence.Entity
+@Table(name = "producttagfacet")
+public class ProductTagFacet extends BaseEntity<Long> {
+
+    @Id
+    @Getter
+    @Column(name = "tag_id")
+    private Long id;
+
+    @Getter
+    @Column(name = "product_count", nullable = false, updatable = false)
+    private long productCount;
+
+    @SuppressWarnings("unused")
+    ProductTagFacet() {}
+
+    @Builder
+    private ProductTagFacet(final ProductTag tag) {
+        this.id = assertNotNull(assertNotNull(tag, "tag").getId(), "tag.id");
+    }
+
+}
@@ -22,7 +22,9 @@ public class ProductVariant extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productvariant_id_seq")
+    @SequenceGenerator(name = "productvariant_id_seq", sequenceName = "productvariant_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -18,7 +18,9 @@ public class ProductVariantImage extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productvariantimage_id_seq")
+    @SequenceGenerator(name = "productvariantimage_id_seq", sequenceName = "productvariantimage_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
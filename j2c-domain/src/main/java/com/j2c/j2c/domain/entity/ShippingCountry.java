@@ -3,6 +3,8 @@ package com.j2c.j2c.domain.entity;
 import com.j2c.j2c.domain.exception.DomainException;
 import com.neovisionaries.i18n.CountryCode;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.Objects;
@@ -11,6 +13,8 @@ import static com.j2c.j2c.domain.entity.MaxLengths.COUNTRY_CODE_MAXLENGTH;
 import static com.j2c.j2c.domain.exception.DomainErrorMessages.COUNTRY_ALREADY_BELONGS_TO_ZONE;
 
 @javax.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "shippingcountry",
         indexes = @Index(columnList = "zone_id")
 )
@@ -5,6 +5,8 @@ import com.j2c.j2c.domain.exception.DomainException;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
@@ -16,12 +18,16 @@ import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 
 @javax.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "shippingmethod")
 public class ShippingMethod extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shippingmethod_id_seq")
+    @SequenceGenerator(name = "shippingmethod_id_seq", sequenceName = "shippingmethod_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
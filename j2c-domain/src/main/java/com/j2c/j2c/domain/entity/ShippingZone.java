@@ -3,6 +3,8 @@ package com.j2c.j2c.domain.entity;
 import com.neovisionaries.i18n.CountryCode;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -15,12 +17,16 @@ import static com.j2c.j2c.domain.entity.MaxLengths.SHIPPINGZONE_NAME_MAXLENGTH;
 import static com.j2c.j2c.domain.util.J2cUtils.assertNotNull;
 
 @javax.persistence.Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "shippingzone")
 public class ShippingZone extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shippingzone_id_seq")
+    @SequenceGenerator(name = "shippingzone_id_seq", sequenceName = "shippingzone_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -29,11 +35,13 @@ public class ShippingZone extends BaseEntity<Long> {
             length = SHIPPINGZONE_NAME_MAXLENGTH)
     private String name;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "zone",
             cascade = {CascadeType.PERSIST, CascadeType.MERGE,
                     CascadeType.REFRESH, CascadeType.DETACH})
     private List<ShippingCountry> countries = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(fetch = FetchType.LAZY,
             mappedBy = "zone", orphanRemoval = true)
     private List<ShippingMethod> methods;
@@ -17,7 +17,9 @@ public class UserAddress extends BaseEntity<Long> {
 
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "useraddress_id_seq")
+    @SequenceGenerator(name = "useraddress_id_seq", sequenceName = "useraddress_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,7 @@
+package com.j2c.j2c.domain.enums;
+
+public enum PaymentEventType {
+    AUTHORIZED,
+    FAILED,
+    CANCELED
+}
@@ -42,7 +42,9 @@ public final class DomainErrorMessages {
     public static final String CHECKOUT_INVALID_SHIPPINGMETHOD = "The shipping method with id '%s' cannot be applied to the checkout with id '%s'";
     public static final String CHECKOUT_WRONG_PAYMENT = "Attempting to complete checkout with payment with id '%s' when '%s' should be used instead";
     public static final String CHECKOUT_MISSING_DETAILS = "The checkout with id '%s' cannot be completed because it is missing the following details: %s";
+    public static final String CHECKOUT_NO_PAYMENT = "The checkout with id '%s' has no payment";
     public static final String CHECKOUT_ALREADY_EXISTS = "A checkout for customer with id '%s' already exists";
+    public static final String CATEGORY_TREE_FULL = "The category with id '%s' has no space left for a sub category";
     public static final String VALID_USER_EMAIL_BUT_NULL_PASSWORD = "Cannot set the email of user with id '%s' if their password is null";
 
     private DomainErrorMessages() {}
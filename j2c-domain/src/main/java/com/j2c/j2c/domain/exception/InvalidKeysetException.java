@@ -0,0 +1,15 @@
+package com.j2c.j2c.domain.exception;
+
+import com.j2c.j2c.domain.entity.Entity;
+
+public class InvalidKeysetException extends RepositoryException {
+
+    public InvalidKeysetException(final String message, final Class<? extends Entity<?>> type) {
+        super(message, type);
+    }
+
+    public InvalidKeysetException(final String message, final Class<? extends Entity<?>> type, final Throwable cause) {
+        super(message, type, cause);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.j2c.j2c.domain.repository;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tells the nodes which entities a transaction changed, by the name of their type and their ids,
+ * so that they can evict them from their local caches.
+ * An empty set of ids stands for all the entities of the type.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ChangeNotice {
+
+    private static final String TYPE_SEPARATOR = ":";
+    private static final String ID_SEPARATOR = ",";
+
+    private final String type;
+
+    private final Set<String> ids;
+
+    public ChangeNotice(@NonNull final String type, @NonNull final Collection<?> ids) {
+        this.type = type;
+        this.ids = ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isAll() {
+        return ids.isEmpty();
+    }
+
+    public Set<Long> getLongIds() {
+        return ids.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @return the notice as {@code type:id,id}, or only the type if the notice is for all entities
+     */
+    public String toPayload() {
+        return isAll() ? type : type + TYPE_SEPARATOR + String.join(ID_SEPARATOR, ids);
+    }
+
+    public static ChangeNotice fromPayload(@NonNull final String payload) {
+        final int separator = payload.indexOf(TYPE_SEPARATOR);
+        if (separator < 0) {
+            return new ChangeNotice(payload, Set.of());
+        }
+        return new ChangeNotice(
+                payload.substring(0, separator),
+                Arrays.asList(payload.substring(separator + 1).split(ID_SEPARATOR))
+        );
+    }
+
+}
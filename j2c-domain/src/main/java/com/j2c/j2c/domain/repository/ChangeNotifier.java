@@ -0,0 +1,83 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.Entity;
+import lombok.NonNull;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Publishes {@link ChangeNotice}s on a PostgreSQL notification channel, so that every node can evict
+ * the changed entities from its local caches.
+ * The notice is published within the current transaction, PostgreSQL only delivers it once the transaction commits
+ * and drops it if the transaction rolls back, so no node evicts before the change is visible or for a change
+ * that never happened.
+ * Nothing is published while invalidation is disabled, e.g. on databases other than PostgreSQL.
+ */
+@Component
+public class ChangeNotifier {
+
+    public static final String CHANNEL = "j2c_change_notices";
+
+    // payloads are limited to 8000 bytes, a notice with too many ids is widened to all entities of its type
+    private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private final EntityManager entityManager;
+    private final boolean enabled;
+
+    protected ChangeNotifier(
+            final EntityManager entityManager,
+            @Value("${j2c.service.cache.invalidation.enabled:true}") final boolean enabled
+    ) {
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Does nothing if there are no ids.
+     */
+    public void publish(@NonNull final Class<? extends Entity<?>> type, @NonNull final Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        publish(new ChangeNotice(type.getSimpleName(), ids));
+    }
+
+    /**
+     * Publishes a notice for a property of entities that is not mapped, e.g. one stored by an external service,
+     * whose type is named like the role of a collection: {@code Owner.property}. Does nothing if there are no ids.
+     */
+    public void publish(
+            @NonNull final Class<? extends Entity<?>> ownerType,
+            @NonNull final String property,
+            @NonNull final Collection<?> ownerIds
+    ) {
+        if (ownerIds.isEmpty()) {
+            return;
+        }
+        publish(new ChangeNotice(ownerType.getSimpleName() + "." + property, ownerIds));
+    }
+
+    private void publish(final ChangeNotice notice) {
+        if (!enabled) {
+            return;
+        }
+        final String fullPayload = notice.toPayload();
+        final String payload = fullPayload.length() <= MAX_PAYLOAD_LENGTH
+                ? fullPayload
+                : new ChangeNotice(notice.getType(), Set.of()).toPayload();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+                statement.setString(1, CHANNEL);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        });
+    }
+
+}
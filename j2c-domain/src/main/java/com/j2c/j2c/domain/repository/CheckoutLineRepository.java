@@ -7,6 +7,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 @Repository
 public class CheckoutLineRepository
         extends BaseRepository<CheckoutLine, Long> {
@@ -22,4 +26,14 @@ public class CheckoutLineRepository
         return repository.findAllByCheckoutId(checkoutId, pageable);
     }
 
+    /**
+     * Finds the lines of the given checkouts that hold units of the stock of their variant.
+     */
+    public List<CheckoutLine> findAllReservedByCheckoutIds(@NonNull final Collection<Long> checkoutIds) {
+        if (checkoutIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return repository.findAllReservedByCheckoutIds(checkoutIds);
+    }
+
 }
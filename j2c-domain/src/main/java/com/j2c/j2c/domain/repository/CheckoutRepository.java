@@ -1,15 +1,61 @@
 package com.j2c.j2c.domain.repository;
 
 import com.j2c.j2c.domain.entity.Checkout;
+import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
+import com.j2c.j2c.domain.repository.spring.CheckoutLineSDJRepository;
 import com.j2c.j2c.domain.repository.spring.CheckoutSDJRepository;
+import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public class CheckoutRepository
         extends BaseRepository<Checkout, Long> {
 
-    protected CheckoutRepository(final CheckoutSDJRepository repository) {
+    private final CheckoutSDJRepository repository;
+    private final CheckoutLineSDJRepository lineRepository;
+
+    protected CheckoutRepository(
+            final CheckoutSDJRepository repository,
+            final CheckoutLineSDJRepository lineRepository
+    ) {
         super(Checkout.class, repository);
+        this.repository = repository;
+        this.lineRepository = lineRepository;
+    }
+
+    public Checkout findByIdForUpdate(@NonNull final Long checkoutId) {
+        return repository.findByIdForUpdate(checkoutId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, checkoutId));
+    }
+
+    public Optional<Checkout> findByPaymentId(@NonNull final String paymentId) {
+        return repository.findByPaymentId(paymentId);
+    }
+
+    /**
+     * Finds and locks the checkouts that have not been changed since the given time, least recently changed first.
+     * Checkouts that are locked by another transaction are skipped.
+     */
+    public List<Checkout> findAllInactiveSinceForUpdate(@NonNull final LocalDateTime before, final int limit) {
+        return repository.findAllInactiveSinceForUpdate(before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Bulk deletes the checkouts with the given ids together with their lines,
+     * the persistence context is cleared afterwards.
+     */
+    public void removeAllByIds(@NonNull final Collection<Long> checkoutIds) {
+        if (checkoutIds.isEmpty()) {
+            return;
+        }
+        lineRepository.deleteAllByCheckoutIds(checkoutIds);
+        repository.deleteAllByIds(checkoutIds);
     }
 
 }
@@ -0,0 +1,39 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.CollectionVersion;
+import com.j2c.j2c.domain.entity.Entity;
+import com.j2c.j2c.domain.repository.spring.CollectionVersionSDJRepository;
+import lombok.NonNull;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CollectionVersionRepository
+        extends BaseRepository<CollectionVersion, String> {
+
+    private final CollectionVersionSDJRepository repository;
+
+    protected CollectionVersionRepository(final CollectionVersionSDJRepository repository) {
+        super(CollectionVersion.class, repository);
+        this.repository = repository;
+    }
+
+    /**
+     * @return the version of the collection of entities of the type, 0 if it has never changed
+     */
+    public long findVersion(@NonNull final Class<? extends Entity<?>> type) {
+        return repository.findVersionById(type.getSimpleName())
+                .orElse(0L);
+    }
+
+    /**
+     * Increments the version of the collection of entities of the type, it must be called in the transaction that
+     * changes the collection. The row of the collection stays locked until that transaction completes,
+     * so concurrent changes of the same collection wait for each other.
+     */
+    public void increment(@NonNull final Class<? extends Entity<?>> type) {
+        final String collection = type.getSimpleName();
+        repository.createIfAbsent(collection);
+        repository.increment(collection);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.j2c.j2c.domain.repository;
+
+import lombok.Getter;
+
+/**
+ * Number of published products that a filter on the given category or tag would return.
+ */
+@Getter
+public class Facet {
+
+    private final Long id;
+
+    private final String name;
+
+    private final long count;
+
+    public Facet(final Long id, final String name, final Long count) {
+        this.id = id;
+        this.name = name;
+        this.count = count != null ? count : 0L;
+    }
+
+}
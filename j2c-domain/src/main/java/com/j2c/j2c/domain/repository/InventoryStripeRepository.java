@@ -0,0 +1,120 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.InventoryStripe;
+import com.j2c.j2c.domain.entity.ProductVariant;
+import com.j2c.j2c.domain.repository.spring.InventoryStripeSDJRepository;
+import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.j2c.j2c.domain.entity.InventoryStripe.STRIPES;
+
+/**
+ * Reserves and releases units of the stock of variants, see {@link InventoryStripe}.
+ * Units are taken from a single stripe that no other transaction holds whenever one has enough of them,
+ * so that checkouts of a hot variant only wait for each other once its stock is nearly sold out.
+ * A transaction that reserves units of several variants must reserve them in the order of the variant ids,
+ * so that two of them never wait for each other's stripes.
+ */
+@Repository
+public class InventoryStripeRepository
+        extends BaseRepository<InventoryStripe, Long> {
+
+    private final InventoryStripeSDJRepository repository;
+
+    protected InventoryStripeRepository(final InventoryStripeSDJRepository repository) {
+        super(InventoryStripe.class, repository);
+        this.repository = repository;
+    }
+
+    /**
+     * Finds the ids of the given variants whose stock is tracked.
+     */
+    public Set<Long> findAllTrackedVariantIds(@NonNull final Collection<Long> variantIds) {
+        if (variantIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return repository.findAllVariantIdsByVariantIdIn(variantIds);
+    }
+
+    public long getAvailable(@NonNull final Long variantId) {
+        return repository.sumAvailableByVariantId(variantId);
+    }
+
+    /**
+     * Takes {@code quantity} units of the stock of the variant, they are held until the transaction ends.
+     * @return whether enough units were available, nothing is taken if not
+     */
+    public boolean reserve(@NonNull final Long variantId, final int quantity) {
+        if (quantity <= 0) {
+            return true;
+        }
+        final List<InventoryStripe> available = repository.findAllAvailableForUpdate(variantId, quantity, PageRequest.of(0, 1));
+        if (!available.isEmpty()) {
+            available.get(0).take(quantity);
+            return true;
+        }
+        // the committed stock is read without waiting for the stripes, a sold out variant is refused right away
+        if (repository.sumAvailableByVariantId(variantId) < quantity) {
+            return false;
+        }
+        final List<InventoryStripe> stripes = repository.findAllByVariantIdForUpdate(variantId);
+        if (stripes.stream().mapToLong(InventoryStripe::getAvailable).sum() < quantity) {
+            return false;
+        }
+        int remaining = quantity;
+        for (final InventoryStripe stripe : stripes) {
+            remaining -= stripe.take(remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Gives {@code quantity} previously reserved units back to the stock of the variant,
+     * the persistence context is cleared afterwards.
+     * Nothing is given back if the variant is no longer tracked.
+     */
+    public void release(@NonNull final Long variantId, final int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        repository.addAvailable(variantId, ThreadLocalRandom.current().nextInt(STRIPES), quantity);
+    }
+
+    /**
+     * Sets the number of units of the variant that are available for sale, spread evenly over its stripes.
+     * The units that are reserved by checkouts at the time are not included, they are given back on top
+     * if their checkouts are cancelled or expire.
+     */
+    public void setAvailable(@NonNull final ProductVariant variant, final int quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("quantity must not be negative");
+        }
+        final List<InventoryStripe> stripes = repository.findAllByVariantIdForUpdate(variant.getId());
+        if (stripes.isEmpty()) {
+            final List<InventoryStripe> created = new ArrayList<>(STRIPES);
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                created.add(
+                        InventoryStripe.builder()
+                                .variant(variant)
+                                .stripe(stripe)
+                                .available(InventoryStripe.share(quantity, stripe))
+                                .build()
+                );
+            }
+            repository.saveAll(created);
+            return;
+        }
+        for (final InventoryStripe stripe : stripes) {
+            stripe.setAvailable(InventoryStripe.share(quantity, stripe.getStripe()));
+        }
+    }
+
+}
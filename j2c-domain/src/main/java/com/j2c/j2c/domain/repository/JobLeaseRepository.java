@@ -0,0 +1,34 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.JobLease;
+import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
+import com.j2c.j2c.domain.repository.spring.JobLeaseSDJRepository;
+import lombok.NonNull;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public class JobLeaseRepository
+        extends BaseRepository<JobLease, String> {
+
+    private final JobLeaseSDJRepository repository;
+
+    protected JobLeaseRepository(final JobLeaseSDJRepository repository) {
+        super(JobLease.class, repository);
+        this.repository = repository;
+    }
+
+    /**
+     * Creates the lease of the job unless it exists, available from {@code now} and without an owner.
+     */
+    public void createIfAbsent(@NonNull final String jobName, @NonNull final LocalDateTime now) {
+        repository.createIfAbsent(jobName, now);
+    }
+
+    public JobLease findByIdForUpdate(@NonNull final String jobName) {
+        return repository.findByIdForUpdate(jobName)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, jobName));
+    }
+
+}
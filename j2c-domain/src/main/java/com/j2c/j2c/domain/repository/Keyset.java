@@ -0,0 +1,30 @@
+package com.j2c.j2c.domain.repository;
+
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position within a collection sorted by a single property, with the id as tie-breaker.
+ * The value and id are those of the last element already seen, and are both null for the first slice.
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Keyset {
+
+    @NonNull
+    private final String property;
+
+    @NonNull
+    private final Sort.Direction direction;
+
+    private final String value;
+
+    private final Long id;
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+}
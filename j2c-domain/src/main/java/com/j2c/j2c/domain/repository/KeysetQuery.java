@@ -0,0 +1,146 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.Entity;
+import com.j2c.j2c.domain.exception.InvalidKeysetException;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import lombok.NonNull;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Fetches slices of a collection by filtering on the sort key of the last element seen,
+ * instead of using an offset, and without counting the elements of the whole collection.
+ * Only non-nullable properties may be used as sort key.
+ */
+final class KeysetQuery<T extends Entity<Long>> {
+
+    private final Class<T> type;
+    private final EntityPathBase<T> root;
+    private final NumberPath<Long> id;
+    private final Map<String, ComparableExpressionBase<?>> keys;
+
+    KeysetQuery(
+            @NonNull final Class<T> type,
+            @NonNull final EntityPathBase<T> root,
+            @NonNull final NumberPath<Long> id,
+            @NonNull final Map<String, ComparableExpressionBase<?>> keys
+    ) {
+        this.type = type;
+        this.root = root;
+        this.id = id;
+        this.keys = keys;
+    }
+
+    KeysetSlice<T> fetch(
+            @NonNull final EntityManager entityManager,
+            final Predicate predicate,
+            @NonNull final Keyset keyset,
+            final int size
+    ) {
+        final ComparableExpressionBase<?> key = getKey(keyset.getProperty());
+        final boolean ascending = keyset.getDirection().isAscending();
+
+        final BooleanBuilder where = new BooleanBuilder(predicate);
+        if (!keyset.isFirst()) {
+            where.and(after(key, ascending, parse(key, keyset), keyset.getId()));
+        }
+
+        final List<Tuple> rows = new JPAQuery<T>(entityManager)
+                .select(root, key, id)
+                .from(root)
+                .where(where)
+                .orderBy(orderBy(key, ascending))
+                .limit(size + 1L)
+                .fetch();
+
+        final boolean hasNext = rows.size() > size;
+        final List<Tuple> content = hasNext ? rows.subList(0, size) : rows;
+        final Keyset next = hasNext ? nextKeyset(keyset, content.get(content.size() - 1), key) : null;
+
+        final List<T> entities = content.stream()
+                .map(row -> row.get(root))
+                .collect(Collectors.toList());
+        return new KeysetSlice<>(entities, next);
+    }
+
+    private ComparableExpressionBase<?> getKey(final String property) {
+        final ComparableExpressionBase<?> key = keys.get(property);
+        if (key == null) {
+            throw new InvalidKeysetException("Cannot sort by property '" + property + "'", type);
+        }
+        return key;
+    }
+
+    private Predicate after(
+            final ComparableExpressionBase<?> key,
+            final boolean ascending,
+            final Object value,
+            final Long lastId
+    ) {
+        final Ops operator = ascending ? Ops.GT : Ops.LT;
+        final Predicate idAfter = Expressions.predicate(operator, id, Expressions.constant(lastId));
+        if (key == id) {
+            return idAfter;
+        }
+        final Predicate keyAfter = Expressions.predicate(operator, key, Expressions.constant(value));
+        final Predicate keyEqual = Expressions.predicate(Ops.EQ, key, Expressions.constant(value));
+        return new BooleanBuilder(keyAfter)
+                .or(new BooleanBuilder(keyEqual).and(idAfter));
+    }
+
+    private OrderSpecifier<?>[] orderBy(final ComparableExpressionBase<?> key, final boolean ascending) {
+        final OrderSpecifier<?> idOrder = ascending ? id.asc() : id.desc();
+        if (key == id) {
+            return new OrderSpecifier<?>[] {idOrder};
+        }
+        final OrderSpecifier<?> keyOrder = ascending ? key.asc() : key.desc();
+        return new OrderSpecifier<?>[] {keyOrder, idOrder};
+    }
+
+    private Keyset nextKeyset(final Keyset keyset, final Tuple last, final ComparableExpressionBase<?> key) {
+        return Keyset.builder()
+                .property(keyset.getProperty())
+                .direction(keyset.getDirection())
+                .value(String.valueOf(last.get(key)))
+                .id(last.get(id))
+                .build();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object parse(final ComparableExpressionBase<?> key, final Keyset keyset) {
+        final Class<?> keyType = key.getType();
+        final String value = keyset.getValue();
+        try {
+            if (value == null) {
+                throw new IllegalArgumentException("value must not be null");
+            } else if (keyType == String.class) {
+                return value;
+            } else if (keyType == Long.class) {
+                return Long.valueOf(value);
+            } else if (keyType == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (keyType == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            } else if (keyType.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) keyType, value);
+            }
+        } catch (final RuntimeException ex) {
+            throw new InvalidKeysetException("Invalid value for property '" + keyset.getProperty() + "'", type, ex);
+        }
+        throw new InvalidKeysetException("Cannot sort by property '" + keyset.getProperty() + "'", type);
+    }
+
+}
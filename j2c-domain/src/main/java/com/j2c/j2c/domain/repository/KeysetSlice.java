@@ -0,0 +1,22 @@
+package com.j2c.j2c.domain.repository;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class KeysetSlice<T> {
+
+    private final List<T> content;
+
+    // null when there are no more elements after this slice
+    private final Keyset next;
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.ProductCategory;
+import com.j2c.j2c.domain.exception.DomainException;
+
+import java.util.*;
+
+import static com.j2c.j2c.domain.exception.DomainErrorMessages.CATEGORY_TREE_FULL;
+
+/**
+ * Spreads the intervals of a category tree again once a category has run out of space for sub categories.
+ * Each category is given space in proportion to the size of its subtree,
+ * and half of the space of every category is left free for the sub categories to come.
+ * A category therefore gets at most half of the space of its parent, the tree is full once a category about
+ * 60 levels deep has no space left.
+ */
+final class NestedIntervals {
+
+    private NestedIntervals() {}
+
+    static void rebalance(final List<ProductCategory> tree) {
+        final Map<Long, List<ProductCategory>> subCategories = new HashMap<>();
+        ProductCategory root = null;
+        for (final ProductCategory category : tree) {
+            if (category.isRootCategory()) {
+                root = category;
+            } else {
+                subCategories.computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>())
+                        .add(category);
+            }
+        }
+        if (root == null) {
+            return;
+        }
+        final Map<Long, Long> sizes = new HashMap<>();
+        size(root, subCategories, sizes);
+        renumber(root, root.getLeft(), root.getRight(), subCategories, sizes);
+    }
+
+    private static long size(
+            final ProductCategory category,
+            final Map<Long, List<ProductCategory>> subCategories,
+            final Map<Long, Long> sizes
+    ) {
+        long size = 1;
+        for (final ProductCategory subCategory : subCategories.getOrDefault(category.getId(), Collections.emptyList())) {
+            size += size(subCategory, subCategories, sizes);
+        }
+        sizes.put(category.getId(), size);
+        return size;
+    }
+
+    private static void renumber(
+            final ProductCategory category,
+            final long left,
+            final long right,
+            final Map<Long, List<ProductCategory>> subCategories,
+            final Map<Long, Long> sizes
+    ) {
+        final long descendants = sizes.get(category.getId()) - 1;
+        if (descendants == 0) {
+            category.renumber(left, right, left + 1);
+            return;
+        }
+        final long unit = (right - left - 1) / (2 * descendants);
+        if (unit < 2) {
+            throw new DomainException(String.format(CATEGORY_TREE_FULL, category.getId()), category);
+        }
+        long next = left + 1;
+        for (final ProductCategory subCategory : subCategories.get(category.getId())) {
+            final long span = unit * sizes.get(subCategory.getId());
+            renumber(subCategory, next, next + span - 1, subCategories, sizes);
+            next += span;
+        }
+        category.renumber(left, right, next);
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.j2c.j2c.domain.repository;
 
 import com.j2c.j2c.domain.entity.Order;
+import com.j2c.j2c.domain.entity.QOrder;
 import com.j2c.j2c.domain.repository.spring.OrderSDJRepository;
 import com.querydsl.core.types.Predicate;
 import lombok.NonNull;
@@ -8,23 +9,47 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.EntityManager;
+import java.util.Map;
+import java.util.Optional;
+
 @Repository
 public class OrderRepository
         extends BaseRepository<Order, Long> {
 
+    private static final KeysetQuery<Order> keysetQuery = new KeysetQuery<>(
+            Order.class,
+            QOrder.order,
+            QOrder.order.id,
+            Map.of(
+                    "id", QOrder.order.id,
+                    "email", QOrder.order.email
+            )
+    );
+
     private final OrderSDJRepository repository;
+    private final EntityManager entityManager;
 
-    protected OrderRepository(final OrderSDJRepository repository) {
+    protected OrderRepository(final OrderSDJRepository repository, final EntityManager entityManager) {
         super(Order.class, repository);
         this.repository = repository;
+        this.entityManager = entityManager;
     }
 
     public Page<Order> findAll(final Predicate predicate, final Pageable pageable) {
         return repository.findAll(predicate, pageable);
     }
 
+    public KeysetSlice<Order> findAll(final Predicate predicate, @NonNull final Keyset keyset, final int size) {
+        return keysetQuery.fetch(entityManager, predicate, keyset, size);
+    }
+
     public Page<Order> findAllByCustomerId(@NonNull final Long customerId, final Pageable pageable) {
         return repository.findAllByCustomerId(customerId, pageable);
     }
 
+    public Optional<Order> findByPaymentId(@NonNull final String paymentId) {
+        return repository.findByPaymentId(paymentId);
+    }
+
 }
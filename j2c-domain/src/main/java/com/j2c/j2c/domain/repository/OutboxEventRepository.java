@@ -0,0 +1,48 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.OutboxEvent;
+import com.j2c.j2c.domain.repository.spring.OutboxEventSDJRepository;
+import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class OutboxEventRepository
+        extends BaseRepository<OutboxEvent, UUID> {
+
+    private final OutboxEventSDJRepository repository;
+
+    protected OutboxEventRepository(final OutboxEventSDJRepository repository) {
+        super(OutboxEvent.class, repository);
+        this.repository = repository;
+    }
+
+    /**
+     * Finds and locks at most {@code limit} unprocessed events that are due at {@code now},
+     * the oldest first, skipping the events that another transaction is claiming.
+     */
+    public List<OutboxEvent> findAllAvailableForUpdate(
+            final int maxAttempts,
+            @NonNull final LocalDateTime now,
+            final int limit
+    ) {
+        return repository.findAllAvailableForUpdate(maxAttempts, now, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Finds at most {@code limit} events that were processed, or abandoned after {@code maxAttempts} failed attempts,
+     * before the given time.
+     */
+    public List<OutboxEvent> findAllFinishedBefore(
+            final int maxAttempts,
+            @NonNull final LocalDateTime before,
+            final int limit
+    ) {
+        return repository.findAllFinishedBefore(maxAttempts, before, PageRequest.of(0, limit));
+    }
+
+}
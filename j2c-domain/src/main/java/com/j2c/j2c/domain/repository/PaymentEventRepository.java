@@ -0,0 +1,32 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
+import com.j2c.j2c.domain.repository.spring.PaymentEventSDJRepository;
+import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class PaymentEventRepository
+        extends BaseRepository<PaymentEvent, String> {
+
+    private final PaymentEventSDJRepository repository;
+
+    protected PaymentEventRepository(final PaymentEventSDJRepository repository) {
+        super(PaymentEvent.class, repository);
+        this.repository = repository;
+    }
+
+    public PaymentEvent findByIdForUpdate(@NonNull final String eventId) {
+        return repository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, eventId));
+    }
+
+    public List<String> findPendingIds(final int maxAttempts, final int limit) {
+        return repository.findPendingIds(maxAttempts, PageRequest.of(0, limit));
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.ProductCategory;
+import com.j2c.j2c.domain.entity.ProductCategoryFacet;
+import com.j2c.j2c.domain.repository.spring.ProductCategoryFacetSDJRepository;
+import lombok.NonNull;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Each category only counts the products directly in it,
+ * the counts of a subtree are summed through the nested set when read.
+ */
+@Repository
+public class ProductCategoryFacetRepository
+        extends BaseRepository<ProductCategoryFacet, Long> {
+
+    private final ProductCategoryFacetSDJRepository repository;
+
+    protected ProductCategoryFacetRepository(final ProductCategoryFacetSDJRepository repository) {
+        super(ProductCategoryFacet.class, repository);
+        this.repository = repository;
+    }
+
+    public void addToProductCount(@NonNull final Long categoryId, final long delta) {
+        repository.addToProductCount(categoryId, delta);
+    }
+
+    public List<Facet> findRootCategoryFacets() {
+        return repository.findRootCategoryFacets();
+    }
+
+    public List<Facet> findSubCategoryFacets(@NonNull final ProductCategory parent) {
+        return repository.findSubCategoryFacets(parent.getId(), parent.getRootCategoryId());
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.j2c.j2c.domain.repository;
 
 import com.j2c.j2c.domain.entity.ProductCategory;
+import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
 import com.j2c.j2c.domain.repository.spring.ProductCategorySDJRepository;
 import com.j2c.j2c.domain.repository.spring.ProductSDJRepository;
 import lombok.NonNull;
@@ -8,6 +9,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static java.util.Objects.requireNonNull;
@@ -29,24 +32,51 @@ public class ProductCategoryRepository
     }
 
     public Page<ProductCategory> findSubCategories(@NonNull final ProductCategory category, final Pageable pageable) {
-        final int left = category.getLeft();
-        final int right = category.getRight();
-        return repository.findSubCategories(left, right, pageable);
+        final Long rootId = requireNonNull(category.getRootCategoryId());
+        final long left = category.getLeft();
+        final long right = category.getRight();
+        return repository.findSubCategories(rootId, left, right, pageable);
     }
 
     public List<String> findSubCategoryFilenames(@NonNull final ProductCategory category) {
         final Long rootId = requireNonNull(category.getRootCategoryId());
-        final int left = category.getLeft();
-        final int right = category.getRight();
+        final long left = category.getLeft();
+        final long right = category.getRight();
         return repository.findSubCategoryFilenames(rootId, left, right);
     }
 
-    @Override
-    public ProductCategory save(final ProductCategory category) {
-        if (category != null && !category.isRootCategory() && isNew(category)) {
-            return saveNewSubCategory(category);
+    /**
+     * @return those of the given filenames that are the image of a category
+     */
+    public List<String> findFilenamesIn(@NonNull final Collection<String> filenames) {
+        if (filenames.isEmpty()) {
+            return List.of();
+        }
+        return repository.findFilenamesIn(filenames);
+    }
+
+    /**
+     * Locks the root of the category's tree and then the category, so that concurrent insertions under it cannot be
+     * given overlapping intervals, and rebalances the tree if the category has no space left for a sub category.
+     * Insertions into the same tree wait for each other, since a rebalance has to see every category of the tree,
+     * including those inserted while it waited for its locks.
+     */
+    public ProductCategory findByIdForNewSubCategory(@NonNull final Long categoryId) {
+        final Long rootId = repository.findRootIdById(categoryId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, categoryId));
+        repository.findByIdForUpdate(rootId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, rootId));
+        final ProductCategory category = repository.findByIdForUpdate(categoryId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, categoryId));
+        if (!category.hasSpaceForSubCategory()) {
+            NestedIntervals.rebalance(repository.findTreeForUpdate(category.getRootCategoryId()));
         }
-        return super.save(category);
+        return category;
+    }
+
+    public LocalDateTime findLastModifiedById(@NonNull final Long categoryId) {
+        return repository.findLastModifiedById(categoryId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, categoryId));
     }
 
     @Override
@@ -59,33 +89,12 @@ public class ProductCategoryRepository
                         categoryId,
                         rootId,
                         category.getLeft(),
-                        category.getRight()
+                        category.getRight(),
+                        LocalDateTime.now()
                 );
             }
         }
         super.remove(category);
     }
 
-    private ProductCategory saveNewSubCategory(final ProductCategory subCategory) {
-        final ProductCategory rootCategory = requireNonNull(subCategory.getRoot());
-        final ProductCategory parentCategory = requireNonNull(subCategory.getParent());
-        incrementHierarchyLeftAndRight(
-                rootCategory.getId(),
-                parentCategory.getId(),
-                subCategory.getLeft(),
-                subCategory.getRight()
-        );
-        return super.save(subCategory);
-    }
-
-    private void incrementHierarchyLeftAndRight(
-            @NonNull final Long rootId,
-            @NonNull final Long parentId,
-            final int left,
-            final int right
-    ) {
-        repository.incrementHierarchyRight(rootId, parentId, right);
-        repository.incrementHierarchyLeft(rootId, parentId, left);
-    }
-
 }
@@ -1,39 +1,96 @@
 package com.j2c.j2c.domain.repository;
 
 import com.j2c.j2c.domain.entity.Product;
+import com.j2c.j2c.domain.entity.ProductCategory;
+import com.j2c.j2c.domain.entity.QProduct;
+import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
 import com.j2c.j2c.domain.repository.spring.CheckoutLineSDJRepository;
 import com.j2c.j2c.domain.repository.spring.OrderLineSDJRepository;
 import com.j2c.j2c.domain.repository.spring.ProductSDJRepository;
 import com.querydsl.core.types.Predicate;
+import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 
 @Repository
 public class ProductRepository
         extends BaseRepository<Product, Long> {
 
+    private static final KeysetQuery<Product> keysetQuery = new KeysetQuery<>(
+            Product.class,
+            QProduct.product,
+            QProduct.product.id,
+            Map.of(
+                    "id", QProduct.product.id,
+                    "name", QProduct.product.name,
+                    "defaultPrice", QProduct.product.defaultPrice,
+                    "lastModified", QProduct.product.lastModified
+            )
+    );
+
     private final ProductSDJRepository repository;
     private final CheckoutLineSDJRepository checkoutLineRepository;
     private final OrderLineSDJRepository orderLineRepository;
+    private final EntityManager entityManager;
 
     protected ProductRepository(
             final ProductSDJRepository repository,
             final CheckoutLineSDJRepository checkoutLineRepository,
-            final OrderLineSDJRepository orderLineRepository
+            final OrderLineSDJRepository orderLineRepository,
+            final EntityManager entityManager
     ) {
         super(Product.class, repository);
         this.repository = repository;
         this.checkoutLineRepository = checkoutLineRepository;
         this.orderLineRepository = orderLineRepository;
+        this.entityManager = entityManager;
     }
 
     public Page<Product> findAll(final Predicate predicate, final Pageable pageable) {
         return repository.findAll(predicate, pageable);
     }
 
+    public KeysetSlice<Product> findAll(final Predicate predicate, @NonNull final Keyset keyset, final int size) {
+        return keysetQuery.fetch(entityManager, predicate, keyset, size);
+    }
+
+    public Page<Product> search(
+            @NonNull final String text,
+            final ProductCategory category,
+            final Long tagId,
+            @NonNull final Pageable pageable
+    ) {
+        return ProductSearchQuery.fetch(entityManager, text, category, tagId, pageable);
+    }
+
+    public LocalDateTime findLastModifiedById(@NonNull final Long productId) {
+        return repository.findLastModifiedById(productId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, productId));
+    }
+
+    public void markAsModifiedByTagId(@NonNull final Long tagId) {
+        repository.markAsModifiedByTagId(tagId, LocalDateTime.now());
+    }
+
+    /**
+     * @return those of the given filenames that are the image of a product
+     */
+    public List<String> findFilenamesIn(@NonNull final Collection<String> filenames) {
+        if (filenames.isEmpty()) {
+            return List.of();
+        }
+        return repository.findFilenamesIn(filenames);
+    }
+
     @Override
     public void remove(final Product product) {
         optional(product)
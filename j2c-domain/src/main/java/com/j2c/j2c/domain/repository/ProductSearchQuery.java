@@ -0,0 +1,94 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.Product;
+import com.j2c.j2c.domain.entity.ProductCategory;
+import lombok.NonNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Searches products by name and description through the full-text and trigram indexes on the product table.
+ * Every term of the text is matched as a prefix, and results are ranked by full-text relevance first
+ * and by similarity of the name second, so that misspelled names are still found.
+ */
+final class ProductSearchQuery {
+
+    private static final int MAX_TERMS = 10;
+
+    private static final String MATCH =
+            "(p.search_vector @@ to_tsquery('simple', :tsquery) OR lower(p.name) % :text)";
+
+    private static final String CATEGORY_FILTER =
+            " AND p.category_id IN (SELECT c.id FROM productcategory c" +
+            " WHERE coalesce(c.root_id, c.id) = :rootId AND c.lft >= :lft AND c.rgt <= :rgt)";
+
+    private static final String TAG_FILTER =
+            " AND EXISTS (SELECT 1 FROM product_producttag a WHERE a.product_id = p.id AND a.producttag_id = :tagId)";
+
+    private static final String ORDER_BY =
+            " ORDER BY ts_rank_cd(p.search_vector, to_tsquery('simple', :tsquery)) DESC," +
+            " similarity(lower(p.name), :text) DESC, p.id";
+
+    private ProductSearchQuery() {}
+
+    @SuppressWarnings("unchecked")
+    static Page<Product> fetch(
+            @NonNull final EntityManager entityManager,
+            @NonNull final String text,
+            final ProductCategory category,
+            final Long tagId,
+            @NonNull final Pageable pageable
+    ) {
+        final String tsquery = toTsquery(text);
+        if (tsquery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("tsquery", tsquery);
+        parameters.put("text", text.trim().toLowerCase(Locale.ROOT));
+        final StringBuilder where = new StringBuilder(" FROM product p WHERE ").append(MATCH);
+        if (category != null) {
+            where.append(CATEGORY_FILTER);
+            parameters.put("rootId", category.getRootCategoryId());
+            parameters.put("lft", category.getLeft());
+            parameters.put("rgt", category.getRight());
+        }
+        if (tagId != null) {
+            where.append(TAG_FILTER);
+            parameters.put("tagId", tagId);
+        }
+
+        final Query query = entityManager.createNativeQuery("SELECT p.*" + where + ORDER_BY, Product.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        parameters.forEach(query::setParameter);
+        final List<Product> content = query.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            final Query count = entityManager.createNativeQuery("SELECT count(*)" + where);
+            parameters.forEach(count::setParameter);
+            return ((Number) count.getSingleResult()).longValue();
+        });
+    }
+
+    // only letters and digits are kept, so that user input can never alter the structure of the tsquery
+    private static String toTsquery(final String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+}
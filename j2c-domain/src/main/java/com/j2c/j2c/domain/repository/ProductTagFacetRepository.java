@@ -0,0 +1,34 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.ProductTagFacet;
+import com.j2c.j2c.domain.repository.spring.ProductTagFacetSDJRepository;
+import lombok.NonNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class ProductTagFacetRepository
+        extends BaseRepository<ProductTagFacet, Long> {
+
+    private final ProductTagFacetSDJRepository repository;
+
+    protected ProductTagFacetRepository(final ProductTagFacetSDJRepository repository) {
+        super(ProductTagFacet.class, repository);
+        this.repository = repository;
+    }
+
+    public void addToProductCount(@NonNull final Collection<Long> tagIds, final long delta) {
+        if (tagIds.isEmpty()) {
+            return;
+        }
+        repository.addToProductCount(tagIds, delta);
+    }
+
+    public List<Facet> findTagFacets(@NonNull final Pageable pageable) {
+        return repository.findTagFacets(pageable);
+    }
+
+}
@@ -1,12 +1,15 @@
 package com.j2c.j2c.domain.repository;
 
 import com.j2c.j2c.domain.entity.ProductTag;
+import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
 import com.j2c.j2c.domain.repository.spring.ProductTagSDJRepository;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public class ProductTagRepository
         extends BaseRepository<ProductTag, Long> {
@@ -22,4 +25,9 @@ public class ProductTagRepository
         return repository.findAllByProductId(productId, pageable);
     }
 
+    public LocalDateTime findLastModifiedById(@NonNull final Long tagId) {
+        return repository.findLastModifiedById(tagId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, tagId));
+    }
+
 }
@@ -3,14 +3,24 @@ package com.j2c.j2c.domain.repository;
 import com.j2c.j2c.domain.entity.ProductToTagAssociation;
 import com.j2c.j2c.domain.entity.ProductToTagAssociationPK;
 import com.j2c.j2c.domain.repository.spring.ProductToTagAssociationSDJRepository;
+import lombok.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.util.Set;
+
 @Repository
 public class ProductToTagAssociationRepository
         extends BaseRepository<ProductToTagAssociation, ProductToTagAssociationPK> {
 
+    private final ProductToTagAssociationSDJRepository repository;
+
     protected ProductToTagAssociationRepository(final ProductToTagAssociationSDJRepository repository) {
         super(ProductToTagAssociation.class, repository);
+        this.repository = repository;
+    }
+
+    public Set<Long> findTagIdsByProductId(@NonNull final Long productId) {
+        return repository.findTagIdsByProductId(productId);
     }
 
 }
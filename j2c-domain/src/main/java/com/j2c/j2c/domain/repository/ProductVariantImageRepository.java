@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,4 +33,14 @@ public class ProductVariantImageRepository
         return repository.findFilenamesByVariantId(variantId);
     }
 
+    /**
+     * @return those of the given filenames that belong to a variant image
+     */
+    public List<String> findFilenamesIn(@NonNull final Collection<String> filenames) {
+        if (filenames.isEmpty()) {
+            return List.of();
+        }
+        return repository.findFilenamesIn(filenames);
+    }
+
 }
@@ -0,0 +1,117 @@
+package com.j2c.j2c.domain.repository;
+
+import com.j2c.j2c.domain.entity.Entity;
+import lombok.NonNull;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Evicts second-level cache entries that hibernate cannot keep up to date by itself,
+ * e.g. the inverse side of an association when only the owning side is written, or an entity changed by another node.
+ * When called within a transaction the eviction is deferred until the transaction completes,
+ * so that concurrent transactions cannot put the stale state back in the cache.
+ */
+@Component
+public class SecondLevelCache {
+
+    private final Cache cache;
+    private final MetamodelImplementor metamodel;
+
+    protected SecondLevelCache(final EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMetamodel();
+    }
+
+    /**
+     * Evicts the cached entities of the type, the cached collections they own or belong to, and the cached query results,
+     * e.g. because another node changed some of them. Does nothing if the entities of the type are not cached.
+     *
+     * @param entityName the simple name of the entity class
+     */
+    public void evictAll(@NonNull final String entityName) {
+        findCachedType(entityName).ifPresent(type -> {
+            cache.evictEntityData(type);
+            collectionPersisters(type).forEach(p -> cache.evictCollectionData(p.getRole()));
+            cache.evictQueryRegions();
+        });
+    }
+
+    /**
+     * Evicts the cached entities of the type with the given ids, the cached collections they own,
+     * every cached collection of entities of the type, since it is not known which of those they belong to,
+     * and the cached query results. Does nothing if the entities of the type are not cached.
+     *
+     * @param entityName the simple name of the entity class
+     */
+    public void evict(@NonNull final String entityName, @NonNull final Collection<Long> ids) {
+        findCachedType(entityName).ifPresent(type -> {
+            ids.forEach(id -> cache.evictEntityData(type, id));
+            collectionPersisters(type).forEach(p -> {
+                if (p.getElementType().getReturnedClass().equals(type)) {
+                    cache.evictCollectionData(p.getRole());
+                } else {
+                    ids.forEach(id -> cache.evictCollectionData(p.getRole(), id));
+                }
+            });
+            cache.evictQueryRegions();
+        });
+    }
+
+    /**
+     * Evicts everything, e.g. because changes made by other nodes may have been missed.
+     */
+    public void evictAll() {
+        cache.evictAllRegions();
+    }
+
+    public void evictCollection(
+            @NonNull final Class<? extends Entity<?>> ownerType,
+            @NonNull final String property,
+            @NonNull final Serializable ownerId
+    ) {
+        final String role = ownerType.getName() + "." + property;
+        afterCompletion(() -> cache.evictCollectionData(role, ownerId));
+    }
+
+    private Optional<Class<?>> findCachedType(final String entityName) {
+        return metamodel.entityPersisters().values().stream()
+                .filter(p -> p.getMappedClass().getSimpleName().equals(entityName))
+                .filter(EntityPersister::hasCache)
+                .<Class<?>>map(EntityPersister::getMappedClass)
+                .findFirst();
+    }
+
+    // the cached collections that entities of the type own or belong to
+    private Stream<CollectionPersister> collectionPersisters(final Class<?> type) {
+        return metamodel.collectionPersisters().values().stream()
+                .filter(CollectionPersister::hasCache)
+                .filter(p -> p.getOwnerEntityPersister().getMappedClass().equals(type)
+                        || p.getElementType().getReturnedClass().equals(type));
+    }
+
+    private static void afterCompletion(final Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                eviction.run();
+            }
+        });
+    }
+
+}
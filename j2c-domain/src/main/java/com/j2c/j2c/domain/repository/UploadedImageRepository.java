@@ -3,8 +3,12 @@ package com.j2c.j2c.domain.repository;
 import com.j2c.j2c.domain.entity.UploadedImage;
 import com.j2c.j2c.domain.repository.spring.UploadedImageSDJRepository;
 import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,4 +27,33 @@ public class UploadedImageRepository
         return repository.findByFilename(filename);
     }
 
+    /**
+     * Finds and locks the uploaded images with the given ids, waiting for those locked by another transaction,
+     * so that they cannot be removed while they are being assigned. Ids of images that do not exist are ignored.
+     */
+    public List<UploadedImage> findAllByIdForUpdate(@NonNull final Collection<UUID> uploadedImageIds) {
+        if (uploadedImageIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllByIdForUpdate(uploadedImageIds);
+    }
+
+    /**
+     * Finds and locks at most {@code limit} uploaded images that were created before the given time, oldest first.
+     * Images that are locked by another transaction are skipped.
+     */
+    public List<UploadedImage> findAllCreatedBeforeForUpdate(@NonNull final LocalDateTime before, final int limit) {
+        return repository.findAllCreatedBeforeForUpdate(before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * @return those of the given filenames that belong to an uploaded image
+     */
+    public List<String> findFilenamesIn(@NonNull final Collection<String> filenames) {
+        if (filenames.isEmpty()) {
+            return List.of();
+        }
+        return repository.findFilenamesIn(filenames);
+    }
+
 }
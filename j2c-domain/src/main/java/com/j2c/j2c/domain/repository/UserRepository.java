@@ -1,13 +1,20 @@
 package com.j2c.j2c.domain.repository;
 
+import com.j2c.j2c.domain.entity.Role;
 import com.j2c.j2c.domain.entity.User;
 import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
 import com.j2c.j2c.domain.repository.spring.OrderSDJRepository;
+import com.j2c.j2c.domain.repository.spring.UserAddressSDJRepository;
 import com.j2c.j2c.domain.repository.spring.UserSDJRepository;
 import com.j2c.j2c.domain.repository.spring.UserVerificationTokenSDJRepository;
 import lombok.NonNull;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 
 @Repository
@@ -17,16 +24,19 @@ public class UserRepository
     private final UserSDJRepository repository;
     private final UserVerificationTokenSDJRepository verificationTokenRepository;
     private final OrderSDJRepository orderRepository;
+    private final UserAddressSDJRepository addressRepository;
 
     protected UserRepository(
             final UserSDJRepository repository,
             final UserVerificationTokenSDJRepository verificationTokenRepository,
-            final OrderSDJRepository orderRepository
+            final OrderSDJRepository orderRepository,
+            final UserAddressSDJRepository addressRepository
     ) {
         super(User.class, repository);
         this.repository = repository;
         this.verificationTokenRepository = verificationTokenRepository;
         this.orderRepository = orderRepository;
+        this.addressRepository = addressRepository;
     }
 
     public boolean existsByEmail(@NonNull final String email) {
@@ -38,6 +48,11 @@ public class UserRepository
                 .orElseThrow(() -> new EntityDoesNotExistException(String.format("User with email '%s' does not exist", email), type));
     }
 
+    public User findByIdForUpdate(@NonNull final Long userId) {
+        return repository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new EntityDoesNotExistException(type, userId));
+    }
+
     @Override
     public void remove(final User user) {
         optional(user)
@@ -50,4 +65,28 @@ public class UserRepository
         super.remove(user);
     }
 
+    /**
+     * Finds and locks the users with the given role that have no email, were created before the given time
+     * and have neither a checkout nor an order, oldest first. Users that are locked by another transaction are skipped.
+     */
+    public List<User> findAllAnonymousCreatedBeforeForUpdate(
+            @NonNull final Role role,
+            @NonNull final LocalDateTime before,
+            final int limit
+    ) {
+        return repository.findAllAnonymousCreatedBeforeForUpdate(role, before, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Bulk deletes the users with the given ids together with their addresses,
+     * the persistence context is cleared afterwards. The users must have no checkout, order or verification token.
+     */
+    public void removeAllByIds(@NonNull final Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        addressRepository.deleteAllByUserIds(userIds);
+        repository.deleteAllByIds(userIds);
+    }
+
 }
@@ -7,13 +7,23 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface CheckoutLineSDJRepository
         extends JpaRepository<CheckoutLine, Long> {
 
     Page<CheckoutLine> findAllByCheckoutId(Long checkoutId, Pageable pageable);
 
+    @Query("SELECT T FROM CheckoutLine T WHERE T.checkout.id IN :checkoutIds AND T.reservedVariantId IS NOT NULL")
+    List<CheckoutLine> findAllReservedByCheckoutIds(Collection<Long> checkoutIds);
+
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE CheckoutLine T SET T.product = null WHERE T.product.id = :productId")
     void dereferenceProduct(Long productId);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CheckoutLine T WHERE T.checkout.id IN :checkoutIds")
+    void deleteAllByCheckoutIds(Collection<Long> checkoutIds);
+
 }
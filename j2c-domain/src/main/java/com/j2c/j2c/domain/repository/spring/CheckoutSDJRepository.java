@@ -1,8 +1,39 @@
 package com.j2c.j2c.domain.repository.spring;
 
 import com.j2c.j2c.domain.entity.Checkout;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CheckoutSDJRepository
         extends JpaRepository<Checkout, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM Checkout T WHERE T.id = :checkoutId")
+    Optional<Checkout> findByIdForUpdate(Long checkoutId);
+
+    @Query("SELECT T FROM Checkout T WHERE T.paymentDetails.id = :paymentId")
+    Optional<Checkout> findByPaymentId(String paymentId);
+
+    // rows locked by another transaction are skipped, they are still in use or being removed by another node
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT T FROM Checkout T WHERE COALESCE(T.updatedAt, T.createdAt) < :before " +
+            "ORDER BY COALESCE(T.updatedAt, T.createdAt)")
+    List<Checkout> findAllInactiveSinceForUpdate(LocalDateTime before, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Checkout T WHERE T.id IN :checkoutIds")
+    void deleteAllByIds(Collection<Long> checkoutIds);
+
 }
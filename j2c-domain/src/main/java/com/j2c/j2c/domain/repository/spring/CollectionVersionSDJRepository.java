@@ -0,0 +1,26 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface CollectionVersionSDJRepository
+        extends JpaRepository<CollectionVersion, String> {
+
+    // transactions that change a new collection at the same time must not fail on each other's insert
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO collectionversion (id, version) VALUES (:collection, 0) ON CONFLICT (id) DO NOTHING",
+            nativeQuery = true)
+    void createIfAbsent(String collection);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CollectionVersion T SET T.version = T.version + 1 WHERE T.id = :collection")
+    void increment(String collection);
+
+    @Query("SELECT T.version FROM CollectionVersion T WHERE T.id = :collection")
+    Optional<Long> findVersionById(String collection);
+
+}
@@ -3,12 +3,15 @@ package com.j2c.j2c.domain.repository.spring;
 import com.j2c.j2c.domain.entity.Configuration;
 import com.j2c.j2c.domain.enums.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 public interface ConfigurationSDJRepository
         extends JpaRepository<Configuration, Long> {
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Configuration> findByProfile(Profile profile);
 
 }
@@ -0,0 +1,42 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.InventoryStripe;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface InventoryStripeSDJRepository
+        extends JpaRepository<InventoryStripe, Long> {
+
+    @Query("SELECT DISTINCT T.variant.id FROM InventoryStripe T WHERE T.variant.id IN :variantIds")
+    Set<Long> findAllVariantIdsByVariantIdIn(Collection<Long> variantIds);
+
+    // rows locked by another transaction are skipped, their units are being taken by another checkout
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT T FROM InventoryStripe T WHERE T.variant.id = :variantId AND T.available >= :quantity " +
+            "ORDER BY T.available DESC")
+    List<InventoryStripe> findAllAvailableForUpdate(Long variantId, int quantity, Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(T.available), 0) FROM InventoryStripe T WHERE T.variant.id = :variantId")
+    long sumAvailableByVariantId(Long variantId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM InventoryStripe T WHERE T.variant.id = :variantId ORDER BY T.stripe")
+    List<InventoryStripe> findAllByVariantIdForUpdate(Long variantId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InventoryStripe T SET T.available = T.available + :quantity " +
+            "WHERE T.variant.id = :variantId AND T.stripe = :stripe")
+    int addAvailable(Long variantId, int stripe, int quantity);
+
+}
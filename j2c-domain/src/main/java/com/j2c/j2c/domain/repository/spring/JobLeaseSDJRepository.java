@@ -0,0 +1,26 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JobLeaseSDJRepository
+        extends JpaRepository<JobLease, String> {
+
+    // nodes that take the lease of a new job at the same time must not fail on each other's insert
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO joblease (id, leased_until) VALUES (:jobName, :now) ON CONFLICT (id) DO NOTHING",
+            nativeQuery = true)
+    void createIfAbsent(String jobName, LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM JobLease T WHERE T.id = :jobName")
+    Optional<JobLease> findByIdForUpdate(String jobName);
+
+}
@@ -13,6 +13,8 @@ import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.lang.NonNull;
 
+import java.util.Optional;
+
 public interface OrderSDJRepository
         extends JpaRepository<Order, Long>,
         QuerydslPredicateExecutor<Order>,
@@ -24,6 +26,8 @@ public interface OrderSDJRepository
 
     Page<Order> findAllByCustomerId(Long customerId, Pageable pageable);
 
+    Optional<Order> findByPaymentId(String paymentId);
+
     @Override
     @SuppressWarnings("NullableProblems")
     default void customize(@NonNull final QuerydslBindings bindings, @NonNull final QOrder order) {
@@ -0,0 +1,31 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventSDJRepository
+        extends JpaRepository<OutboxEvent, UUID> {
+
+    // rows locked by another transaction are skipped, they are being claimed by another node
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT T FROM OutboxEvent T WHERE T.processedAt IS NULL AND T.attempts < :maxAttempts " +
+            "AND T.availableAt <= :now ORDER BY T.availableAt")
+    List<OutboxEvent> findAllAvailableForUpdate(int maxAttempts, LocalDateTime now, Pageable pageable);
+
+    // an abandoned event is available from the time its last attempt would have been retried
+    @Query("SELECT T FROM OutboxEvent T WHERE T.processedAt < :before " +
+            "OR (T.processedAt IS NULL AND T.attempts >= :maxAttempts AND T.availableAt < :before)")
+    List<OutboxEvent> findAllFinishedBefore(int maxAttempts, LocalDateTime before, Pageable pageable);
+
+}
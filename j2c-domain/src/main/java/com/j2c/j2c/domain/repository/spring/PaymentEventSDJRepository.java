@@ -0,0 +1,23 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentEventSDJRepository
+        extends JpaRepository<PaymentEvent, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM PaymentEvent T WHERE T.id = :eventId")
+    Optional<PaymentEvent> findByIdForUpdate(String eventId);
+
+    @Query("SELECT T.id FROM PaymentEvent T WHERE T.processedAt IS NULL AND T.attempts < :maxAttempts ORDER BY T.createdAt")
+    List<String> findPendingIds(int maxAttempts, Pageable pageable);
+
+}
@@ -0,0 +1,30 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.ProductCategoryFacet;
+import com.j2c.j2c.domain.repository.Facet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ProductCategoryFacetSDJRepository
+        extends JpaRepository<ProductCategoryFacet, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductCategoryFacet T SET T.productCount = T.productCount + :delta WHERE T.id = :categoryId")
+    void addToProductCount(Long categoryId, Long delta);
+
+    @Query("SELECT new com.j2c.j2c.domain.repository.Facet(C.id, C.name, SUM(F.productCount)) " +
+            "FROM ProductCategory C, ProductCategory D, ProductCategoryFacet F " +
+            "WHERE C.root IS NULL AND (D.id = C.id OR D.root.id = C.id) AND F.id = D.id " +
+            "GROUP BY C.id, C.name ORDER BY C.id")
+    List<Facet> findRootCategoryFacets();
+
+    @Query("SELECT new com.j2c.j2c.domain.repository.Facet(C.id, C.name, SUM(F.productCount)) " +
+            "FROM ProductCategory C, ProductCategory D, ProductCategoryFacet F " +
+            "WHERE C.parent.id = :parentId AND D.root.id = :rootId AND D.left >= C.left AND D.right <= C.right AND F.id = D.id " +
+            "GROUP BY C.id, C.name, C.left ORDER BY C.left")
+    List<Facet> findSubCategoryFacets(Long parentId, Long rootId);
+
+}
@@ -4,29 +4,43 @@ import com.j2c.j2c.domain.entity.ProductCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductCategorySDJRepository
         extends JpaRepository<ProductCategory, Long> {
 
     String FIND_SUBCATEGORY_IDS = "SELECT C.id FROM ProductCategory C WHERE C.root.id = :rootId AND C.left > :left AND C.right < :right";
 
-    @Query("SELECT T FROM ProductCategory T WHERE T.left > :left AND T.right < :right")
-    Page<ProductCategory> findSubCategories(Integer left, Integer right, Pageable pageable);
+    @Query("SELECT T FROM ProductCategory T WHERE T.root.id = :rootId AND T.left > :left AND T.right < :right")
+    Page<ProductCategory> findSubCategories(Long rootId, Long left, Long right, Pageable pageable);
 
     @Query("SELECT T.imageFilename FROM ProductCategory T WHERE T.id IN " +
             "(" + FIND_SUBCATEGORY_IDS + ")")
-    List<String> findSubCategoryFilenames(Long rootId, Integer left, Integer right);
+    List<String> findSubCategoryFilenames(Long rootId, Long left, Long right);
 
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("UPDATE ProductCategory T SET T.right = T.right+2 WHERE (T.root.id = :rootId OR T.id = :rootId) AND T.id != :parentId AND T.right > :right")
-    void incrementHierarchyRight(Long rootId, Long parentId, Integer right);
+    @Query("SELECT T.imageFilename FROM ProductCategory T WHERE T.imageFilename IN :filenames")
+    List<String> findFilenamesIn(Collection<String> filenames);
 
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("UPDATE ProductCategory T SET T.left = T.left+2 WHERE (T.root.id = :rootId OR T.id = :rootId) AND T.id != :parentId AND T.left > :left")
-    void incrementHierarchyLeft(Long rootId, Long parentId, Integer left);
+    // the root of a category never changes, so it can be read before anything is locked
+    @Query("SELECT COALESCE(R.id, T.id) FROM ProductCategory T LEFT JOIN T.root R WHERE T.id = :categoryId")
+    Optional<Long> findRootIdById(Long categoryId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM ProductCategory T WHERE T.id = :categoryId")
+    Optional<ProductCategory> findByIdForUpdate(Long categoryId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM ProductCategory T WHERE T.id = :rootId OR T.root.id = :rootId ORDER BY T.left")
+    List<ProductCategory> findTreeForUpdate(Long rootId);
+
+    @Query("SELECT T.lastModified FROM ProductCategory T WHERE T.id = :categoryId")
+    Optional<LocalDateTime> findLastModifiedById(Long categoryId);
 
 }
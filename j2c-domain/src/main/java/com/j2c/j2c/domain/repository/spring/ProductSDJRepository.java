@@ -13,6 +13,9 @@ import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -26,9 +29,20 @@ public interface ProductSDJRepository
                 QuerydslBinderCustomizer<QProduct> {
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("UPDATE Product T SET T.category = null WHERE T.category.id = :categoryId OR T.category.id IN " +
+    @Query("UPDATE Product T SET T.category = null, T.lastModified = :modifiedAt WHERE T.category.id = :categoryId OR T.category.id IN " +
             "(" + FIND_SUBCATEGORY_IDS + ")")
-    void dereferenceProductCategory(Long categoryId, Long rootId, Integer left, Integer right);
+    void dereferenceProductCategory(Long categoryId, Long rootId, Long left, Long right, LocalDateTime modifiedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product T SET T.lastModified = :modifiedAt WHERE T.id IN " +
+            "(SELECT A.product.id FROM ProductToTagAssociation A WHERE A.tag.id = :tagId)")
+    void markAsModifiedByTagId(Long tagId, LocalDateTime modifiedAt);
+
+    @Query("SELECT T.lastModified FROM Product T WHERE T.id = :productId")
+    Optional<LocalDateTime> findLastModifiedById(Long productId);
+
+    @Query("SELECT T.imageFilename FROM Product T WHERE T.imageFilename IN :filenames")
+    List<String> findFilenamesIn(Collection<String> filenames);
 
     @Override
     @SuppressWarnings("NullableProblems")
@@ -0,0 +1,25 @@
+package com.j2c.j2c.domain.repository.spring;
+
+import com.j2c.j2c.domain.entity.ProductTagFacet;
+import com.j2c.j2c.domain.repository.Facet;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductTagFacetSDJRepository
+        extends JpaRepository<ProductTagFacet, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductTagFacet T SET T.productCount = T.productCount + :delta WHERE T.id IN :tagIds")
+    void addToProductCount(Collection<Long> tagIds, Long delta);
+
+    @Query("SELECT new com.j2c.j2c.domain.repository.Facet(T.id, T.name, F.productCount) " +
+            "FROM ProductTag T, ProductTagFacet F " +
+            "WHERE F.id = T.id AND F.productCount > 0 ORDER BY F.productCount DESC, T.id")
+    List<Facet> findTagFacets(Pageable pageable);
+
+}
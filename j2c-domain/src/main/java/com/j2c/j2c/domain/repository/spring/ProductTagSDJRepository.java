@@ -6,10 +6,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface ProductTagSDJRepository
         extends JpaRepository<ProductTag, Long> {
 
     @Query("SELECT T.tag FROM ProductToTagAssociation T WHERE T.product.id = :productId")
     Page<ProductTag> findAllByProductId(Long productId, Pageable pageable);
 
+    @Query("SELECT T.lastModified FROM ProductTag T WHERE T.id = :tagId")
+    Optional<LocalDateTime> findLastModifiedById(Long tagId);
+
 }
@@ -3,7 +3,14 @@ package com.j2c.j2c.domain.repository.spring;
 import com.j2c.j2c.domain.entity.ProductToTagAssociation;
 import com.j2c.j2c.domain.entity.ProductToTagAssociationPK;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Set;
 
 public interface ProductToTagAssociationSDJRepository
         extends JpaRepository<ProductToTagAssociation, ProductToTagAssociationPK> {
+
+    @Query("SELECT T.tag.id FROM ProductToTagAssociation T WHERE T.product.id = :productId")
+    Set<Long> findTagIdsByProductId(Long productId);
+
 }
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductVariantImageSDJRepository
@@ -19,4 +20,7 @@ public interface ProductVariantImageSDJRepository
     @Query("SELECT T.filename FROM ProductVariantImage T WHERE T.variant.id = :variantId")
     List<String> findFilenamesByVariantId(Long variantId);
 
+    @Query("SELECT T.filename FROM ProductVariantImage T WHERE T.filename IN :filenames")
+    List<String> findFilenamesIn(Collection<String> filenames);
+
 }
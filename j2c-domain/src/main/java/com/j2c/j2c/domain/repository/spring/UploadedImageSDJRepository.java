@@ -1,8 +1,17 @@
 package com.j2c.j2c.domain.repository.spring;
 
 import com.j2c.j2c.domain.entity.UploadedImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +20,17 @@ public interface UploadedImageSDJRepository
 
     Optional<UploadedImage> findByFilename(String filename);
 
+    @Query("SELECT T.filename FROM UploadedImage T WHERE T.filename IN :filenames")
+    List<String> findFilenamesIn(Collection<String> filenames);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM UploadedImage T WHERE T.id IN :uploadedImageIds")
+    List<UploadedImage> findAllByIdForUpdate(Collection<UUID> uploadedImageIds);
+
+    // rows locked by another transaction are skipped, they are being assigned to a product or category
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT T FROM UploadedImage T WHERE T.createdAt < :before ORDER BY T.createdAt")
+    List<UploadedImage> findAllCreatedBeforeForUpdate(LocalDateTime before, Pageable pageable);
+
 }
@@ -4,10 +4,18 @@ import com.j2c.j2c.domain.entity.UserAddress;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
 
 public interface UserAddressSDJRepository
         extends JpaRepository<UserAddress, Long> {
 
     Page<UserAddress> findAllByUserId(Long userId, Pageable pageable);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserAddress T WHERE T.user.id IN :userIds")
+    void deleteAllByUserIds(Collection<Long> userIds);
+
 }
@@ -1,8 +1,19 @@
 package com.j2c.j2c.domain.repository.spring;
 
+import com.j2c.j2c.domain.entity.Role;
 import com.j2c.j2c.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserSDJRepository
@@ -12,4 +23,21 @@ public interface UserSDJRepository
 
     Optional<User> findByEmail(String email);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT T FROM User T WHERE T.id = :userId")
+    Optional<User> findByIdForUpdate(Long userId);
+
+    // rows locked by another transaction are skipped, they are in use or being removed by another node
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT T FROM User T WHERE T.email IS NULL AND T.role = :role AND T.createdAt < :before " +
+            "AND NOT EXISTS (SELECT C.id FROM Checkout C WHERE C.id = T.id) " +
+            "AND NOT EXISTS (SELECT O.id FROM Order O WHERE O.customer.id = T.id) " +
+            "ORDER BY T.createdAt")
+    List<User> findAllAnonymousCreatedBeforeForUpdate(Role role, LocalDateTime before, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM User T WHERE T.id IN :userIds")
+    void deleteAllByIds(Collection<Long> userIds);
+
 }
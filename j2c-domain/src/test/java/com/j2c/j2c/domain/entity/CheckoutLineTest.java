@@ -64,6 +64,52 @@ class CheckoutLineTest {
         assertTrue(checkoutLine.belongsToCheckout(checkoutLine.getCheckout()));
     }
 
+    @Test
+    void new_ReservedPreCheckoutLine_ShouldReferenceReservedVariant() {
+        final ProductVariant variant = MockEntity.productVariant()
+                .id(7L)
+                .price(50L)
+                .build();
+
+        final CheckoutLine checkoutLine = hpCheckoutLineBuilder()
+                .preCheckoutLine(
+                        Checkout.PreCheckoutLine.builder()
+                                .variant(variant)
+                                .quantity(2)
+                                .reserved(true)
+                                .build()
+                )
+                .build();
+
+        assertTrue(checkoutLine.isReserved());
+        assertEquals(variant.getId(), checkoutLine.getReservedVariantId());
+    }
+
+    @Test
+    void new_UnreservedPreCheckoutLine_ShouldNotBeReserved() {
+        final CheckoutLine checkoutLine = hpCheckoutLineBuilder().build();
+
+        assertFalse(checkoutLine.isReserved());
+    }
+
+    @Test
+    void commitReservation_ShouldNoLongerBeReserved() {
+        final CheckoutLine checkoutLine = hpCheckoutLineBuilder()
+                .preCheckoutLine(
+                        Checkout.PreCheckoutLine.builder()
+                                .variant(MockEntity.productVariant().id(7L).price(50L).build())
+                                .quantity(2)
+                                .reserved(true)
+                                .build()
+                )
+                .build();
+
+        checkoutLine.commitReservation();
+
+        assertFalse(checkoutLine.isReserved());
+        assertNull(checkoutLine.getReservedVariantId());
+    }
+
     private static CheckoutLine.CheckoutLineBuilder hpCheckoutLineBuilder() {
         return CheckoutLine.builder()
                 .checkout(
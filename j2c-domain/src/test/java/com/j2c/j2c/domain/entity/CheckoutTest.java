@@ -301,6 +301,66 @@ class CheckoutTest {
         assertEquals("payment must not be null", exception.getMessage());
     }
 
+    @Test
+    void isPaymentSynced_AmountDiffersFromTotalPrice_ShouldReturnFalse() {
+        final Checkout checkout = MockEntity.checkout()
+                .paymentDetails(
+                        MockEntity.paymentDetails()
+                                .build()
+                )
+                .build();
+
+        checkout.completePaymentSync(checkout.startPaymentSync(), checkout.getTotalPrice() + 1);
+
+        assertFalse(checkout.isPaymentSynced());
+    }
+
+    @Test
+    void completePaymentSync_LatestSync_ShouldRecordAmount() {
+        final Checkout checkout = MockEntity.checkout()
+                .paymentDetails(
+                        MockEntity.paymentDetails()
+                                .build()
+                )
+                .build();
+
+        final int version = checkout.startPaymentSync();
+
+        assertTrue(checkout.completePaymentSync(version, checkout.getTotalPrice()));
+        assertTrue(checkout.isPaymentSynced());
+    }
+
+    @Test
+    void completePaymentSync_NewerSyncStarted_ShouldRecordAmountAsUnknown() {
+        final Checkout checkout = MockEntity.checkout()
+                .paymentDetails(
+                        MockEntity.paymentDetails()
+                                .amount(1L)
+                                .build()
+                )
+                .build();
+
+        final int version = checkout.startPaymentSync();
+        checkout.startPaymentSync();
+
+        assertFalse(checkout.completePaymentSync(version, checkout.getTotalPrice()));
+        assertFalse(checkout.isPaymentSynced());
+        assertNull(checkout.getPaymentDetails().getAmount());
+    }
+
+    @Test
+    void startPaymentSync_NoPayment_ShouldThrowDomainException() {
+        final Checkout checkout = MockEntity.checkout()
+                .nullPaymentDetails(true)
+                .build();
+
+        final DomainException exception = assertThrows(
+                DomainException.class,
+                checkout::startPaymentSync
+        );
+        assertEquals(String.format(CHECKOUT_NO_PAYMENT, checkout.getId()), exception.getMessage());
+    }
+
     @Test
     void addShippingAddress_NullShippingAddress_ShouldThrowDomainException() {
         final Checkout checkout = MockEntity.checkout()
@@ -550,6 +610,20 @@ class CheckoutTest {
         assertEquals(shippingMethod.getRate(), checkout.getShippingMethodDetails().getAmount());
     }
 
+    @Test
+    void removeShippingMethod_ShouldExcludeShippingFromTotalPrice() {
+        final Checkout checkout = MockEntity.checkout()
+                .shippingRequired(true)
+                .build();
+
+        checkout.setShippingMethod(mockShippingMethodForCheckout(checkout).build());
+
+        checkout.removeShippingMethod();
+
+        assertNull(checkout.getShippingMethodDetails());
+        assertEquals(checkout.getPrice(), checkout.getTotalPrice());
+    }
+
     @Test
     void useSingleAddress_TrueAndHasShippingAddress_ShouldSetAddressToShippingAddress() {
         final Checkout checkout = MockEntity.checkout().build();
@@ -665,7 +739,7 @@ class CheckoutTest {
     }
 
     @Test
-    void complete_HappyPath_ShouldCapturePayment() {
+    void complete_HappyPath_ShouldNotCapturePayment() {
         final Checkout checkout = MockEntity.checkout()
                 .usesSingleAddress(false)
                 .shippingRequired(true)
@@ -680,7 +754,7 @@ class CheckoutTest {
         final Order order = checkout.complete(payment);
 
         assertNotNull(order);
-        verify(payment, times(1))
+        verify(payment, never())
                 .capture();
     }
 
@@ -0,0 +1,80 @@
+package com.j2c.j2c.domain.entity;
+
+import com.j2c.j2c.domain.test.MockEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static com.j2c.j2c.domain.entity.InventoryStripe.STRIPES;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryStripeTest {
+
+    @Test
+    void new_NullVariant_ShouldThrowIllegalArgumentException() {
+        final InventoryStripe.InventoryStripeBuilder builder = hpInventoryStripeBuilder()
+                .variant(null);
+
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                builder::build
+        );
+        assertEquals("variant must not be null", exception.getMessage());
+    }
+
+    @Test
+    void new_StripeOutOfRange_ShouldThrowIllegalArgumentException() {
+        final InventoryStripe.InventoryStripeBuilder builder = hpInventoryStripeBuilder()
+                .stripe(STRIPES);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void new_NegativeAvailable_ShouldThrowIllegalArgumentException() {
+        final InventoryStripe.InventoryStripeBuilder builder = hpInventoryStripeBuilder()
+                .available(-1);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void take_EnoughAvailable_ShouldTakeQuantity() {
+        final InventoryStripe stripe = hpInventoryStripeBuilder()
+                .available(5)
+                .build();
+
+        assertEquals(3, stripe.take(3));
+        assertEquals(2, stripe.getAvailable());
+    }
+
+    @Test
+    void take_NotEnoughAvailable_ShouldTakeWhatIsAvailable() {
+        final InventoryStripe stripe = hpInventoryStripeBuilder()
+                .available(2)
+                .build();
+
+        assertEquals(2, stripe.take(3));
+        assertEquals(0, stripe.getAvailable());
+    }
+
+    @Test
+    void share_ShouldSpreadQuantityOverAllStripes() {
+        final int quantity = 3 * STRIPES + 5;
+
+        final int[] shares = IntStream.range(0, STRIPES)
+                .map(stripe -> InventoryStripe.share(quantity, stripe))
+                .toArray();
+
+        assertEquals(quantity, IntStream.of(shares).sum());
+        assertEquals(1, IntStream.of(shares).max().getAsInt() - IntStream.of(shares).min().getAsInt());
+    }
+
+    private static InventoryStripe.InventoryStripeBuilder hpInventoryStripeBuilder() {
+        return InventoryStripe.builder()
+                .variant(MockEntity.productVariant().build())
+                .stripe(0)
+                .available(10);
+    }
+
+}
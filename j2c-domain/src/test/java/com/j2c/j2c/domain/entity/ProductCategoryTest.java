@@ -1,5 +1,6 @@
 package com.j2c.j2c.domain.entity;
 
+import com.j2c.j2c.domain.exception.DomainException;
 import com.j2c.j2c.domain.test.MockEntity;
 import org.junit.jupiter.api.Test;
 
@@ -53,19 +54,50 @@ class ProductCategoryTest {
     }
 
     @Test
-    void newSubCategory_HappyPath_ShouldIncreaseRightAndSubCategoryLeftAndRight() {
+    void newSubCategory_HappyPath_ShouldCarveSubCategoryIntervalOutOfFreeSpace() {
         final ProductCategory category = MockEntity.productCategory().build();
 
-        final int right = category.getRight();
+        final long right = category.getRight();
+        final long nextSubCategoryLeft = category.getNextSubCategoryLeft();
 
-        final ProductCategory subCategory= category.newSubCategory()
+        final ProductCategory subCategory = category.newSubCategory()
                 .name("daw")
                 .add();
 
         assertEquals(category.getRootCategoryId(), subCategory.getRootCategoryId());
-        assertEquals(right, subCategory.getLeft());
-        assertEquals(right + 1, subCategory.getRight());
-        assertEquals(right + 2, category.getRight());
+        assertEquals(nextSubCategoryLeft, subCategory.getLeft());
+        assertTrue(subCategory.getRight() > subCategory.getLeft());
+        assertEquals(subCategory.getRight() + 1, category.getNextSubCategoryLeft());
+        assertEquals(right, category.getRight());
+    }
+
+    @Test
+    void newSubCategory_NoSpaceLeft_ShouldThrowDomainException() {
+        final ProductCategory category = MockEntity.productCategory().build();
+        category.renumber(10, 20, 19);
+
+        assertFalse(category.hasSpaceForSubCategory());
+        assertThrows(
+                DomainException.class,
+                () -> category.newSubCategory()
+                        .name("daw")
+                        .add()
+        );
+    }
+
+    @Test
+    void newSubCategory_RepeatedInsertions_ShouldNotOverlap() {
+        final ProductCategory category = MockEntity.productCategory().build();
+
+        long previousRight = category.getLeft();
+        for (int i = 0; i < 1000; i++) {
+            final ProductCategory subCategory = category.newSubCategory()
+                    .name("daw")
+                    .add();
+            assertTrue(subCategory.getLeft() > previousRight);
+            assertTrue(subCategory.getRight() < category.getRight());
+            previousRight = subCategory.getRight();
+        }
     }
 
     @Test
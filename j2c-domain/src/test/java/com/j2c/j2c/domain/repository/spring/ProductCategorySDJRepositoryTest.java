@@ -17,7 +17,7 @@ class ProductCategorySDJRepositoryTest {
 
     @Test
     void findSubCategoryFilenames() {
-        final List<String> filenames = repository.findSubCategoryFilenames(1L, 4, 11);
+        final List<String> filenames = repository.findSubCategoryFilenames(1L, 4L, 11L);
 
         assertEquals(3, filenames.size());
         assertTrue(filenames.contains("doge04.jpg"));
@@ -61,11 +61,15 @@ public final class MockEntity {
             builderMethodName = "paymentDetails")
     private static PaymentDetails mPaymentDetails(
             final String id,
-            final String token
+            final String token,
+            final Long amount,
+            final Long authorizedAmount
     ) {
         final PaymentDetails payment = easyRandom.nextObject(PaymentDetails.class);
         setFieldIfNotNull(payment, "id", id);
         setFieldIfNotNull(payment, "token", token);
+        setField(payment, "amount", amount);
+        setField(payment, "authorizedAmount", authorizedAmount);
 
         return payment;
     }
@@ -357,6 +361,7 @@ public final class MockEntity {
             final boolean nullRoot
     ) {
         final ProductCategory category = newEntity(ProductCategory.class, id);
+        category.renumber(ProductCategory.ROOT_LEFT, ProductCategory.ROOT_RIGHT, ProductCategory.ROOT_LEFT + 1);
         if (nullRoot) {
             setNull(category, "root");
         }
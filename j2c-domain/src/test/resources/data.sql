@@ -1,26 +1,26 @@
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (1, 'Root Category', 'doge01.jpg', null, null, 1, 14);
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (2, 'Sub Category 1', 'doge02.jpg', 1, 1, 2, 3);
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (3, 'Sub Category 2', 'doge03.jpg', 1, 1, 4, 11);
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (4, 'Sub Sub Category 1', 'doge04.jpg', 1, 3, 5, 6);
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (5, 'Sub Sub Category 2', 'doge05.jpg', 1, 3, 7, 8);
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (6, 'Sub Sub Category 2', 'doge06.jpg', 1, 3, 9, 10);
-insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt) values (7, 'Sub Category 3', 'doge07.jpg', 1, 1, 12, 13);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (1, 'Root Category', 'doge01.jpg', null, null, 1, 14, 14, current_timestamp);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (2, 'Sub Category 1', 'doge02.jpg', 1, 1, 2, 3, 3, current_timestamp);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (3, 'Sub Category 2', 'doge03.jpg', 1, 1, 4, 11, 11, current_timestamp);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (4, 'Sub Sub Category 1', 'doge04.jpg', 1, 3, 5, 6, 6, current_timestamp);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (5, 'Sub Sub Category 2', 'doge05.jpg', 1, 3, 7, 8, 8, current_timestamp);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (6, 'Sub Sub Category 2', 'doge06.jpg', 1, 3, 9, 10, 10, current_timestamp);
+insert into productcategory (id, name, image_filename, root_id, parent_id, lft, rgt, next_lft, last_modified) values (7, 'Sub Category 3', 'doge07.jpg', 1, 1, 12, 13, 13, current_timestamp);
 
-insert into product (id, name, digital, published, default_price) values (1, 'Test Product 1', true, false, 199);
-insert into product (id, name, digital, published, default_price) values (2, 'Test Product 2', false, true, 299);
-insert into product (id, name, digital, published, default_price) values (3, 'Test Product 3', true, false, 399);
-insert into product (id, name, digital, published, default_price) values (4, 'Test Product 4', false, true, 499);
-insert into product (id, name, digital, published, default_price) values (5, 'Test Product 5', true, false, 599);
-insert into product (id, name, digital, published, default_price) values (6, 'Test Product 6', false, true, 699);
-insert into product (id, name, digital, published, default_price) values (7, 'Test Product 7', true, false, 799);
-insert into product (id, name, digital, published, default_price) values (8, 'Test Product 8', false, true, 899);
-insert into product (id, name, digital, published, default_price) values (9, 'Test Product 9', true, false, 999);
-insert into product (id, name, digital, published, default_price) values (10, 'Test Product 10', false, true, 1099);
-insert into product (id, name, digital, published, default_price) values (11, 'Test Product 11', false, true, 1199);
-insert into product (id, name, digital, published, default_price) values (12, 'Test Product 12', false, true, 1299);
-insert into product (id, name, digital, published, default_price) values (13, 'Test Product 13', false, true, 1399);
-insert into product (id, name, digital, published, default_price) values (14, 'Test Product 14', false, true, 1499);
-insert into product (id, name, digital, published, default_price) values (15, 'Test Product 15', false, true, 1599);
+insert into product (id, name, digital, published, default_price, last_modified) values (1, 'Test Product 1', true, false, 199, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (2, 'Test Product 2', false, true, 299, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (3, 'Test Product 3', true, false, 399, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (4, 'Test Product 4', false, true, 499, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (5, 'Test Product 5', true, false, 599, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (6, 'Test Product 6', false, true, 699, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (7, 'Test Product 7', true, false, 799, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (8, 'Test Product 8', false, true, 899, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (9, 'Test Product 9', true, false, 999, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (10, 'Test Product 10', false, true, 1099, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (11, 'Test Product 11', false, true, 1199, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (12, 'Test Product 12', false, true, 1299, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (13, 'Test Product 13', false, true, 1399, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (14, 'Test Product 14', false, true, 1499, current_timestamp);
+insert into product (id, name, digital, published, default_price, last_modified) values (15, 'Test Product 15', false, true, 1599, current_timestamp);
 
 insert into shippingzone (id, name) values (1, 'Some Shipping Zone 1');
 insert into shippingzone (id, name) values (2, 'Some Shipping Zone 2');
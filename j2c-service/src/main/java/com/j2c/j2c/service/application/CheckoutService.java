@@ -21,6 +21,8 @@ public interface CheckoutService {
 
     CheckoutDTO checkout(Long customerId, String ipAddress, CreateCheckoutForm form);
 
+    CheckoutDTO checkoutAnonymously(String ipAddress, CreateCheckoutForm form);
+
     CheckoutDTO createShippingAddress(Long checkoutId, CreateCheckoutShippingAddressForm form);
 
     CheckoutDTO updateShippingAddress(Long checkoutId, UpdateCheckoutShippingAddressForm form);
@@ -37,6 +39,8 @@ public interface CheckoutService {
 
     CheckoutDTO useSingleAddress(Long checkoutId, UseSingleAddressForm form);
 
+    CheckoutDTO preparePayment(Long checkoutId);
+
     OrderDTO complete(Long checkoutId);
 
     void cancel(Long checkoutId);
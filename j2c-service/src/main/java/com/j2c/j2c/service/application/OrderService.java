@@ -1,5 +1,6 @@
 package com.j2c.j2c.service.application;
 
+import com.j2c.j2c.service.dto.CursorPageDTO;
 import com.j2c.j2c.service.dto.OrderDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentLineDTO;
@@ -10,6 +11,7 @@ import com.j2c.j2c.service.input.UpdateOrderFulfillmentTrackingNumberForm;
 import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import javax.validation.constraints.*;
 import java.util.List;
@@ -21,6 +23,13 @@ public interface OrderService {
 
     Page<OrderDTO> findAll(@NotNull Predicate predicate, @NotNull Pageable pageable);
 
+    CursorPageDTO<OrderDTO> scroll(
+            @NotNull Predicate predicate,
+            String cursor,
+            @NotNull Sort sort,
+            @Positive @Max(2000) int size
+    );
+
     Page<OrderLineDTO> findLines(@NotNull Long orderId, @NotNull Pageable pageable);
 
     OrderLineDTO findLine(@NotNull Long orderId, @NotNull Long lineId);
@@ -0,0 +1,9 @@
+package com.j2c.j2c.service.application;
+
+import javax.validation.constraints.NotNull;
+
+public interface PaymentEventService {
+
+    void receive(@NotNull String payload, @NotNull String signature);
+
+}
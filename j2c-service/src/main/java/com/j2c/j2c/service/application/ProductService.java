@@ -5,8 +5,13 @@ import com.j2c.j2c.service.input.*;
 import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
 
 public interface ProductService {
 
@@ -14,6 +19,20 @@ public interface ProductService {
 
     Page<ProductDTO> findAll(@NotNull Predicate predicate, @NotNull Pageable pageable);
 
+    CursorPageDTO<ProductDTO> scroll(
+            @NotNull Predicate predicate,
+            String cursor,
+            @NotNull Sort sort,
+            @Positive @Max(2000) int size
+    );
+
+    Page<ProductDTO> search(
+            @NotBlank @Size(max = 100) String query,
+            Long categoryId,
+            Long tagId,
+            @NotNull Pageable pageable
+    );
+
     Page<ProductVariantDTO> findVariants(
             @NotNull Long productId,
             @NotNull Pageable pageable
@@ -45,6 +64,20 @@ public interface ProductService {
 
     ProductTagDTO findTag(@NotNull Long tagId);
 
+    FacetsDTO findFacets(Long categoryId, @Positive @Max(2000) int maxTags);
+
+    VersionDTO findVersion(@NotNull Long productId);
+
+    VersionDTO findAllVersion();
+
+    VersionDTO findCategoryVersion(@NotNull Long categoryId);
+
+    VersionDTO findCategoriesVersion();
+
+    VersionDTO findTagVersion(@NotNull Long tagId);
+
+    VersionDTO findTagsVersion();
+
     ProductDTO create(CreateProductForm form);
 
     ProductDTO update(
@@ -0,0 +1,74 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.user.DomainUserService;
+import com.j2c.j2c.service.job.Job;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Periodically removes the anonymous customers that were created longer than the configured retention ago
+ * and have neither a checkout nor an order, in batches so that no transaction locks many of them at once.
+ * Their tokens expired long before, unless they kept refreshing them without ever checking out.
+ */
+@Component
+public class AnonymousUserReaper implements Job {
+
+    private static final String NAME = "anonymous-user-reaping";
+
+    private static final String METRIC_PREFIX = "j2c.users.anonymous.";
+
+    private final DomainUserService domainService;
+    private final long retentionHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long reapDelay;
+
+    private final Counter removedCounter;
+
+    AnonymousUserReaper(
+            final DomainUserService domainService,
+            @Value("${j2c.service.anonymous-users.retention-hours:168}") final long retentionHours,
+            @Value("${j2c.service.anonymous-users.batch-size:100}") final int batchSize,
+            @Value("${j2c.service.anonymous-users.max-batches:50}") final int maxBatches,
+            @Value("${j2c.service.anonymous-users.reap-delay:3600000}") final long reapDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.reapDelay = reapDelay;
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.removedCounter = meterRegistry.counter(METRIC_PREFIX + "removed");
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getDelay() {
+        return reapDelay;
+    }
+
+    @Override
+    public int getMaxBatches() {
+        return maxBatches;
+    }
+
+    @Override
+    public JobBatchResult processBatch(final String checkpoint) {
+        final int removedCount = domainService.removeAnonymous(now().minusHours(retentionHours), batchSize);
+        removedCounter.increment(removedCount);
+        return JobBatchResult.removed(removedCount, batchSize);
+    }
+
+}
@@ -6,6 +6,7 @@ import com.j2c.j2c.service.util.ExceptionMessageUtils;
 import com.j2c.j2c.domain.exception.DomainException;
 import com.j2c.j2c.domain.exception.EntitiesDoNotExistException;
 import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
+import com.j2c.j2c.domain.exception.InvalidKeysetException;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -13,6 +14,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
 import javax.validation.ConstraintViolationException;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -35,6 +37,9 @@ public class ApplicationExceptionHandler {
                     .collect(ImmutableSet.toImmutableSet());
             throw new InvalidInputException(errors, ex.getConstraintViolations(), ex);
         }
+        catch (final InvalidKeysetException ex) {
+            throw new InvalidInputException(Set.of(ex.getMessage()), Collections.emptySet(), ex);
+        }
         catch (final EntityDoesNotExistException ex) {
             String message = ex.getCustomErrorMessage();
             if (message == null) {
@@ -55,7 +60,7 @@ public class ApplicationExceptionHandler {
         catch (final DomainException ex) {
             throw new ServiceException(ex.getMessage(), ex);
         }
-        catch (final ServiceException | ResourceNotFoundException | ResourceAlreadyExistsException | ImageStorageException | GatewayException ex) {
+        catch (final InvalidInputException | ServiceException | ResourceNotFoundException | ResourceAlreadyExistsException | ImageStorageException | GatewayException | CheckoutNotAdmittedException ex) {
             throw ex;
         }
         catch (final Throwable ex) {
@@ -0,0 +1,193 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.domain.entity.Product;
+import com.j2c.j2c.domain.entity.ProductCategory;
+import com.j2c.j2c.domain.entity.ProductTag;
+import com.j2c.j2c.domain.entity.User;
+import com.j2c.j2c.domain.repository.ChangeNotice;
+import com.j2c.j2c.domain.repository.ChangeNotifier;
+import com.j2c.j2c.domain.repository.SecondLevelCache;
+import com.j2c.j2c.service.domain.user.PaymentMethodsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evicts the entries of the local caches whose entities were changed by any node, as told by the
+ * {@link ChangeNotice}s that the nodes publish through {@link ChangeNotifier} when they commit.
+ * Notices are received on a connection of its own, opened outside of the connection pool, that listens on the
+ * notification channel. Notices published while that connection is lost are missed, so all local caches are
+ * cleared whenever it is established again.
+ * A node also receives its own notices, which evict again what its event listeners have already evicted.
+ * Nothing is listened for while invalidation is disabled, e.g. on databases other than PostgreSQL.
+ */
+@Slf4j
+@Component
+public class ChangeNoticeListener {
+
+    private static final String METRIC_PREFIX = "j2c.cache.invalidation.";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private static final String PRODUCT = Product.class.getSimpleName();
+    private static final String PRODUCT_TAG = ProductTag.class.getSimpleName();
+    private static final String PRODUCT_CATEGORY = ProductCategory.class.getSimpleName();
+    private static final String PAYMENT_METHODS = User.class.getSimpleName() + "." + PaymentMethodsChangedEvent.USER_PROPERTY;
+
+    private final ProductDTOCache productCache;
+    private final PaymentMethodDTOCache paymentMethodCache;
+    private final SecondLevelCache secondLevelCache;
+    private final DataSourceProperties dataSourceProperties;
+    private final int pollTimeout;
+    private final long reconnectDelay;
+    private final boolean enabled;
+    private final ExecutorService executor;
+
+    private final Counter noticesCounter;
+    private final Counter resetsCounter;
+
+    ChangeNoticeListener(
+            final ProductDTOCache productCache,
+            final PaymentMethodDTOCache paymentMethodCache,
+            final SecondLevelCache secondLevelCache,
+            final DataSourceProperties dataSourceProperties,
+            @Value("${j2c.service.cache.invalidation.enabled:true}") final boolean enabled,
+            @Value("${j2c.service.cache.invalidation.poll-timeout:5000}") final int pollTimeout,
+            @Value("${j2c.service.cache.invalidation.reconnect-delay:5000}") final long reconnectDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.productCache = productCache;
+        this.paymentMethodCache = paymentMethodCache;
+        this.secondLevelCache = secondLevelCache;
+        this.dataSourceProperties = dataSourceProperties;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        this.enabled = enabled;
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.noticesCounter = meterRegistry.counter(METRIC_PREFIX + "notices");
+        this.resetsCounter = meterRegistry.counter(METRIC_PREFIX + "resets");
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("change-notice-listener-"));
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            executor.execute(this::listen);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void listen() {
+        while (!executor.isShutdown()) {
+            try (Connection connection = connect()) {
+                final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + ChangeNotifier.CHANNEL);
+                }
+                reset();
+                while (!executor.isShutdown()) {
+                    final PGNotification[] notifications = pgConnection.getNotifications(pollTimeout);
+                    if (notifications == null || notifications.length == 0) {
+                        // a connection that was dropped without being closed would otherwise wait for notices forever
+                        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                            throw new SQLException("Connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (final PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (final SQLException | RuntimeException exception) {
+                if (executor.isShutdown()) {
+                    return;
+                }
+                log.warn("Listening for change notices failed, reconnecting in " + reconnectDelay + " ms", exception);
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (final InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        final Properties properties = new Properties();
+        final String username = dataSourceProperties.determineUsername();
+        if (username != null) {
+            properties.setProperty("user", username);
+        }
+        final String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        final Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    void handle(final String payload) {
+        try {
+            final ChangeNotice notice = ChangeNotice.fromPayload(payload);
+            if (PRODUCT.equals(notice.getType())) {
+                if (notice.isAll()) {
+                    productCache.invalidateAll();
+                } else {
+                    notice.getLongIds().forEach(productCache::invalidate);
+                }
+            } else if (PRODUCT_TAG.equals(notice.getType()) || PRODUCT_CATEGORY.equals(notice.getType())) {
+                productCache.invalidateAll();
+            } else if (PAYMENT_METHODS.equals(notice.getType())) {
+                if (notice.isAll()) {
+                    paymentMethodCache.invalidateAll();
+                } else {
+                    notice.getLongIds().forEach(paymentMethodCache::invalidate);
+                }
+            }
+            if (notice.isAll()) {
+                secondLevelCache.evictAll(notice.getType());
+            } else {
+                secondLevelCache.evict(notice.getType(), notice.getLongIds());
+            }
+        } catch (final RuntimeException exception) {
+            log.warn("Change notice '" + payload + "' could not be handled", exception);
+            return;
+        }
+        noticesCounter.increment();
+    }
+
+    // notices may have been missed, so nothing that is cached can be trusted
+    void reset() {
+        productCache.invalidateAll();
+        paymentMethodCache.invalidateAll();
+        secondLevelCache.evictAll();
+        resetsCounter.increment();
+    }
+
+}
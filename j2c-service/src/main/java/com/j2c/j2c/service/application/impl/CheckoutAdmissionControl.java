@@ -0,0 +1,228 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.j2c.j2c.service.exception.CheckoutNotAdmittedException;
+import com.j2c.j2c.service.input.CreateCheckoutForm;
+import com.j2c.j2c.service.input.Line;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.CHECKOUT_QUEUED;
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.CHECKOUT_WAITING_ROOM_FULL;
+
+/**
+ * Admits the checkouts of each product variant at a steady rate, so that the burst of checkouts that follows
+ * the launch of a product is spread out instead of opening a transaction and calling the gateway all at once.
+ * Every variant has a waiting room that hands out turns in order of arrival, at most {@code rate} per second
+ * after an initial burst of {@code burst} checkouts.
+ * A checkout whose turn has not come yet is refused with a ticket, its position and when to retry,
+ * and is admitted when it is retried with the ticket once its turn has come.
+ * A waiting room that is full refuses further checkouts without handing out a turn.
+ * Variants that are checked out less often than the rate are never held up. Waiting rooms are kept per node.
+ */
+@Component
+public class CheckoutAdmissionControl {
+
+    private static final String METRIC_PREFIX = "j2c.checkouts.admission.";
+
+    private final boolean enabled;
+    private final long interval;
+    private final long tolerance;
+    private final long maxWait;
+    private final Ticker ticker;
+    private final Cache<Long, WaitingRoom> rooms;
+    private final Cache<UUID, Ticket> tickets;
+
+    private final Counter admittedCounter;
+    private final Counter queuedCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    CheckoutAdmissionControl(
+            @Value("${j2c.service.checkout.admission.enabled:false}") final boolean enabled,
+            @Value("${j2c.service.checkout.admission.rate:20}") final double rate,
+            @Value("${j2c.service.checkout.admission.burst:20}") final int burst,
+            @Value("${j2c.service.checkout.admission.queue-capacity:1000}") final int queueCapacity,
+            @Value("${j2c.service.checkout.admission.ticket-grace:60000}") final long ticketGrace,
+            @Value("${j2c.service.checkout.admission.maximum-waiting:100000}") final long maximumWaiting,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this(enabled, rate, burst, queueCapacity, ticketGrace, maximumWaiting,
+                Ticker.systemTicker(), meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    CheckoutAdmissionControl(
+            final boolean enabled,
+            final double rate,
+            final int burst,
+            final int queueCapacity,
+            final long ticketGrace,
+            final long maximumWaiting,
+            @NonNull final Ticker ticker,
+            @NonNull final MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        this.tolerance = interval * Math.max(burst - 1, 0);
+        this.maxWait = tolerance + interval * queueCapacity;
+        this.ticker = ticker;
+        // a waiting room is only dropped once it has been idle for longer than its last turn can be away
+        this.rooms = CacheBuilder.newBuilder()
+                .expireAfterAccess(maxWait + TimeUnit.MILLISECONDS.toNanos(ticketGrace), TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+        this.tickets = CacheBuilder.newBuilder()
+                .maximumSize(maximumWaiting)
+                .expireAfterWrite(maxWait + TimeUnit.MILLISECONDS.toNanos(ticketGrace), TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+        this.admittedCounter = meterRegistry.counter(METRIC_PREFIX + "checkouts", "outcome", "admitted");
+        this.queuedCounter = meterRegistry.counter(METRIC_PREFIX + "checkouts", "outcome", "queued");
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + "checkouts", "outcome", "rejected");
+        Gauge.builder(METRIC_PREFIX + "waiting", tickets, Cache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns if the checkout may go ahead, otherwise throws a {@link CheckoutNotAdmittedException}
+     * that tells when to retry.
+     */
+    public void admit(final CreateCheckoutForm form) {
+        if (!enabled || form == null || form.getLines() == null) {
+            return;
+        }
+        // invalid lines are left to the validation of the form
+        final Set<Long> variantIds = form.getLines().stream()
+                .filter(Objects::nonNull)
+                .map(Line::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (variantIds.isEmpty()) {
+            return;
+        }
+        final long now = ticker.read();
+
+        final UUID ticketId = form.getWaitingRoomTicket();
+        final Ticket ticket = ticketId != null ? tickets.getIfPresent(ticketId) : null;
+        if (ticket != null && ticket.variantIds.equals(variantIds)) {
+            if (ticket.turn - now <= tolerance) {
+                tickets.invalidate(ticketId);
+                admittedCounter.increment();
+                return;
+            }
+            throw notAdmitted(ticketId, ticket.turn, now);
+        }
+
+        final long turn = takeTurn(variantIds, now);
+        if (turn - now <= tolerance) {
+            admittedCounter.increment();
+            return;
+        }
+        final UUID newTicketId = UUID.randomUUID();
+        tickets.put(newTicketId, new Ticket(variantIds, turn));
+        queuedCounter.increment();
+        throw notAdmitted(newTicketId, turn, now);
+    }
+
+    // the turn of a checkout of several variants is the latest of its turns in their waiting rooms,
+    // if one of the waiting rooms is full the turns already taken in the others are given back
+    private long takeTurn(final Set<Long> variantIds, final long now) {
+        final List<WaitingRoom> takenRooms = new ArrayList<>(variantIds.size());
+        long turn = now;
+        for (final Long variantId : variantIds) {
+            final WaitingRoom room = getRoom(variantId);
+            final OptionalLong roomTurn = room.takeTurn(now, interval, maxWait);
+            if (roomTurn.isEmpty()) {
+                takenRooms.forEach(r -> r.giveBackTurn(interval));
+                rejectedCounter.increment();
+                final long retryAfterSeconds = toSeconds(maxWait - tolerance);
+                throw new CheckoutNotAdmittedException(
+                        String.format(CHECKOUT_WAITING_ROOM_FULL, variantId, retryAfterSeconds),
+                        null,
+                        (maxWait - tolerance) / interval,
+                        retryAfterSeconds
+                );
+            }
+            takenRooms.add(room);
+            turn = Math.max(turn, roomTurn.getAsLong());
+        }
+        return turn;
+    }
+
+    private WaitingRoom getRoom(final Long variantId) {
+        try {
+            return rooms.get(variantId, WaitingRoom::new);
+        } catch (final ExecutionException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private CheckoutNotAdmittedException notAdmitted(final UUID ticketId, final long turn, final long now) {
+        final long wait = turn - tolerance - now;
+        final long position = (wait + interval - 1) / interval;
+        final long retryAfterSeconds = toSeconds(wait);
+        return new CheckoutNotAdmittedException(
+                String.format(CHECKOUT_QUEUED, position, retryAfterSeconds),
+                ticketId,
+                position,
+                retryAfterSeconds
+        );
+    }
+
+    private static long toSeconds(final long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static final class WaitingRoom {
+
+        // the time the next turn is handed out at, turns are handed out one interval apart
+        private long nextTurn = Long.MIN_VALUE;
+
+        /**
+         * @return the time of the turn, empty if the waiting room is full
+         */
+        synchronized OptionalLong takeTurn(final long now, final long interval, final long maxWait) {
+            final long turn = Math.max(nextTurn, now);
+            if (turn - now > maxWait) {
+                return OptionalLong.empty();
+            }
+            nextTurn = turn + interval;
+            return OptionalLong.of(turn);
+        }
+
+        /**
+         * Gives back a turn that was taken but not used, so that another checkout is admitted in its place.
+         */
+        synchronized void giveBackTurn(final long interval) {
+            nextTurn -= interval;
+        }
+
+    }
+
+    private static final class Ticket {
+
+        private final Set<Long> variantIds;
+        private final long turn;
+
+        private Ticket(final Set<Long> variantIds, final long turn) {
+            this.variantIds = variantIds;
+            this.turn = turn;
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.checkout.DomainCheckoutService;
+import com.j2c.j2c.service.domain.checkout.RemoveExpiredCheckoutsResult;
+import com.j2c.j2c.service.job.Job;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Periodically removes the checkouts that have not been changed for longer than the configured time to live,
+ * in batches so that no transaction locks many of them at once, and cancels their payments concurrently.
+ * Runs as a {@link Job}, so that no two nodes sweep at the same time.
+ * A payment whose cancellation fails is not retried, an authorization that is never captured lapses on its own.
+ */
+@Slf4j
+@Component
+public class CheckoutExpirySweeper implements Job {
+
+    private static final String NAME = "checkout-expiry";
+
+    private static final String METRIC_PREFIX = "j2c.checkouts.expiry.";
+
+    private final DomainCheckoutService domainService;
+    private final long ttlHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long sweepDelay;
+    private final ExecutorService executor;
+
+    private final Counter removedCounter;
+    private final Counter cancelledCounter;
+    private final Counter cancellationFailedCounter;
+
+    CheckoutExpirySweeper(
+            final DomainCheckoutService domainService,
+            @Value("${j2c.service.checkout.expiry.ttl-hours:72}") final long ttlHours,
+            @Value("${j2c.service.checkout.expiry.batch-size:100}") final int batchSize,
+            @Value("${j2c.service.checkout.expiry.max-batches:50}") final int maxBatches,
+            @Value("${j2c.service.checkout.expiry.cancel-threads:4}") final int cancelThreads,
+            @Value("${j2c.service.checkout.expiry.sweep-delay:600000}") final long sweepDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.ttlHours = ttlHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.sweepDelay = sweepDelay;
+        this.executor = Executors.newFixedThreadPool(cancelThreads, new CustomizableThreadFactory("checkout-expiry-"));
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.removedCounter = meterRegistry.counter(METRIC_PREFIX + "removed");
+        this.cancelledCounter = meterRegistry.counter(METRIC_PREFIX + "payments", "outcome", "cancelled");
+        this.cancellationFailedCounter = meterRegistry.counter(METRIC_PREFIX + "payments", "outcome", "failed");
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getDelay() {
+        return sweepDelay;
+    }
+
+    @Override
+    public int getMaxBatches() {
+        return maxBatches;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public JobBatchResult processBatch(final String checkpoint) {
+        final RemoveExpiredCheckoutsResult result = domainService.removeExpired(now().minusHours(ttlHours), batchSize);
+        removedCounter.increment(result.getRemovedCount());
+        cancelPayments(result.getPaymentIds());
+        return JobBatchResult.removed(result.getRemovedCount(), batchSize);
+    }
+
+    private void cancelPayments(final List<String> paymentIds) {
+        final List<Callable<Void>> cancellations = paymentIds.stream()
+                .map(paymentId -> (Callable<Void>) () -> {
+                    cancelPayment(paymentId);
+                    return null;
+                })
+                .collect(Collectors.toList());
+        try {
+            executor.invokeAll(cancellations);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelPayment(final String paymentId) {
+        try {
+            domainService.cancelPayment(paymentId);
+            cancelledCounter.increment();
+        } catch (final RuntimeException exception) {
+            log.warn("Cancellation of payment '" + paymentId + "' of an expired checkout failed", exception);
+            cancellationFailedCounter.increment();
+        }
+    }
+
+}
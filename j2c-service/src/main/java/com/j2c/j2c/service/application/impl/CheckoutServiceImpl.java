@@ -30,6 +30,7 @@ public class CheckoutServiceImpl implements CheckoutService {
     private final DomainCheckoutService domainService;
     private final CheckoutRepository checkoutRepository;
     private final CheckoutLineRepository checkoutLineRepository;
+    private final CheckoutAdmissionControl admissionControl;
 
     @Override
     public CheckoutDTO find(@NotNull final Long checkoutId) {
@@ -60,10 +61,18 @@ public class CheckoutServiceImpl implements CheckoutService {
 
     @Override
     public CheckoutDTO checkout(final Long customerId, final String ipAddress, final CreateCheckoutForm form) {
+        admissionControl.admit(form);
         final CreateCheckoutResult result = domainService.checkout(customerId, ipAddress, form);
         return mapper.toCheckoutDTO(result);
     }
 
+    @Override
+    public CheckoutDTO checkoutAnonymously(final String ipAddress, final CreateCheckoutForm form) {
+        admissionControl.admit(form);
+        final CreateCheckoutResult result = domainService.checkoutAnonymously(ipAddress, form);
+        return mapper.toCheckoutDTO(result);
+    }
+
     @Override
     public CheckoutDTO createShippingAddress(final Long checkoutId, final CreateCheckoutShippingAddressForm form) {
         final Checkout updatedCheckout = domainService.createShippingAddress(checkoutId, form);
@@ -112,6 +121,12 @@ public class CheckoutServiceImpl implements CheckoutService {
         return mapper.toCheckoutDTO(updatedCheckout);
     }
 
+    @Override
+    public CheckoutDTO preparePayment(final Long checkoutId) {
+        final Checkout updatedCheckout = domainService.preparePayment(checkoutId);
+        return mapper.toCheckoutDTO(updatedCheckout);
+    }
+
     @Override
     public OrderDTO complete(final Long checkoutId) {
         final CompleteCheckoutResult result = domainService.complete(checkoutId);
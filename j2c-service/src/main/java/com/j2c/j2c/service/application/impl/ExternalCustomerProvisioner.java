@@ -0,0 +1,112 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.j2c.j2c.service.domain.user.DomainUserService;
+import com.j2c.j2c.service.domain.user.ExternalCustomerRequestedEvent;
+import com.j2c.j2c.service.gateway.PaymentGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Creates the external customers of users at the payment gateway in the background, ahead of their first payment,
+ * so that checkout does not have to wait for the gateway to create one.
+ * Requested users are queued and provisioned in batches by a single worker, at a limited rate so that a burst
+ * of sign-ups does not eat into the rate limit of the gateway. Requests that did not fit in the queue, or that
+ * failed, are left to checkout, which creates the customer inline if it is still missing.
+ */
+@Slf4j
+@Component
+public class ExternalCustomerProvisioner {
+
+    private final DomainUserService domainService;
+    private final PaymentGateway paymentGateway;
+    private final BlockingQueue<Long> queue;
+    private final int batchSize;
+    private final RateLimiter rateLimiter;
+    private final long delay;
+    private final ScheduledExecutorService executor;
+
+    // ids that are queued, so that a user is not queued twice
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    ExternalCustomerProvisioner(
+            final DomainUserService domainService,
+            final PaymentGateway paymentGateway,
+            @Value("${j2c.service.customer-provisioning.queue-capacity:10000}") final int queueCapacity,
+            @Value("${j2c.service.customer-provisioning.batch-size:50}") final int batchSize,
+            @Value("${j2c.service.customer-provisioning.rate:10}") final double rate,
+            @Value("${j2c.service.customer-provisioning.delay:1000}") final long delay
+    ) {
+        this.domainService = domainService;
+        this.paymentGateway = paymentGateway;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.rateLimiter = RateLimiter.create(rate);
+        this.delay = delay;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("customer-provisioning-"));
+    }
+
+    @PostConstruct
+    void start() {
+        executor.scheduleWithFixedDelay(this::provisionBatch, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT, fallbackExecution = true)
+    public void handle(final ExternalCustomerRequestedEvent event) {
+        final Long userId = event.getUserId();
+        if (!queued.add(userId)) {
+            return;
+        }
+        if (!queue.offer(userId)) {
+            queued.remove(userId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    void provisionBatch() {
+        final List<Long> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        for (final Long userId : batch) {
+            if (executor.isShutdown()) {
+                return;
+            }
+            try {
+                provision(userId);
+            } catch (final RuntimeException exception) {
+                log.warn("Provisioning of the external customer of user '" + userId + "' failed", exception);
+            } finally {
+                queued.remove(userId);
+            }
+        }
+    }
+
+    private void provision(final Long userId) {
+        if (domainService.hasExternalCustomer(userId)) {
+            return;
+        }
+        rateLimiter.acquire();
+        final String externalId = paymentGateway.createCustomer();
+        if (!domainService.setExternalCustomerIfAbsent(userId, externalId)) {
+            log.info("External customer '" + externalId + "' of user '" + userId
+                    + "' is unused, checkout created one in the meantime");
+        }
+    }
+
+}
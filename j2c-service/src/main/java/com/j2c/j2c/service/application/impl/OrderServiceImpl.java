@@ -4,12 +4,15 @@ import com.j2c.j2c.domain.entity.Order;
 import com.j2c.j2c.domain.entity.OrderFulfillment;
 import com.j2c.j2c.domain.entity.OrderFulfillmentLine;
 import com.j2c.j2c.domain.entity.OrderLine;
+import com.j2c.j2c.domain.repository.Keyset;
+import com.j2c.j2c.domain.repository.KeysetSlice;
 import com.j2c.j2c.domain.repository.OrderFulfillmentLineRepository;
 import com.j2c.j2c.domain.repository.OrderFulfillmentRepository;
 import com.j2c.j2c.domain.repository.OrderLineRepository;
 import com.j2c.j2c.domain.repository.OrderRepository;
 import com.j2c.j2c.service.application.OrderService;
 import com.j2c.j2c.service.domain.order.*;
+import com.j2c.j2c.service.dto.CursorPageDTO;
 import com.j2c.j2c.service.dto.OrderDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentLineDTO;
@@ -18,9 +21,11 @@ import com.j2c.j2c.service.input.CompleteOrderFulfillmentForm;
 import com.j2c.j2c.service.input.Line;
 import com.j2c.j2c.service.input.UpdateOrderFulfillmentTrackingNumberForm;
 import com.j2c.j2c.service.mapper.OrderServiceMapper;
+import com.j2c.j2c.service.util.Cursors;
 import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
@@ -53,6 +58,18 @@ public class OrderServiceImpl implements OrderService {
         return mapper.toOrderDTO(orders);
     }
 
+    @Override
+    public CursorPageDTO<OrderDTO> scroll(
+            @NotNull final Predicate predicate,
+            final String cursor,
+            @NotNull final Sort sort,
+            @Positive @Max(2000) final int size
+    ) {
+        final Keyset keyset = Cursors.decode(cursor, sort);
+        final KeysetSlice<Order> orders = orderRepository.findAll(predicate, keyset, size);
+        return mapper.toOrderDTO(orders);
+    }
+
     @Override
     public Page<OrderLineDTO> findLines(@NotNull final Long orderId, @NotNull final Pageable pageable) {
         orderRepository.verifyExistsById(orderId);
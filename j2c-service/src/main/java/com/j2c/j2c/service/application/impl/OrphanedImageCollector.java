@@ -0,0 +1,100 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.image.DomainImageService;
+import com.j2c.j2c.service.image.ImageStore;
+import com.j2c.j2c.service.image.RemoveUploadedFilesResult;
+import com.j2c.j2c.service.job.Job;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Periodically removes the uploaded files that no uploaded image, product, variant or category refers to,
+ * such as those of images that were never assigned or of uploads that failed halfway.
+ * The uploaded files are listed in batches, in the order of their names, and each batch is checked against
+ * the database at once. The checkpoint is the last name of a batch, so a run that is stopped resumes after it.
+ * Files modified within the grace period are kept, they may belong to an upload whose image is not yet committed.
+ */
+@Slf4j
+@Component
+public class OrphanedImageCollector implements Job {
+
+    private static final String NAME = "orphaned-image-collection";
+
+    private static final String METRIC_PREFIX = "j2c.images.orphaned.";
+
+    private final DomainImageService domainService;
+    private final ImageStore imageStore;
+    private final long graceHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long collectDelay;
+
+    private final Counter removedCounter;
+    private final Counter removedBytesCounter;
+
+    OrphanedImageCollector(
+            final DomainImageService domainService,
+            final ImageStore imageStore,
+            @Value("${j2c.service.orphaned-images.grace-hours:24}") final long graceHours,
+            @Value("${j2c.service.orphaned-images.batch-size:500}") final int batchSize,
+            @Value("${j2c.service.orphaned-images.max-batches:20}") final int maxBatches,
+            @Value("${j2c.service.orphaned-images.collect-delay:86400000}") final long collectDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.imageStore = imageStore;
+        this.graceHours = graceHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.collectDelay = collectDelay;
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.removedCounter = meterRegistry.counter(METRIC_PREFIX + "removed");
+        this.removedBytesCounter = Counter.builder(METRIC_PREFIX + "removed.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getDelay() {
+        return collectDelay;
+    }
+
+    @Override
+    public int getMaxBatches() {
+        return maxBatches;
+    }
+
+    @Override
+    public JobBatchResult processBatch(final String checkpoint) {
+        final Instant modifiedBefore = Instant.now().minus(graceHours, ChronoUnit.HOURS);
+        final List<String> filenames = imageStore.findUploadedFilenames(checkpoint, modifiedBefore, batchSize);
+        final Set<String> orphans = domainService.findUnreferenced(filenames);
+        if (!orphans.isEmpty()) {
+            final RemoveUploadedFilesResult result = imageStore.removeUploadedFiles(orphans, modifiedBefore);
+            removedCounter.increment(result.getRemovedCount());
+            removedBytesCounter.increment(result.getRemovedBytes());
+            log.info("Removed " + result.getRemovedCount() + " orphaned uploaded files, reclaiming "
+                    + result.getRemovedBytes() + " bytes");
+        }
+        return filenames.size() < batchSize
+                ? JobBatchResult.finished(filenames.size())
+                : JobBatchResult.unfinished(filenames.size(), filenames.get(filenames.size() - 1));
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.domain.entity.OutboxEvent;
+import com.j2c.j2c.service.domain.outbox.DomainOutboxService;
+import com.j2c.j2c.service.domain.outbox.OutboxEventHandler;
+import com.j2c.j2c.service.domain.outbox.OutboxEventStoredEvent;
+import com.j2c.j2c.service.domain.outbox.OutboxPayloads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.time.LocalDateTime.now;
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Delivers the events stored in the outbox to their handlers, in batches that are claimed for the duration of
+ * a lease so that no other node delivers them at the same time.
+ * Storing an event triggers a delivery right after the commit, and a periodic sweep delivers the events
+ * whose delivery failed, was not recorded before their lease ran out, or was stored while the node was stopping.
+ * A failed delivery is retried with an exponential backoff, up to a maximum number of attempts.
+ * The handlers run on their own executors, only the claiming of batches runs on the single polling thread.
+ */
+@Slf4j
+@Component
+public class OutboxEventProcessor {
+
+    private static final String METRIC_PREFIX = "j2c.outbox.";
+
+    // the retry delay doubles with every failed attempt, up to this many times
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final DomainOutboxService domainService;
+    private final Map<String, OutboxEventHandler<?>> handlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long lease;
+    private final long retryDelay;
+    private final ExecutorService poller;
+
+    // set while a poll is queued, so that a burst of stored events triggers a single poll
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter abandonedCounter;
+
+    OutboxEventProcessor(
+            final DomainOutboxService domainService,
+            final List<OutboxEventHandler<?>> handlers,
+            @Value("${j2c.service.outbox.batch-size:100}") final int batchSize,
+            @Value("${j2c.service.outbox.max-attempts:10}") final int maxAttempts,
+            @Value("${j2c.service.outbox.lease:60000}") final long lease,
+            @Value("${j2c.service.outbox.retry-delay:10000}") final long retryDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(h -> OutboxPayloads.type(h.getEventType()), Function.identity()));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+        this.poller = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("outbox-poller-"));
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.deliveredCounter = meterRegistry.counter(METRIC_PREFIX + "events", "outcome", "delivered");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + "events", "outcome", "failed");
+        this.abandonedCounter = meterRegistry.counter(METRIC_PREFIX + "events", "outcome", "abandoned");
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(final OutboxEventStoredEvent event) {
+        requestPoll();
+    }
+
+    @Scheduled(fixedDelayString = "${j2c.service.outbox.sweep-delay:10000}")
+    public void sweep() {
+        requestPoll();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        poller.shutdown();
+        poller.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void requestPoll() {
+        if (!pollRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            poller.execute(this::poll);
+        } catch (final RejectedExecutionException exception) {
+            // the node is stopping, the events are delivered by the next sweep of any node
+            pollRequested.set(false);
+        }
+    }
+
+    void poll() {
+        pollRequested.set(false);
+        try {
+            List<OutboxEvent> batch;
+            do {
+                batch = domainService.claimAvailable(maxAttempts, batchSize, after(lease));
+                batch.forEach(this::deliver);
+            } while (batch.size() == batchSize && !poller.isShutdown());
+        } catch (final RuntimeException exception) {
+            log.warn("Outbox events could not be claimed", exception);
+        }
+    }
+
+    private void deliver(final OutboxEvent event) {
+        final OutboxEventHandler<?> handler = handlers.get(event.getType());
+        CompletableFuture<Void> delivery;
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("No handler for events of type " + event.getType());
+            }
+            delivery = dispatch(handler, event);
+        } catch (final RuntimeException exception) {
+            delivery = CompletableFuture.failedFuture(exception);
+        }
+        // a delivery that does not complete within the lease is failed, it may have been dropped by its executor
+        delivery.orTimeout(lease, TimeUnit.MILLISECONDS)
+                .whenComplete((result, exception) -> {
+                    if (exception == null) {
+                        delivered(event);
+                    } else {
+                        failed(event, exception);
+                    }
+                });
+    }
+
+    private <E> CompletableFuture<Void> dispatch(final OutboxEventHandler<E> handler, final OutboxEvent event) {
+        final E payload = OutboxPayloads.read(event.getPayload(), handler.getEventType());
+        return handler.handle(payload, event.getId());
+    }
+
+    private void delivered(final OutboxEvent event) {
+        try {
+            domainService.markProcessed(event.getId());
+            deliveredCounter.increment();
+        } catch (final RuntimeException exception) {
+            // the event is delivered again once its lease runs out
+            log.warn("Delivery of outbox event '" + event.getId() + "' could not be recorded", exception);
+        }
+    }
+
+    private void failed(final OutboxEvent event, final Throwable exception) {
+        final int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Delivery of outbox event '" + event.getId() + "' of type " + event.getType()
+                    + " failed " + attempts + " times, it is abandoned", exception);
+            abandonedCounter.increment();
+        } else {
+            log.warn("Delivery of outbox event '" + event.getId() + "' of type " + event.getType() + " failed", exception);
+            failedCounter.increment();
+        }
+        final long delay = retryDelay << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        try {
+            domainService.recordFailedAttempt(event.getId(), after(delay));
+        } catch (final RuntimeException recordException) {
+            log.warn("Failed delivery of outbox event '" + event.getId() + "' could not be recorded", recordException);
+        }
+    }
+
+    private static LocalDateTime after(final long millis) {
+        return now().plus(millis, ChronoUnit.MILLIS);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.outbox.DomainOutboxService;
+import com.j2c.j2c.service.job.Job;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Periodically removes the outbox events that were delivered, or abandoned by {@link OutboxEventProcessor},
+ * longer than the configured retention ago, in batches so that no transaction removes many of them at once.
+ */
+@Component
+public class OutboxEventPurger implements Job {
+
+    private static final String NAME = "outbox-event-purging";
+
+    private static final String METRIC_PREFIX = "j2c.outbox.";
+
+    private final DomainOutboxService domainService;
+    private final int maxAttempts;
+    private final long retentionHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long purgeDelay;
+
+    private final Counter removedCounter;
+
+    OutboxEventPurger(
+            final DomainOutboxService domainService,
+            @Value("${j2c.service.outbox.max-attempts:10}") final int maxAttempts,
+            @Value("${j2c.service.outbox.retention-hours:168}") final long retentionHours,
+            @Value("${j2c.service.outbox.purge-batch-size:500}") final int batchSize,
+            @Value("${j2c.service.outbox.purge-max-batches:50}") final int maxBatches,
+            @Value("${j2c.service.outbox.purge-delay:3600000}") final long purgeDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.maxAttempts = maxAttempts;
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.purgeDelay = purgeDelay;
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.removedCounter = meterRegistry.counter(METRIC_PREFIX + "removed");
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getDelay() {
+        return purgeDelay;
+    }
+
+    @Override
+    public int getMaxBatches() {
+        return maxBatches;
+    }
+
+    @Override
+    public JobBatchResult processBatch(final String checkpoint) {
+        final int removedCount = domainService.removeFinished(maxAttempts, now().minusHours(retentionHours), batchSize);
+        removedCounter.increment(removedCount);
+        return JobBatchResult.removed(removedCount, batchSize);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.payment.DomainPaymentEventService;
+import com.j2c.j2c.service.domain.payment.PaymentEventStoredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Processes stored payment events on a bounded pool of workers, so that a burst of webhook deliveries
+ * waits in the queue instead of holding request threads and database connections.
+ * Events that did not fit in the queue, or whose processing failed, are picked up by a periodic sweep.
+ */
+@Slf4j
+@Component
+public class PaymentEventProcessor {
+
+    private final DomainPaymentEventService domainService;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+
+    // ids that are queued or being processed, so that a sweep does not queue them again
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    PaymentEventProcessor(
+            final DomainPaymentEventService domainService,
+            @Value("${j2c.service.payment-events.threads:4}") final int threads,
+            @Value("${j2c.service.payment-events.queue-capacity:1000}") final int queueCapacity,
+            @Value("${j2c.service.payment-events.max-attempts:10}") final int maxAttempts
+    ) {
+        this.domainService = domainService;
+        this.maxAttempts = maxAttempts;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("payment-event-")
+        );
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(final PaymentEventStoredEvent event) {
+        submit(event.getEventId());
+    }
+
+    @Scheduled(fixedDelayString = "${j2c.service.payment-events.sweep-delay:60000}")
+    public void sweep() {
+        final int capacity = executor.getQueue().remainingCapacity();
+        if (capacity > 0) {
+            domainService.findPendingIds(maxAttempts, capacity)
+                    .forEach(this::submit);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void submit(final String eventId) {
+        if (!inFlight.add(eventId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> process(eventId));
+        } catch (final RejectedExecutionException exception) {
+            inFlight.remove(eventId);
+        }
+    }
+
+    private void process(final String eventId) {
+        try {
+            domainService.process(eventId);
+        } catch (final RuntimeException exception) {
+            log.warn("Processing of payment event '" + eventId + "' failed", exception);
+            domainService.recordFailedAttempt(eventId);
+        } finally {
+            inFlight.remove(eventId);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.application.PaymentEventService;
+import com.j2c.j2c.service.domain.payment.DomainPaymentEventService;
+import com.j2c.j2c.service.gateway.PaymentWebhook;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+
+@Service
+@Validated
+@RequiredArgsConstructor
+public class PaymentEventServiceImpl implements PaymentEventService {
+
+    private final PaymentWebhook paymentWebhook;
+    private final DomainPaymentEventService domainService;
+
+    @Override
+    public void receive(@NotNull final String payload, @NotNull final String signature) {
+        paymentWebhook.constructEvent(payload, signature)
+                .ifPresent(event -> {
+                    try {
+                        domainService.store(event);
+                    } catch (final DataIntegrityViolationException exception) {
+                        // the same event was stored by a concurrent delivery
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.j2c.j2c.service.domain.user.PaymentMethodsChangedEvent;
+import com.j2c.j2c.service.dto.PaymentMethodDTO;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMPLETION;
+
+/**
+ * Caches the payment methods that customers saved at the payment gateway, which are otherwise listed
+ * by a remote call every time a customer opens their wallet or starts a checkout.
+ * Entries are evicted when the payment methods of the customer are known to have changed,
+ * and expire after a while in case they were changed at the gateway directly.
+ */
+@Component
+public class PaymentMethodDTOCache {
+
+    private final Cache<Long, List<? extends PaymentMethodDTO>> cache;
+
+    // incremented on every invalidation, lets a load that raced with a change detect that its result may be stale
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    PaymentMethodDTOCache(
+            @Value("${j2c.service.cache.payment-methods.maximum-size:10000}") final long maximumSize,
+            @Value("${j2c.service.cache.payment-methods.expire-after-write:300000}") final long expireAfterWrite
+    ) {
+        this(maximumSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    PaymentMethodDTOCache(final long maximumSize, final long expireAfterWrite, @NonNull final Ticker ticker) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    List<? extends PaymentMethodDTO> get(
+            @NonNull final Long customerId,
+            @NonNull final Supplier<List<? extends PaymentMethodDTO>> loader
+    ) {
+        final List<? extends PaymentMethodDTO> cached = cache.getIfPresent(customerId);
+        if (cached != null) {
+            return cached;
+        }
+        final long generationBeforeLoad = generation.get();
+        final List<? extends PaymentMethodDTO> loaded = List.copyOf(loader.get());
+        if (generationBeforeLoad == generation.get()) {
+            cache.put(customerId, loaded);
+            if (generationBeforeLoad != generation.get()) {
+                cache.invalidate(customerId);
+            }
+        }
+        return loaded;
+    }
+
+    void invalidate(@NonNull final Long customerId) {
+        generation.incrementAndGet();
+        cache.invalidate(customerId);
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // changes made at the gateway are not undone by a rollback, so the entry is evicted either way
+    @TransactionalEventListener(phase = AFTER_COMPLETION, fallbackExecution = true)
+    public void handle(final PaymentMethodsChangedEvent event) {
+        invalidate(event.getCustomerId());
+    }
+
+}
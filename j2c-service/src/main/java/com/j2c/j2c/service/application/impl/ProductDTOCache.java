@@ -0,0 +1,94 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.j2c.j2c.service.domain.product.ProductCategoryChangedEvent;
+import com.j2c.j2c.service.domain.product.ProductChangedEvent;
+import com.j2c.j2c.service.domain.product.ProductTagChangedEvent;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * Caches the DTOs served by the public product endpoints.
+ * Entries are kept until the product they belong to is changed, which is signaled by the events
+ * published by {@link com.j2c.j2c.service.domain.product.DomainProductService} after commit.
+ */
+@Component
+public class ProductDTOCache {
+
+    private final Cache<Key, Object> cache;
+
+    // incremented on every invalidation, lets a load that raced with a commit detect that its result may be stale
+    private final AtomicLong generation = new AtomicLong();
+
+    ProductDTOCache(@Value("${j2c.service.cache.product.maximum-size:10000}") final long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(
+            @NonNull final Long productId,
+            @NonNull final String query,
+            @NonNull final Supplier<T> loader,
+            final Object... arguments
+    ) {
+        final Key key = new Key(productId, query, Arrays.asList(arguments));
+        final Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        final long generationBeforeLoad = generation.get();
+        final T loaded = loader.get();
+        if (loaded != null && generationBeforeLoad == generation.get()) {
+            cache.put(key, loaded);
+            if (generationBeforeLoad != generation.get()) {
+                cache.invalidate(key);
+            }
+        }
+        return loaded;
+    }
+
+    void invalidate(@NonNull final Long productId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.getProductId().equals(productId));
+    }
+
+    void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(final ProductChangedEvent event) {
+        invalidate(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(final ProductTagChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void handle(final ProductCategoryChangedEvent event) {
+        invalidateAll();
+    }
+
+    @lombok.Value
+    private static class Key {
+        Long productId;
+        String query;
+        List<Object> arguments;
+    }
+
+}
@@ -7,14 +7,23 @@ import com.j2c.j2c.service.domain.product.*;
 import com.j2c.j2c.service.dto.*;
 import com.j2c.j2c.service.input.*;
 import com.j2c.j2c.service.mapper.ProductServiceMapper;
+import com.j2c.j2c.service.util.Cursors;
 import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @Validated
@@ -28,11 +37,17 @@ public class ProductServiceImpl implements ProductService {
     private final ProductVariantImageRepository variantImageRepository;
     private final ProductCategoryRepository categoryRepository;
     private final ProductTagRepository tagRepository;
+    private final ProductCategoryFacetRepository categoryFacetRepository;
+    private final ProductTagFacetRepository tagFacetRepository;
+    private final CollectionVersionRepository collectionVersionRepository;
+    private final ProductDTOCache cache;
 
     @Override
     public ProductDTO find(@NotNull final Long productId) {
-        final Product product = productRepository.findById(productId);
-        return mapper.toProductDTO(product);
+        return cache.get(productId, "find", () -> {
+            final Product product = productRepository.findById(productId);
+            return mapper.toProductDTO(product);
+        });
     }
 
     @Override
@@ -41,11 +56,40 @@ public class ProductServiceImpl implements ProductService {
         return mapper.toProductDTO(products);
     }
 
+    @Override
+    public CursorPageDTO<ProductDTO> scroll(
+            @NotNull final Predicate predicate,
+            final String cursor,
+            @NotNull final Sort sort,
+            @Positive @Max(2000) final int size
+    ) {
+        final Keyset keyset = Cursors.decode(cursor, sort);
+        final KeysetSlice<Product> products = productRepository.findAll(predicate, keyset, size);
+        return mapper.toProductDTO(products);
+    }
+
+    @Override
+    public Page<ProductDTO> search(
+            @NotBlank @Size(max = 100) final String query,
+            final Long categoryId,
+            final Long tagId,
+            @NotNull final Pageable pageable
+    ) {
+        final ProductCategory category = categoryId != null ? categoryRepository.findById(categoryId) : null;
+        if (tagId != null) {
+            tagRepository.verifyExistsById(tagId);
+        }
+        final Page<Product> products = productRepository.search(query, category, tagId, pageable);
+        return mapper.toProductDTO(products);
+    }
+
     @Override
     public Page<ProductVariantDTO> findVariants(@NotNull final Long productId, @NotNull final Pageable pageable) {
-        productRepository.verifyExistsById(productId);
-        final Page<ProductVariant> variants = variantRepository.findAllByProductId(productId, pageable);
-        return mapper.toVariantDTO(variants);
+        return cache.get(productId, "findVariants", () -> {
+            productRepository.verifyExistsById(productId);
+            final Page<ProductVariant> variants = variantRepository.findAllByProductId(productId, pageable);
+            return mapper.toVariantDTO(variants);
+        }, pageable);
     }
 
     @Override
@@ -61,10 +105,12 @@ public class ProductServiceImpl implements ProductService {
             @NotNull final Long variantId,
             @NotNull final Pageable pageable
     ) {
-        final Product product = productRepository.findById(productId);
-        variantRepository.findById(variantId).verifyBelongsToProduct(product);
-        final Page<ProductVariantImage> variantImages = variantImageRepository.findAllByVariantId(variantId, pageable);
-        return mapper.toVariantImageDTO(variantImages);
+        return cache.get(productId, "findVariantImages", () -> {
+            final Product product = productRepository.findById(productId);
+            variantRepository.findById(variantId).verifyBelongsToProduct(product);
+            final Page<ProductVariantImage> variantImages = variantImageRepository.findAllByVariantId(variantId, pageable);
+            return mapper.toVariantImageDTO(variantImages);
+        }, variantId, pageable);
     }
 
     @Override
@@ -81,9 +127,11 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public Page<ProductTagDTO> findProductTags(@NotNull final Long productId, @NotNull final Pageable pageable) {
-        productRepository.verifyExistsById(productId);
-        final Page<ProductTag> tags = tagRepository.findAllByProductId(productId, pageable);
-        return mapper.toTagDTO(tags);
+        return cache.get(productId, "findProductTags", () -> {
+            productRepository.verifyExistsById(productId);
+            final Page<ProductTag> tags = tagRepository.findAllByProductId(productId, pageable);
+            return mapper.toTagDTO(tags);
+        }, pageable);
     }
 
     @Override
@@ -117,6 +165,52 @@ public class ProductServiceImpl implements ProductService {
         return mapper.toTagDTO(tag);
     }
 
+    @Override
+    public FacetsDTO findFacets(final Long categoryId, @Positive @Max(2000) final int maxTags) {
+        final List<Facet> categories;
+        if (categoryId != null) {
+            final ProductCategory category = categoryRepository.findById(categoryId);
+            categories = categoryFacetRepository.findSubCategoryFacets(category);
+        } else {
+            categories = categoryFacetRepository.findRootCategoryFacets();
+        }
+        final List<Facet> tags = tagFacetRepository.findTagFacets(PageRequest.of(0, maxTags));
+        return mapper.toFacetsDTO(categories, tags);
+    }
+
+    @Override
+    public VersionDTO findVersion(@NotNull final Long productId) {
+        return cache.get(productId, "findVersion", () -> {
+            final LocalDateTime lastModified = productRepository.findLastModifiedById(productId);
+            return toVersionDTO(lastModified);
+        });
+    }
+
+    @Override
+    public VersionDTO findAllVersion() {
+        return toCollectionVersionDTO(collectionVersionRepository.findVersion(Product.class));
+    }
+
+    @Override
+    public VersionDTO findCategoryVersion(@NotNull final Long categoryId) {
+        return toVersionDTO(categoryRepository.findLastModifiedById(categoryId));
+    }
+
+    @Override
+    public VersionDTO findCategoriesVersion() {
+        return toCollectionVersionDTO(collectionVersionRepository.findVersion(ProductCategory.class));
+    }
+
+    @Override
+    public VersionDTO findTagVersion(@NotNull final Long tagId) {
+        return toVersionDTO(tagRepository.findLastModifiedById(tagId));
+    }
+
+    @Override
+    public VersionDTO findTagsVersion() {
+        return toCollectionVersionDTO(collectionVersionRepository.findVersion(ProductTag.class));
+    }
+
     @Override
     public ProductDTO create(final CreateProductForm form) {
         final CreateProductResult result = domainService.create(form);
@@ -203,4 +297,18 @@ public class ProductServiceImpl implements ProductService {
         domainService.deleteTag(tagId);
     }
 
+    private static VersionDTO toVersionDTO(final LocalDateTime lastModified) {
+        return VersionDTO.builder()
+                .version(lastModified.toString())
+                .lastModified(lastModified)
+                .build();
+    }
+
+    // no last modified time, the newest entity of a collection does not tell whether one was removed from it
+    private static VersionDTO toCollectionVersionDTO(final long version) {
+        return VersionDTO.builder()
+                .version(String.valueOf(version))
+                .build();
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.image.DomainImageService;
+import com.j2c.j2c.service.job.Job;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Periodically removes the uploaded images that were uploaded longer than the configured retention ago
+ * and never assigned to a product or category, in batches so that no transaction locks many of them at once.
+ * Their files are left behind in the image store, until {@link OrphanedImageCollector} removes them.
+ */
+@Component
+public class UploadedImageReaper implements Job {
+
+    private static final String NAME = "uploaded-image-reaping";
+
+    private static final String METRIC_PREFIX = "j2c.images.uploaded.";
+
+    private final DomainImageService domainService;
+    private final long retentionHours;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long reapDelay;
+
+    private final Counter removedCounter;
+
+    UploadedImageReaper(
+            final DomainImageService domainService,
+            @Value("${j2c.service.uploaded-images.retention-hours:168}") final long retentionHours,
+            @Value("${j2c.service.uploaded-images.batch-size:100}") final int batchSize,
+            @Value("${j2c.service.uploaded-images.max-batches:50}") final int maxBatches,
+            @Value("${j2c.service.uploaded-images.reap-delay:3600000}") final long reapDelay,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.reapDelay = reapDelay;
+        final MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.removedCounter = meterRegistry.counter(METRIC_PREFIX + "removed");
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getDelay() {
+        return reapDelay;
+    }
+
+    @Override
+    public int getMaxBatches() {
+        return maxBatches;
+    }
+
+    @Override
+    public JobBatchResult processBatch(final String checkpoint) {
+        final int removedCount = domainService.removeUnassigned(now().minusHours(retentionHours), batchSize);
+        removedCounter.increment(removedCount);
+        return JobBatchResult.removed(removedCount, batchSize);
+    }
+
+}
@@ -38,6 +38,7 @@ public class UserServiceImpl implements UserService {
     private final OrderRepository orderRepository;
     private final PaymentGateway paymentGateway;
     private final UserVerificationTokenRepository verificationTokenRepository;
+    private final PaymentMethodDTOCache paymentMethodCache;
 
     @Override
     public long total() {
@@ -97,8 +98,10 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<? extends PaymentMethodDTO> findPaymentMethods(@NotNull final Long customerId) {
-        final User user = userRepository.findById(customerId);
-        return paymentGateway.findPaymentMethods(user);
+        return paymentMethodCache.get(customerId, () -> {
+            final User user = userRepository.findById(customerId);
+            return paymentGateway.findPaymentMethods(user);
+        });
     }
 
     @Override
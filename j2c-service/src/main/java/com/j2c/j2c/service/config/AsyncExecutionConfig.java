@@ -0,0 +1,146 @@
+package com.j2c.j2c.service.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs {@code @Async} methods on a bounded executor per workload, so that file moves and mail deliveries
+ * no longer hold the request thread that committed the transaction which triggered them,
+ * and a slow disk or SMTP server cannot starve the other workload.
+ * A task that does not fit in the queue of its executor is either run on the submitting thread or dropped,
+ * depending on the rejection policy of the executor.
+ * When the application shuts down, the executors stop accepting tasks and finish the queued ones
+ * before the beans those tasks use are destroyed.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncExecutionConfig implements AsyncConfigurer {
+
+    public static final String IMAGE_STORE_EXECUTOR = "imageStoreExecutor";
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+
+    private static final String METRIC_PREFIX = "j2c.executor.";
+
+    public enum RejectionPolicy {
+        /**
+         * The submitting thread runs the task itself, which slows it down to the pace of the executor.
+         */
+        CALLER_RUNS,
+        /**
+         * The task is dropped and a warning is logged.
+         */
+        DISCARD
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long shutdownTimeout;
+    private final List<ThreadPoolTaskExecutor> executors = new CopyOnWriteArrayList<>();
+
+    AsyncExecutionConfig(
+            @Value("${j2c.service.async.shutdown-timeout:30000}") final long shutdownTimeout,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.shutdownTimeout = shutdownTimeout;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @Bean(IMAGE_STORE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageStoreExecutor(
+            @Value("${j2c.service.async.image-store.threads:2}") final int threads,
+            @Value("${j2c.service.async.image-store.queue-capacity:500}") final int queueCapacity,
+            @Value("${j2c.service.async.image-store.rejection-policy:CALLER_RUNS}") final RejectionPolicy rejectionPolicy
+    ) {
+        return newExecutor("image-store", threads, queueCapacity, rejectionPolicy);
+    }
+
+    @Bean(MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor(
+            @Value("${j2c.service.async.mail.threads:2}") final int threads,
+            @Value("${j2c.service.async.mail.queue-capacity:1000}") final int queueCapacity,
+            @Value("${j2c.service.async.mail.rejection-policy:CALLER_RUNS}") final RejectionPolicy rejectionPolicy
+    ) {
+        return newExecutor("mail", threads, queueCapacity, rejectionPolicy);
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (exception, method, params) -> log.error(
+                "Asynchronous execution of " + method.getDeclaringClass().getSimpleName() + "." + method.getName() + " failed",
+                exception
+        );
+    }
+
+    // the context is closed before any bean is destroyed, so the queued tasks can still use the repositories
+    @EventListener(ContextClosedEvent.class)
+    public void drain() {
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    ThreadPoolTaskExecutor newExecutor(
+            final String name,
+            final int threads,
+            final int queueCapacity,
+            final RejectionPolicy rejectionPolicy
+    ) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(newRejectedExecutionHandler(name, rejectionPolicy));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(shutdownTimeout);
+        Gauge.builder(METRIC_PREFIX + "queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("name", name)
+                .register(meterRegistry);
+        executors.add(executor);
+        return executor;
+    }
+
+    private RejectedExecutionHandler newRejectedExecutionHandler(final String name, final RejectionPolicy rejectionPolicy) {
+        final Counter rejectedCounter = meterRegistry.counter(
+                METRIC_PREFIX + "rejected",
+                "name", name,
+                "policy", rejectionPolicy.name().toLowerCase()
+        );
+        switch (rejectionPolicy) {
+            case CALLER_RUNS:
+                final RejectedExecutionHandler callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+                return (task, executor) -> {
+                    rejectedCounter.increment();
+                    // a shut down executor drops the task instead of running it on the caller
+                    callerRuns.rejectedExecution(task, executor);
+                };
+            case DISCARD:
+                return (task, executor) -> {
+                    rejectedCounter.increment();
+                    log.warn("Task dropped, the queue of the '" + name + "' executor is full");
+                };
+            default:
+                throw new IllegalArgumentException("Unknown rejection policy " + rejectionPolicy);
+        }
+    }
+
+}
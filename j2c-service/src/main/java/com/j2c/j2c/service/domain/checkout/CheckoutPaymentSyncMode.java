@@ -0,0 +1,24 @@
+package com.j2c.j2c.service.domain.checkout;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Whether the payment of a checkout is updated on the gateway whenever the total price changes,
+ * or only once, when the payment is prepared for confirmation and when the checkout is completed.
+ * In the lazy mode a checkout costs the same number of gateway calls however often its total changes.
+ */
+@Component
+public class CheckoutPaymentSyncMode {
+
+    private final boolean lazy;
+
+    CheckoutPaymentSyncMode(@Value("${j2c.service.checkout.lazy-payment-sync:false}") final boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+}
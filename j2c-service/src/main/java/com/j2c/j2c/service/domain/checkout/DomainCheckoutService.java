@@ -2,77 +2,94 @@ package com.j2c.j2c.service.domain.checkout;
 
 import com.j2c.j2c.domain.entity.*;
 import com.j2c.j2c.domain.entity.Checkout.PreCheckoutLine;
+import com.j2c.j2c.domain.enums.RoleType;
 import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
 import com.j2c.j2c.domain.repository.*;
+import com.j2c.j2c.service.exception.GatewayException;
 import com.j2c.j2c.service.exception.ResourceAlreadyExistsException;
+import com.j2c.j2c.service.exception.ServiceException;
 import com.j2c.j2c.service.gateway.PaymentGateway;
 import com.j2c.j2c.service.input.*;
+import com.j2c.j2c.service.domain.user.ExternalCustomerRequestedEvent;
+import com.j2c.j2c.service.domain.user.PaymentMethodsChangedEvent;
 import com.j2c.j2c.service.mapper.AddressVOMapper;
 import com.j2c.j2c.service.util.MergedLines;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.j2c.j2c.domain.exception.DomainErrorMessages.CHECKOUT_ALREADY_EXISTS;
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
-
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.CHECKOUT_PAYMENT_NOT_SYNCED;
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.INSUFFICIENT_STOCK;
+
+/**
+ * Calls to the payment gateway are never made while a database transaction is open.
+ * The operations that need the gateway run their database work in short transactions of their own,
+ * and undo the part that was already committed if a later step fails.
+ * In the lazy {@link CheckoutPaymentSyncMode} the payment is only created or updated
+ * by {@link #preparePayment} and {@link #complete}, instead of on every change of the total price.
+ * The units of tracked variants are reserved when the checkout is created, sold when it is completed
+ * and given back to the stock when it is cancelled or expires.
+ */
 @Service
 @Validated
 @Transactional
 @RequiredArgsConstructor
 public class DomainCheckoutService {
 
+    private static final int MAX_PAYMENT_SYNC_ATTEMPTS = 3;
+
     private final PaymentGateway paymentGateway;
     private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
     private final UserAddressRepository userAddressRepository;
     private final CheckoutRepository checkoutRepository;
     private final CheckoutLineRepository checkoutLineRepository;
     private final ProductRepository productRepository;
     private final ProductVariantRepository variantRepository;
+    private final InventoryStripeRepository inventoryRepository;
     private final ConfigurationRepository configurationRepository;
     private final ShippingMethodRepository shippingMethodRepository;
     private final OrderRepository orderRepository;
     private final AddressVOMapper addressMapper;
+    private final TransactionOperations transaction;
+    private final CheckoutPaymentSyncMode paymentSyncMode;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeNotifier changeNotifier;
 
+    @Transactional(propagation = Propagation.NEVER)
     public CreateCheckoutResult checkout(
             @NotNull final Long customerId,
             @NotBlank final String ipAddress,
             @NotNull @Valid final CreateCheckoutForm form
     ) {
-        final User customer = findCustomer(customerId);
-
-        final List<PreCheckoutLine> lines = getPreCheckoutLines(form.getLines());
-
-        final Configuration configuration = configurationRepository.getConfiguration();
-
-        final Checkout checkout = checkoutRepository.save(
-                Checkout.builder()
-                        .customer(customer)
-                        .lines(lines)
-                        .email(form.getEmail())
-                        .currency(configuration.getCurrency())
-                        .ipAddress(ipAddress)
-                        .massUnit(configuration.getMassUnit())
-                        .build()
-        );
-
-        if (!checkout.isShippingRequired()) {
-            paymentRequest(checkout);
-        }
+        return checkout(() -> findCustomer(customerId), ipAddress, form);
+    }
 
-        return CreateCheckoutResult.builder()
-                .createdCheckout(checkout)
-                .createdLines(checkoutLineRepository.saveAll(checkout.getLines()))
-                .build();
+    /**
+     * Creates the checkout of an anonymous session together with its customer,
+     * so that a user is only created for the visitors that actually check out.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public CreateCheckoutResult checkoutAnonymously(
+            @NotBlank final String ipAddress,
+            @NotNull @Valid final CreateCheckoutForm form
+    ) {
+        return checkout(this::createAnonymousCustomer, ipAddress, form);
     }
 
     public Checkout createShippingAddress(
@@ -121,19 +138,30 @@ public class DomainCheckoutService {
         return checkout;
     }
 
+    @Transactional(propagation = Propagation.NEVER)
     public Checkout setShippingMethod(
             @NotNull final Long checkoutId,
             @NotNull @Valid final SetCheckoutShippingMethodForm form
     ) {
-        final Checkout checkout = checkoutRepository.findById(checkoutId);
-
-        final ShippingMethod shippingMethod = shippingMethodRepository.findById(form.getShippingMethodId());
-
-        checkout.setShippingMethod(shippingMethod);
+        final Checkout checkout = transaction.execute(status -> {
+            final Checkout c = checkoutRepository.findById(checkoutId);
+            c.setShippingMethod(shippingMethodRepository.findById(form.getShippingMethodId()));
+            return c;
+        });
+
+        if (paymentSyncMode.isLazy()) {
+            return checkout;
+        }
 
         if (checkout.hasPayment()) {
-            final Optional<Payment> payment = paymentGateway.findById(checkout.getPaymentId());
-            payment.ifPresent(p -> p.update(checkout));
+            try {
+                syncPaymentAmount(checkoutId);
+            } catch (final RuntimeException exception) {
+                // the payment still holds the previous amount, so the checkout must not be completable with the new one
+                transaction.executeWithoutResult(status ->
+                        checkoutRepository.findById(checkoutId).removeShippingMethod());
+                throw exception;
+            }
         } else {
             paymentRequest(checkout);
         }
@@ -203,17 +231,47 @@ public class DomainCheckoutService {
         return checkout;
     }
 
-    public CompleteCheckoutResult complete(@NotNull final Long checkoutId) {
+    /**
+     * Creates the payment of the checkout, or updates its amount if the total price changed since,
+     * so that it can be confirmed by the customer.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public Checkout preparePayment(@NotNull final Long checkoutId) {
         final Checkout checkout = checkoutRepository.findById(checkoutId);
 
-        final String paymentId = checkout.getPaymentId();
+        if (checkout.hasPayment()) {
+            syncPaymentAmount(checkoutId);
+        } else {
+            paymentRequest(checkout);
+        }
 
-        final Payment payment = paymentGateway.findById(paymentId)
-                .orElseThrow(() -> new EntityDoesNotExistException(Payment.class, paymentId));
+        return transaction.execute(status -> checkoutRepository.findById(checkoutId));
+    }
 
-        final Order order = orderRepository.save(checkout.complete(payment));
+    @Transactional(propagation = Propagation.NEVER)
+    public CompleteCheckoutResult complete(@NotNull final Long checkoutId) {
+        if (paymentSyncMode.isLazy()) {
+            syncPaymentAmount(checkoutId);
+        }
 
-        checkoutRepository.remove(checkout);
+        final Payment payment = findPayment(checkoutId);
+
+        final Order order = transaction.execute(status -> {
+            final Checkout checkout = checkoutRepository.findById(checkoutId);
+            final Order o = orderRepository.save(checkout.complete(payment));
+            if (Boolean.TRUE.equals(checkout.getSavePaymentMethodAsDefault())) {
+                eventPublisher.publishEvent(
+                        PaymentMethodsChangedEvent.builder()
+                                .customerId(checkoutId)
+                                .build()
+                );
+                changeNotifier.publish(User.class, PaymentMethodsChangedEvent.USER_PROPERTY, List.of(checkoutId));
+            }
+            checkoutRepository.remove(checkout);
+            return o;
+        });
+
+        capture(payment, order);
 
         return CompleteCheckoutResult.builder()
                 .createdOrder(order)
@@ -221,13 +279,137 @@ public class DomainCheckoutService {
                 .build();
     }
 
+    @Transactional(propagation = Propagation.NEVER)
     public void cancel(@NotNull final Long checkoutId) {
-        final Checkout checkout = checkoutRepository.findById(checkoutId);
+        final String paymentId = checkoutRepository.findById(checkoutId).getPaymentId();
 
-        paymentGateway.findById(checkout.getPaymentId())
+        paymentGateway.findById(paymentId)
                 .ifPresent(Payment::cancel);
 
+        transaction.executeWithoutResult(status -> remove(checkoutRepository.findById(checkoutId)));
+    }
+
+    /**
+     * Removes at most {@code limit} checkouts that have not been changed since {@code before}.
+     * The payments of the removed checkouts are left to be cancelled with {@link #cancelPayment},
+     * a checkout that is completed concurrently is either removed before it is completed or not removed at all.
+     */
+    public RemoveExpiredCheckoutsResult removeExpired(
+            @NotNull final LocalDateTime before,
+            @Positive final int limit
+    ) {
+        final List<Checkout> checkouts = checkoutRepository.findAllInactiveSinceForUpdate(before, limit);
+
+        final List<String> paymentIds = checkouts.stream()
+                .map(Checkout::getPaymentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        final List<Long> checkoutIds = checkouts.stream()
+                .map(Checkout::getId)
+                .collect(Collectors.toList());
+
+        final List<CheckoutLine> reservedLines = checkoutLineRepository.findAllReservedByCheckoutIds(checkoutIds);
+
+        checkoutRepository.removeAllByIds(checkoutIds);
+
+        release(reservedLines);
+
+        return RemoveExpiredCheckoutsResult.builder()
+                .removedCount(checkouts.size())
+                .paymentIds(paymentIds)
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.NEVER)
+    public void cancelPayment(@NotBlank final String paymentId) {
+        paymentGateway.findById(paymentId)
+                .ifPresent(Payment::cancel);
+    }
+
+    // the payment is only retrieved from the gateway when no webhook has reported its authorization yet
+    private Payment findPayment(final Long checkoutId) {
+        final Checkout checkout = checkoutRepository.findById(checkoutId);
+        if (checkout.isPaymentAuthorized()) {
+            return paymentGateway.authorized(checkout);
+        }
+        final String paymentId = checkout.getPaymentId();
+        return paymentGateway.findById(paymentId)
+                .orElseThrow(() -> new EntityDoesNotExistException(Payment.class, paymentId));
+    }
+
+    private CreateCheckoutResult checkout(
+            final Supplier<User> customer,
+            final String ipAddress,
+            final CreateCheckoutForm form
+    ) {
+        final CreateCheckoutResult result = transaction.execute(status -> createCheckout(customer.get(), ipAddress, form));
+
+        final Checkout checkout = result.getCreatedCheckout();
+
+        if (!checkout.isShippingRequired() && !paymentSyncMode.isLazy()) {
+            try {
+                paymentRequest(checkout);
+            } catch (final RuntimeException exception) {
+                // an anonymous customer created along with the checkout is left to the reaper of anonymous users
+                transaction.executeWithoutResult(status -> remove(checkoutRepository.findById(checkout.getId())));
+                throw exception;
+            }
+        } else {
+            // the payment is requested later on, by when the customer has usually been provisioned in the background
+            eventPublisher.publishEvent(
+                    ExternalCustomerRequestedEvent.builder()
+                            .userId(checkout.getCustomer().getId())
+                            .build()
+            );
+        }
+
+        return result;
+    }
+
+    private CreateCheckoutResult createCheckout(
+            final User customer,
+            final String ipAddress,
+            final CreateCheckoutForm form
+    ) {
+        final List<PreCheckoutLine> lines = getPreCheckoutLines(form.getLines());
+
+        final Configuration configuration = configurationRepository.getConfiguration();
+
+        final Checkout checkout = checkoutRepository.save(
+                Checkout.builder()
+                        .customer(customer)
+                        .lines(lines)
+                        .email(form.getEmail())
+                        .currency(configuration.getCurrency())
+                        .ipAddress(ipAddress)
+                        .massUnit(configuration.getMassUnit())
+                        .build()
+        );
+
+        return CreateCheckoutResult.builder()
+                .createdCheckout(checkout)
+                .createdLines(checkoutLineRepository.saveAll(checkout.getLines()))
+                .build();
+    }
+
+    private void remove(final Checkout checkout) {
+        final List<CheckoutLine> reservedLines = checkout.getLines().stream()
+                .filter(CheckoutLine::isReserved)
+                .collect(Collectors.toList());
         checkoutRepository.remove(checkout);
+        release(reservedLines);
+    }
+
+    // the units are given back in the order of the variant ids, like they are reserved
+    private void release(final List<CheckoutLine> reservedLines) {
+        reservedLines.stream()
+                .collect(Collectors.groupingBy(
+                        CheckoutLine::getReservedVariantId,
+                        TreeMap::new,
+                        Collectors.summingInt(CheckoutLine::getQuantity)
+                ))
+                .forEach(inventoryRepository::release);
     }
 
     private void preLoadProducts(final List<ProductVariant> variants) {
@@ -246,6 +428,15 @@ public class DomainCheckoutService {
         return customer;
     }
 
+    // like the users created for anonymous visitors up front, the customer has neither an email nor a password
+    private User createAnonymousCustomer() {
+        return userRepository.save(
+                User.builder()
+                        .role(roleRepository.findByType(RoleType.Customer))
+                        .build()
+        );
+    }
+
     private List<PreCheckoutLine> getPreCheckoutLines(final List<Line> lines) {
         final MergedLines mergedLines = MergedLines.merge(lines);
 
@@ -253,23 +444,124 @@ public class DomainCheckoutService {
 
         preLoadProducts(variants);
 
+        final Set<Long> reservedIds = reserve(variants, mergedLines);
+
         return variants.stream()
                 .map(v -> PreCheckoutLine.builder()
                         .variant(v)
                         .quantity(mergedLines.getQuantity(v.getId()))
+                        .reserved(reservedIds.contains(v.getId()))
                         .build())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Reserves the units of the variants whose stock is tracked, in the order of their ids.
+     * If one of them is not in stock the transaction is rolled back, which gives back the units reserved before it.
+     * @return the ids of the variants units were reserved of
+     */
+    private Set<Long> reserve(final List<ProductVariant> variants, final MergedLines mergedLines) {
+        final Set<Long> trackedIds = new TreeSet<>(
+                inventoryRepository.findAllTrackedVariantIds(
+                        variants.stream()
+                                .map(ProductVariant::getId)
+                                .collect(Collectors.toSet())
+                )
+        );
+        for (final Long variantId : trackedIds) {
+            if (!inventoryRepository.reserve(variantId, mergedLines.getQuantity(variantId))) {
+                throw new ServiceException(String.format(INSUFFICIENT_STOCK, variantId));
+            }
+        }
+        return trackedIds;
+    }
+
     private void paymentRequest(final Checkout checkout) {
-        final User customer = checkout.getCustomer();
-        String customerId = customer.getExternalId();
-        if (customerId == null) {
-            customerId = paymentGateway.createCustomer();
-            customer.setExternalId(customerId);
+        final String customerId = findOrCreateExternalCustomer(checkout.getId());
+        final Long amount = checkout.getTotalPrice();
+        final Payment payment = paymentGateway.request(amount, checkout.getCurrency(), customerId);
+        try {
+            transaction.executeWithoutResult(status ->
+                    checkoutRepository.findById(checkout.getId()).setPayment(payment, amount));
+        } catch (final RuntimeException exception) {
+            cancelQuietly(payment);
+            throw exception;
+        }
+        checkout.setPayment(payment, amount);
+    }
+
+    // the total price may change while the gateway is called, in which case the payment is updated again
+    private void syncPaymentAmount(final Long checkoutId) {
+        for (int attempt = 0; attempt < MAX_PAYMENT_SYNC_ATTEMPTS; attempt++) {
+            final Checkout checkout = transaction.execute(status -> {
+                final Checkout c = checkoutRepository.findByIdForUpdate(checkoutId);
+                if (!c.hasPayment() || c.isPaymentSynced()) {
+                    return null;
+                }
+                c.startPaymentSync();
+                return c;
+            });
+            if (checkout == null) {
+                return;
+            }
+
+            final int version = checkout.getPaymentSyncVersion();
+            final Long amount = checkout.getTotalPrice();
+            final String paymentId = checkout.getPaymentId();
+            paymentGateway.findById(paymentId)
+                    .orElseThrow(() -> new EntityDoesNotExistException(Payment.class, paymentId))
+                    .update(checkout);
+
+            final boolean synced = transaction.execute(status -> {
+                final Checkout c = checkoutRepository.findByIdForUpdate(checkoutId);
+                return c.completePaymentSync(version, amount) && c.isPaymentSynced();
+            });
+            if (synced) {
+                return;
+            }
+        }
+        throw new ServiceException(String.format(CHECKOUT_PAYMENT_NOT_SYNCED, checkoutId));
+    }
+
+    // the customer is only created inline when background provisioning has not caught up yet,
+    // it is set with the user locked, so that a customer provisioned in the meantime is kept rather than overwritten
+    private String findOrCreateExternalCustomer(final Long checkoutId) {
+        final String externalId = transaction.execute(status ->
+                checkoutRepository.findById(checkoutId).getCustomer().getExternalId());
+        if (externalId != null) {
+            return externalId;
+        }
+        final String createdId = paymentGateway.createCustomer();
+        return transaction.execute(status -> {
+            // a checkout shares the id of its customer
+            final User customer = userRepository.findByIdForUpdate(checkoutId);
+            if (customer.getExternalId() == null) {
+                customer.setExternalId(createdId);
+            }
+            return customer.getExternalId();
+        });
+    }
+
+    private void capture(final Payment payment, final Order order) {
+        try {
+            payment.capture();
+        } catch (final GatewayException exception) {
+            // the order is only cancelled once the authorization is known to be released,
+            // a failed capture may still have gone through on the gateway
+            if (cancelQuietly(payment)) {
+                transaction.executeWithoutResult(status -> orderRepository.findById(order.getId()).cancel());
+            }
+            throw exception;
+        }
+    }
+
+    private static boolean cancelQuietly(final Payment payment) {
+        try {
+            payment.cancel();
+            return true;
+        } catch (final GatewayException exception) {
+            return false;
         }
-        final Payment payment = paymentGateway.request(checkout.getTotalPrice(), checkout.getCurrency(), customerId);
-        checkout.setPayment(payment);
     }
 
 }
@@ -0,0 +1,17 @@
+package com.j2c.j2c.service.domain.checkout;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RemoveExpiredCheckoutsResult {
+
+    private final int removedCount;
+
+    @NonNull
+    private final List<String> paymentIds;
+
+}
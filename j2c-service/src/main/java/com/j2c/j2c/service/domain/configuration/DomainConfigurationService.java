@@ -1,6 +1,7 @@
 package com.j2c.j2c.service.domain.configuration;
 
 import com.j2c.j2c.domain.entity.Configuration;
+import com.j2c.j2c.domain.repository.ChangeNotifier;
 import com.j2c.j2c.domain.repository.ConfigurationRepository;
 import com.j2c.j2c.service.input.ConfigurationForm;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.validation.annotation.Validated;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 
@@ -20,6 +22,7 @@ import static com.j2c.j2c.domain.util.J2cUtils.optional;
 public class DomainConfigurationService {
 
     private final ConfigurationRepository configurationRepository;
+    private final ChangeNotifier changeNotifier;
 
     public Configuration configure(@NotNull @Valid final ConfigurationForm form) {
         final Configuration configuration = configurationRepository.getConfiguration();
@@ -27,6 +30,8 @@ public class DomainConfigurationService {
         optional(form.getCurrency()).ifPresent(configuration::setCurrency);
         optional(form.getMassUnit()).ifPresent(configuration::setMassUnit);
 
+        changeNotifier.publish(Configuration.class, List.of(configuration.getId()));
+
         return configuration;
     }
 
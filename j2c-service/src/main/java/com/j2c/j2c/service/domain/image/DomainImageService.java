@@ -0,0 +1,66 @@
+package com.j2c.j2c.service.domain.image;
+
+import com.j2c.j2c.domain.entity.UploadedImage;
+import com.j2c.j2c.domain.repository.ProductCategoryRepository;
+import com.j2c.j2c.domain.repository.ProductRepository;
+import com.j2c.j2c.domain.repository.ProductVariantImageRepository;
+import com.j2c.j2c.domain.repository.UploadedImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Validated
+@Transactional
+@RequiredArgsConstructor
+public class DomainImageService {
+
+    private final UploadedImageRepository uploadedImageRepository;
+    private final ProductRepository productRepository;
+    private final ProductVariantImageRepository variantImageRepository;
+    private final ProductCategoryRepository categoryRepository;
+
+    /**
+     * Removes at most {@code limit} uploaded images that were created before {@code before}, images are removed
+     * once they are assigned, so these were never assigned to a product or category.
+     * Their files are left in the store.
+     * @return the number of removed images
+     */
+    public int removeUnassigned(
+            @NotNull final LocalDateTime before,
+            @Positive final int limit
+    ) {
+        final List<UploadedImage> uploadedImages = uploadedImageRepository.findAllCreatedBeforeForUpdate(before, limit);
+
+        uploadedImageRepository.removeAll(uploadedImages);
+
+        return uploadedImages.size();
+    }
+
+    /**
+     * @return those of the given filenames that belong to no uploaded image and are the image of
+     * no product, variant or category
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findUnreferenced(@NotNull final Collection<String> filenames) {
+        final Set<String> unreferenced = new HashSet<>(filenames);
+        if (unreferenced.isEmpty()) {
+            return unreferenced;
+        }
+        uploadedImageRepository.findFilenamesIn(unreferenced).forEach(unreferenced::remove);
+        productRepository.findFilenamesIn(unreferenced).forEach(unreferenced::remove);
+        variantImageRepository.findFilenamesIn(unreferenced).forEach(unreferenced::remove);
+        categoryRepository.findFilenamesIn(unreferenced).forEach(unreferenced::remove);
+        return unreferenced;
+    }
+
+}
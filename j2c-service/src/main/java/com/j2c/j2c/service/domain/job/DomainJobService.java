@@ -0,0 +1,82 @@
+package com.j2c.j2c.service.domain.job;
+
+import com.j2c.j2c.domain.entity.JobLease;
+import com.j2c.j2c.domain.repository.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Hands out the leases of the periodic jobs, so that each job is run by one node at a time.
+ */
+@Service
+@Validated
+@Transactional
+@RequiredArgsConstructor
+public class DomainJobService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+
+    /**
+     * Takes the lease of the job for {@code owner} until {@code until}, unless another owner holds it
+     * or the job is not due yet.
+     * @return the lease, which tells where the run resumes, or empty if it was not taken
+     */
+    public Optional<JobLease> acquireLease(
+            @NotBlank final String jobName,
+            @NotBlank final String owner,
+            @NotNull final LocalDateTime until
+    ) {
+        final LocalDateTime now = now();
+        jobLeaseRepository.createIfAbsent(jobName, now);
+        final JobLease lease = jobLeaseRepository.findByIdForUpdate(jobName);
+        if (!lease.isAvailableTo(owner, now)) {
+            return Optional.empty();
+        }
+        lease.acquire(owner, until);
+        return Optional.of(lease);
+    }
+
+    /**
+     * Records where the run of the job resumes and extends the lease of {@code owner} until {@code until}.
+     * @return false if {@code owner} no longer holds the lease, the job is then being run by another node
+     */
+    public boolean renewLease(
+            @NotBlank final String jobName,
+            @NotBlank final String owner,
+            final String checkpoint,
+            @NotNull final LocalDateTime until
+    ) {
+        final JobLease lease = jobLeaseRepository.findByIdForUpdate(jobName);
+        if (!lease.isHeldBy(owner)) {
+            return false;
+        }
+        lease.renew(checkpoint, until);
+        return true;
+    }
+
+    /**
+     * Gives up the lease of {@code owner}, if it still holds it, so that the job is taken up again from
+     * {@code checkpoint} by whichever node runs it first at or after {@code until}.
+     */
+    public void releaseLease(
+            @NotBlank final String jobName,
+            @NotBlank final String owner,
+            final String checkpoint,
+            @NotNull final LocalDateTime until
+    ) {
+        final JobLease lease = jobLeaseRepository.findByIdForUpdate(jobName);
+        if (lease.isHeldBy(owner)) {
+            lease.release(checkpoint, until);
+        }
+    }
+
+}
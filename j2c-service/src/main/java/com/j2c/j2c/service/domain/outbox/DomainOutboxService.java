@@ -0,0 +1,88 @@
+package com.j2c.j2c.service.domain.outbox;
+
+import com.j2c.j2c.domain.entity.OutboxEvent;
+import com.j2c.j2c.domain.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Stores events in the transaction of the change they are about, so that they are delivered
+ * if and only if that change commits, even if the application stops right after the commit.
+ */
+@Service
+@Validated
+@Transactional
+@RequiredArgsConstructor
+public class DomainOutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void store(@NotNull final Object event) {
+        final OutboxEvent outboxEvent = outboxEventRepository.save(
+                OutboxEvent.builder()
+                        .type(OutboxPayloads.type(event.getClass()))
+                        .payload(OutboxPayloads.write(event))
+                        .build()
+        );
+
+        eventPublisher.publishEvent(
+                OutboxEventStoredEvent.builder()
+                        .eventId(outboxEvent.getId())
+                        .build()
+        );
+    }
+
+    /**
+     * Claims at most {@code limit} events that are due, the oldest first, so that no other node delivers them
+     * until {@code until}. Events that another node is claiming at the same time are skipped.
+     */
+    public List<OutboxEvent> claimAvailable(
+            @Positive final int maxAttempts,
+            @Positive final int limit,
+            @NotNull final LocalDateTime until
+    ) {
+        final List<OutboxEvent> events = outboxEventRepository.findAllAvailableForUpdate(maxAttempts, now(), limit);
+        events.forEach(e -> e.claim(until));
+        return events;
+    }
+
+    public void markProcessed(@NotNull final UUID eventId) {
+        outboxEventRepository.findByIdDoNotThrow(eventId)
+                .ifPresent(OutboxEvent::markProcessed);
+    }
+
+    public void recordFailedAttempt(@NotNull final UUID eventId, @NotNull final LocalDateTime retryAt) {
+        outboxEventRepository.findByIdDoNotThrow(eventId)
+                .ifPresent(e -> e.recordFailedAttempt(retryAt));
+    }
+
+    /**
+     * Removes at most {@code limit} events that were processed, or abandoned after {@code maxAttempts} failed attempts,
+     * before the given time.
+     * @return the number of removed events
+     */
+    public int removeFinished(
+            @Positive final int maxAttempts,
+            @NotNull final LocalDateTime before,
+            @Positive final int limit
+    ) {
+        final List<OutboxEvent> events = outboxEventRepository.findAllFinishedBefore(maxAttempts, before, limit);
+
+        outboxEventRepository.removeAll(events);
+
+        return events.size();
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.j2c.j2c.service.domain.outbox;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handles the events of one type that were stored with {@link DomainOutboxService#store(Object)}.
+ * An event is delivered at least once, it may be delivered again if its handling failed or was not
+ * recorded in time, so handling must tolerate being repeated.
+ *
+ * @param <E> the type of the events, read from their stored payload
+ */
+public interface OutboxEventHandler<E> {
+
+    Class<E> getEventType();
+
+    /**
+     * @param idempotencyKey the id of the stored event, the same for every delivery of it
+     * @return completes when the event has been handled, exceptionally if its handling failed
+     */
+    CompletableFuture<Void> handle(E event, UUID idempotencyKey);
+
+}
@@ -0,0 +1,15 @@
+package com.j2c.j2c.service.domain.outbox;
+
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutboxEventStoredEvent {
+
+    @NonNull
+    private final UUID eventId;
+
+}
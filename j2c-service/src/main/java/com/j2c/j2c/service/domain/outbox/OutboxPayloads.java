@@ -0,0 +1,40 @@
+package com.j2c.j2c.service.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+
+/**
+ * Converts events to and from the payloads they are stored with.
+ * The mapper is private to the outbox, so that the format of stored payloads does not change
+ * with the configuration of the web layer.
+ */
+public final class OutboxPayloads {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private OutboxPayloads() {}
+
+    public static String type(@NonNull final Class<?> eventType) {
+        return eventType.getSimpleName();
+    }
+
+    public static String write(@NonNull final Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalArgumentException("event of type " + type(event.getClass()) + " cannot be stored", exception);
+        }
+    }
+
+    public static <E> E read(@NonNull final String payload, @NonNull final Class<E> eventType) {
+        try {
+            return objectMapper.readValue(payload, eventType);
+        } catch (final JsonProcessingException exception) {
+            throw new IllegalStateException("payload cannot be read as " + type(eventType), exception);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.j2c.j2c.service.domain.payment;
+
+import com.j2c.j2c.domain.entity.Checkout;
+import com.j2c.j2c.domain.entity.Order;
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import com.j2c.j2c.domain.entity.User;
+import com.j2c.j2c.domain.enums.OrderStatus;
+import com.j2c.j2c.domain.repository.ChangeNotifier;
+import com.j2c.j2c.domain.repository.CheckoutRepository;
+import com.j2c.j2c.domain.repository.OrderRepository;
+import com.j2c.j2c.domain.repository.PaymentEventRepository;
+import com.j2c.j2c.service.domain.user.PaymentMethodsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.List;
+
+@Service
+@Validated
+@Transactional
+@RequiredArgsConstructor
+public class DomainPaymentEventService {
+
+    private final PaymentEventRepository paymentEventRepository;
+    private final CheckoutRepository checkoutRepository;
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeNotifier changeNotifier;
+
+    public void store(@NotNull final PaymentEvent event) {
+        if (paymentEventRepository.existsById(event.getId())) {
+            return;
+        }
+
+        paymentEventRepository.save(event);
+
+        eventPublisher.publishEvent(
+                PaymentEventStoredEvent.builder()
+                        .eventId(event.getId())
+                        .build()
+        );
+    }
+
+    public void process(@NotNull final String eventId) {
+        final PaymentEvent event = paymentEventRepository.findByIdForUpdate(eventId);
+
+        if (event.isProcessed()) {
+            return;
+        }
+
+        final String paymentId = event.getPaymentId();
+
+        switch (event.getType()) {
+            case AUTHORIZED:
+                checkoutRepository.findByPaymentId(paymentId)
+                        .ifPresent(c -> {
+                            c.authorizePayment(event.getAmount(), event.getPaymentMethodId());
+                            // the payment method may have been attached to the customer by the authorization
+                            eventPublisher.publishEvent(
+                                    PaymentMethodsChangedEvent.builder()
+                                            .customerId(c.getId())
+                                            .build()
+                            );
+                            changeNotifier.publish(User.class, PaymentMethodsChangedEvent.USER_PROPERTY, List.of(c.getId()));
+                        });
+                break;
+            case FAILED:
+                checkoutRepository.findByPaymentId(paymentId)
+                        .ifPresent(Checkout::revokePaymentAuthorization);
+                break;
+            case CANCELED:
+                checkoutRepository.findByPaymentId(paymentId)
+                        .ifPresent(Checkout::revokePaymentAuthorization);
+                orderRepository.findByPaymentId(paymentId)
+                        .filter(o -> !OrderStatus.CANCELLED.equals(o.getStatus()))
+                        .ifPresent(Order::cancel);
+                break;
+        }
+
+        event.markProcessed();
+    }
+
+    public void recordFailedAttempt(@NotNull final String eventId) {
+        paymentEventRepository.findById(eventId).recordFailedAttempt();
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findPendingIds(@Positive final int maxAttempts, @Positive final int limit) {
+        return paymentEventRepository.findPendingIds(maxAttempts, limit);
+    }
+
+}
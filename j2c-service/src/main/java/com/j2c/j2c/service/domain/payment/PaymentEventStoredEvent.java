@@ -0,0 +1,13 @@
+package com.j2c.j2c.service.domain.payment;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentEventStoredEvent {
+
+    @NonNull
+    private final String eventId;
+
+}
@@ -0,0 +1,30 @@
+package com.j2c.j2c.service.domain.product;
+
+import com.j2c.j2c.service.domain.outbox.OutboxEventHandler;
+import com.j2c.j2c.service.image.ImageStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class AssignProductCategoryImageEventHandler implements OutboxEventHandler<AssignProductCategoryImageEvent> {
+
+    private final ImageStore imageStore;
+
+    @Override
+    public Class<AssignProductCategoryImageEvent> getEventType() {
+        return AssignProductCategoryImageEvent.class;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(final AssignProductCategoryImageEvent event, final UUID idempotencyKey) {
+        return imageStore.assignToCategory(
+                event.getUploadedImageId(),
+                event.getRootCategoryId()
+        );
+    }
+
+}
@@ -1,12 +1,14 @@
 package com.j2c.j2c.service.domain.product;
 
 import lombok.*;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.Set;
 import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class AssignProductImagesEvent {
 
@@ -2,7 +2,9 @@ package com.j2c.j2c.service.domain.product;
 
 import com.j2c.j2c.domain.entity.*;
 import com.j2c.j2c.domain.repository.*;
+import com.j2c.j2c.service.domain.outbox.DomainOutboxService;
 import com.j2c.j2c.service.input.*;
+import com.google.common.collect.Sets;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import static com.j2c.j2c.domain.util.J2cUtils.optional;
 public class DomainProductService {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final DomainOutboxService outboxService;
     private final UploadedImageRepository uploadedImageRepository;
     private final ProductTagRepository tagRepository;
     private final ProductCategoryRepository categoryRepository;
@@ -30,6 +33,12 @@ public class DomainProductService {
     private final ProductRepository productRepository;
     private final ProductVariantRepository variantRepository;
     private final ProductVariantImageRepository variantImageRepository;
+    private final InventoryStripeRepository inventoryRepository;
+    private final SecondLevelCache secondLevelCache;
+    private final ChangeNotifier changeNotifier;
+    private final ProductCategoryFacetRepository categoryFacetRepository;
+    private final ProductTagFacetRepository tagFacetRepository;
+    private final CollectionVersionRepository collectionVersionRepository;
 
     public CreateProductResult create(@NotNull @Valid final CreateProductForm form) {
         final Product product = productRepository.save(
@@ -55,6 +64,8 @@ public class DomainProductService {
 
         final List<ProductTag> addedTags = addTags(product, form.getTagIds());
 
+        collectionVersionRepository.increment(Product.class);
+
         return CreateProductResult.builder()
                 .createdProduct(product)
                 .createdVariant(product.getDefaultVariant())
@@ -68,6 +79,8 @@ public class DomainProductService {
     ) {
         final Product product = productRepository.findById(productId);
 
+        final ProductFacetMembership facetMembership = getFacetMembership(product);
+
         optional(form.getName()).ifPresent(product::setName);
         optional(form.getDescription()).ifPresent(product::setDescription);
         optional(form.getPrice()).ifPresent(product::setDefaultPrice);
@@ -82,6 +95,10 @@ public class DomainProductService {
 
         final List<ProductTag> removedTags = removeTags(product, form.getTagsToRemove());
 
+        updateFacets(facetMembership, getFacetMembership(product));
+
+        productChanged(product);
+
         return UpdateProductResult.builder()
                 .updatedProduct(product)
                 .addedTags(addedTags)
@@ -92,16 +109,28 @@ public class DomainProductService {
     public Product publish(@NotNull final Long productId) {
         final Product product = productRepository.findById(productId);
 
+        final ProductFacetMembership facetMembership = getFacetMembership(product);
+
         product.publish();
 
+        updateFacets(facetMembership, getFacetMembership(product));
+
+        productChanged(product);
+
         return productRepository.save(product);
     }
 
     public Product unpublish(@NotNull final Long productId) {
         final Product product = productRepository.findById(productId);
 
+        final ProductFacetMembership facetMembership = getFacetMembership(product);
+
         product.unpublish();
 
+        updateFacets(facetMembership, ProductFacetMembership.none());
+
+        productChanged(product);
+
         return productRepository.save(product);
     }
 
@@ -110,7 +139,11 @@ public class DomainProductService {
 
         removeProductImages(product, getAllProductImageFilenames(product));
 
+        updateFacets(getFacetMembership(product), ProductFacetMembership.none());
+
         productRepository.remove(product);
+
+        productChanged(product);
     }
 
     public CreateProductVariantResult createVariant(
@@ -128,8 +161,12 @@ public class DomainProductService {
                         .add()
         );
 
+        optional(form.getStock()).ifPresent(stock -> inventoryRepository.setAvailable(variant, stock));
+
         final List<ProductVariantImage> images = addImages(variant, form.getImageIds());
 
+        productChanged(product);
+
         return CreateProductVariantResult.builder()
                 .createdVariant(variant)
                 .createdImages(images)
@@ -149,11 +186,14 @@ public class DomainProductService {
         optional(form.getName()).ifPresent(variant::setName);
         optional(form.getMass()).ifPresent(variant::setMass);
         optional(form.getPrice()).ifPresent(variant::setPrice);
+        optional(form.getStock()).ifPresent(stock -> inventoryRepository.setAvailable(variant, stock));
 
         removeImages(variant, form.getImagesToRemoveIds());
 
         final List<ProductVariantImage> addedImages = addImages(variant, form.getImagesToAddIds());
 
+        productChanged(product);
+
         return UpdateProductVariantResult.builder()
                 .updatedVariant(variant)
                 .addedImages(addedImages)
@@ -167,6 +207,8 @@ public class DomainProductService {
                 .verifyBelongsToProduct(product);
 
         product.removeVariant(variant);
+
+        productChanged(product);
     }
 
     public ProductCategory createCategory(@NotNull @Valid final CreateProductCategoryForm form) {
@@ -179,6 +221,14 @@ public class DomainProductService {
 
         setImage(category, form.getImageId());
 
+        categoryFacetRepository.save(
+                ProductCategoryFacet.builder()
+                        .category(category)
+                        .build()
+        );
+
+        collectionVersionRepository.increment(ProductCategory.class);
+
         return category;
     }
 
@@ -190,6 +240,9 @@ public class DomainProductService {
 
         setImage(category, form.getNewImageId());
 
+        collectionVersionRepository.increment(ProductCategory.class);
+        changeNotifier.publish(ProductCategory.class, List.of(categoryId));
+
         return category;
     }
 
@@ -197,7 +250,7 @@ public class DomainProductService {
             @NotNull final Long parentCategoryId,
             @NotNull @Valid final CreateProductCategoryForm form
     ) {
-        final ProductCategory parentCategory = categoryRepository.findById(parentCategoryId);
+        final ProductCategory parentCategory = categoryRepository.findByIdForNewSubCategory(parentCategoryId);
 
         final ProductCategory subCategory = categoryRepository.save(
                 parentCategory.newSubCategory()
@@ -208,6 +261,16 @@ public class DomainProductService {
 
         setImage(subCategory, form.getImageId());
 
+        categoryFacetRepository.save(
+                ProductCategoryFacet.builder()
+                        .category(subCategory)
+                        .build()
+        );
+
+        secondLevelCache.evictCollection(ProductCategory.class, "subCategories", parentCategoryId);
+        collectionVersionRepository.increment(ProductCategory.class);
+        changeNotifier.publish(ProductCategory.class, List.of(parentCategoryId));
+
         return subCategory;
     }
 
@@ -219,14 +282,29 @@ public class DomainProductService {
         }
 
         categoryRepository.remove(category);
+
+        categoryChanged(category);
+
+        optional(category.getParent()).ifPresent(parent ->
+                secondLevelCache.evictCollection(ProductCategory.class, "subCategories", parent.getId()));
     }
 
     public ProductTag createTag(@NotNull @Valid final CreateProductTagForm form) {
-        return tagRepository.save(
+        final ProductTag tag = tagRepository.save(
                 ProductTag.builder()
                         .name(form.getName())
                         .build()
         );
+
+        tagFacetRepository.save(
+                ProductTagFacet.builder()
+                        .tag(tag)
+                        .build()
+        );
+
+        collectionVersionRepository.increment(ProductTag.class);
+
+        return tag;
     }
 
     public ProductTag updateTag(@NotNull final Long tagId, @NotNull @Valid final UpdateProductTagForm form) {
@@ -234,12 +312,16 @@ public class DomainProductService {
 
         optional(form.getName()).ifPresent(tag::setName);
 
+        tagChanged(tag);
+
         return tag;
     }
 
     public void deleteTag(@NotNull final Long tagId) {
         final ProductTag tag = tagRepository.findById(tagId);
 
+        tagChanged(tag);
+
         tagRepository.remove(tag);
     }
 
@@ -376,11 +458,66 @@ public class DomainProductService {
         return allFilenames;
     }
 
+    private ProductFacetMembership getFacetMembership(final Product product) {
+        if (!product.isPublished()) {
+            return ProductFacetMembership.none();
+        }
+        final Long categoryId = optional(product.getCategory())
+                .map(ProductCategory::getId)
+                .orElse(null);
+        final Set<Long> tagIds = productToTagAssociationRepository.findTagIdsByProductId(product.getId());
+        return ProductFacetMembership.of(categoryId, tagIds);
+    }
+
+    private void updateFacets(final ProductFacetMembership before, final ProductFacetMembership after) {
+        if (!Objects.equals(before.getCategoryId(), after.getCategoryId())) {
+            optional(before.getCategoryId()).ifPresent(categoryId -> categoryFacetRepository.addToProductCount(categoryId, -1));
+            optional(after.getCategoryId()).ifPresent(categoryId -> categoryFacetRepository.addToProductCount(categoryId, 1));
+        }
+        tagFacetRepository.addToProductCount(Sets.difference(before.getTagIds(), after.getTagIds()), -1);
+        tagFacetRepository.addToProductCount(Sets.difference(after.getTagIds(), before.getTagIds()), 1);
+    }
+
+    private void productChanged(final Product product) {
+        product.markAsModified();
+        collectionVersionRepository.increment(Product.class);
+        changeNotifier.publish(Product.class, List.of(product.getId()));
+        eventPublisher.publishEvent(
+                ProductChangedEvent.builder()
+                        .productId(product.getId())
+                        .build()
+        );
+    }
+
+    private void tagChanged(final ProductTag tag) {
+        productRepository.markAsModifiedByTagId(tag.getId());
+        collectionVersionRepository.increment(ProductTag.class);
+        collectionVersionRepository.increment(Product.class);
+        changeNotifier.publish(ProductTag.class, List.of(tag.getId()));
+        eventPublisher.publishEvent(
+                ProductTagChangedEvent.builder()
+                        .tagId(tag.getId())
+                        .build()
+        );
+    }
+
+    // the products of a removed category are moved out of it
+    private void categoryChanged(final ProductCategory category) {
+        collectionVersionRepository.increment(ProductCategory.class);
+        collectionVersionRepository.increment(Product.class);
+        changeNotifier.publish(ProductCategory.class, List.of(category.getId()));
+        eventPublisher.publishEvent(
+                ProductCategoryChangedEvent.builder()
+                        .categoryId(category.getId())
+                        .build()
+        );
+    }
+
     private void assignCategoryImage(final ProductCategory category, final UploadedImage image) {
         if (image == null) {
             return;
         }
-        eventPublisher.publishEvent(
+        outboxService.store(
                 AssignProductCategoryImageEvent.builder()
                         .uploadedImageId(image.getId())
                         .rootCategoryId(category.getRootCategoryId())
@@ -392,7 +529,7 @@ public class DomainProductService {
         if (filenames == null || filenames.isEmpty()) {
             return;
         }
-        eventPublisher.publishEvent(
+        outboxService.store(
                 RemoveProductCategoryImagesEvent.builder()
                         .imageFilenames(filenames)
                         .rootCategoryId(category.getRootCategoryId())
@@ -407,7 +544,7 @@ public class DomainProductService {
         final Set<UUID> imageIds = images.stream()
                 .map(UploadedImage::getId)
                 .collect(Collectors.toSet());
-        eventPublisher.publishEvent(
+        outboxService.store(
                 AssignProductImagesEvent.builder()
                         .uploadedImageIds(imageIds)
                         .productId(product.getId())
@@ -419,7 +556,7 @@ public class DomainProductService {
         if (filenames == null || filenames.isEmpty()) {
             return;
         }
-        eventPublisher.publishEvent(
+        outboxService.store(
                 RemoveProductImagesEvent.builder()
                         .imageFilenames(filenames)
                         .productId(product.getId())
@@ -0,0 +1,30 @@
+package com.j2c.j2c.service.domain.product;
+
+import lombok.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * The category and tags whose facet counts include a product, none unless the product is published.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class ProductFacetMembership {
+
+    private static final ProductFacetMembership NONE = new ProductFacetMembership(null, Collections.emptySet());
+
+    private final Long categoryId;
+
+    @NonNull
+    private final Set<Long> tagIds;
+
+    static ProductFacetMembership none() {
+        return NONE;
+    }
+
+    static ProductFacetMembership of(final Long categoryId, final Set<Long> tagIds) {
+        return new ProductFacetMembership(categoryId, tagIds);
+    }
+
+}
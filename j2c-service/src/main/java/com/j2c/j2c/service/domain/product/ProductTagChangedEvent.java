@@ -0,0 +1,13 @@
+package com.j2c.j2c.service.domain.product;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductTagChangedEvent {
+
+    @NonNull
+    private final Long tagId;
+
+}
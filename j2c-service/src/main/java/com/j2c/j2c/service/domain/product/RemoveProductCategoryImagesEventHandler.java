@@ -0,0 +1,30 @@
+package com.j2c.j2c.service.domain.product;
+
+import com.j2c.j2c.service.domain.outbox.OutboxEventHandler;
+import com.j2c.j2c.service.image.ImageStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class RemoveProductCategoryImagesEventHandler implements OutboxEventHandler<RemoveProductCategoryImagesEvent> {
+
+    private final ImageStore imageStore;
+
+    @Override
+    public Class<RemoveProductCategoryImagesEvent> getEventType() {
+        return RemoveProductCategoryImagesEvent.class;
+    }
+
+    @Override
+    public CompletableFuture<Void> handle(final RemoveProductCategoryImagesEvent event, final UUID idempotencyKey) {
+        return imageStore.removeCategoryImages(
+                event.getRootCategoryId(),
+                event.getImageFilenames()
+        );
+    }
+
+}
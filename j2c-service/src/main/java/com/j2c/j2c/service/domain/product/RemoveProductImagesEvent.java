@@ -1,11 +1,13 @@
 package com.j2c.j2c.service.domain.product;
 
 import lombok.*;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.Set;
 
 @Getter
 @Builder
+@Jacksonized
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class RemoveProductImagesEvent {
 
@@ -3,6 +3,8 @@ package com.j2c.j2c.service.domain.shipping;
 import com.j2c.j2c.domain.entity.ShippingCountry;
 import com.j2c.j2c.domain.entity.ShippingMethod;
 import com.j2c.j2c.domain.entity.ShippingZone;
+import com.j2c.j2c.domain.repository.ChangeNotifier;
+import com.j2c.j2c.domain.repository.SecondLevelCache;
 import com.j2c.j2c.domain.repository.ShippingCountryRepository;
 import com.j2c.j2c.domain.repository.ShippingMethodRepository;
 import com.j2c.j2c.domain.repository.ShippingZoneRepository;
@@ -21,6 +23,7 @@ import javax.validation.constraints.NotNull;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 
@@ -33,6 +36,8 @@ public class DomainShippingService {
     private final ShippingZoneRepository zoneRepository;
     private final ShippingCountryRepository countryRepository;
     private final ShippingMethodRepository methodRepository;
+    private final SecondLevelCache secondLevelCache;
+    private final ChangeNotifier changeNotifier;
 
     public CreateShippingZoneResult createZone(@NotNull @Valid final CreateShippingZoneForm form) {
         final ShippingZone zone = zoneRepository.save(
@@ -43,6 +48,8 @@ public class DomainShippingService {
 
         final List<ShippingCountry> countries = addCountries(zone, form.getCountries());
 
+        changeNotifier.publish(ShippingCountry.class, ids(countries));
+
         return CreateShippingZoneResult.builder()
                 .createdShippingZone(zone)
                 .countries(countries)
@@ -61,6 +68,10 @@ public class DomainShippingService {
 
         final List<ShippingCountry> removedCountries = removeCountries(zone, form.getCountriesToRemove());
 
+        changeNotifier.publish(ShippingZone.class, List.of(zoneId));
+        changeNotifier.publish(ShippingCountry.class, ids(addedCountries));
+        changeNotifier.publish(ShippingCountry.class, ids(removedCountries));
+
         return UpdateShippingZoneResult.builder()
                 .updatedZone(zone)
                 .addedCountries(addedCountries)
@@ -72,6 +83,8 @@ public class DomainShippingService {
         final ShippingZone zone = zoneRepository.findById(zoneId);
 
         zoneRepository.remove(zone);
+
+        changeNotifier.publish(ShippingZone.class, List.of(zoneId));
     }
 
     public ShippingMethod createMethod(
@@ -80,7 +93,9 @@ public class DomainShippingService {
     ) {
         final ShippingZone zone = zoneRepository.findById(zoneId);
 
-        return methodRepository.save(
+        secondLevelCache.evictCollection(ShippingZone.class, "methods", zoneId);
+
+        final ShippingMethod method = methodRepository.save(
                 ShippingMethod.builder()
                         .name(form.getName())
                         .type(form.getType())
@@ -90,6 +105,10 @@ public class DomainShippingService {
                         .zone(zone)
                         .build()
         );
+
+        changeNotifier.publish(ShippingMethod.class, List.of(method.getId()));
+
+        return method;
     }
 
     public ShippingMethod updateMethod(
@@ -107,6 +126,8 @@ public class DomainShippingService {
         optional(form.getMax()).ifPresent(method::setMax);
         optional(form.getRate()).ifPresent(method::setRate);
 
+        changeNotifier.publish(ShippingMethod.class, List.of(methodId));
+
         return method;
     }
 
@@ -117,6 +138,9 @@ public class DomainShippingService {
                 .verifyBelongsToZone(zone);
 
         methodRepository.remove(method);
+
+        secondLevelCache.evictCollection(ShippingZone.class, "methods", zoneId);
+        changeNotifier.publish(ShippingMethod.class, List.of(methodId));
     }
 
     private List<ShippingCountry> addCountries(final ShippingZone zone, final Set<CountryCode> codes) {
@@ -135,4 +159,10 @@ public class DomainShippingService {
         return zone.removeCountries(countries);
     }
 
+    private static List<Long> ids(final List<ShippingCountry> countries) {
+        return countries.stream()
+                .map(ShippingCountry::getId)
+                .collect(Collectors.toList());
+    }
+
 }
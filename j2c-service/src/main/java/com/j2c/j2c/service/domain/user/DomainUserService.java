@@ -3,6 +3,7 @@ package com.j2c.j2c.service.domain.user;
 import com.j2c.j2c.domain.entity.*;
 import com.j2c.j2c.domain.enums.RoleType;
 import com.j2c.j2c.domain.repository.*;
+import com.j2c.j2c.service.domain.outbox.DomainOutboxService;
 import com.j2c.j2c.service.exception.ResourceAlreadyExistsException;
 import com.j2c.j2c.service.exception.ServiceException;
 import com.j2c.j2c.service.gateway.PaymentGateway;
@@ -18,6 +19,10 @@ import org.springframework.validation.annotation.Validated;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.REMOVE_USER_HAS_CHECKOUT;
@@ -30,6 +35,7 @@ import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.USER_EMAIL_A
 public class DomainUserService {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final DomainOutboxService outboxService;
     private final UserRepository userRepository;
     private final UserAddressRepository addressRepository;
     private final UserVerificationTokenRepository verificationTokenRepository;
@@ -37,6 +43,7 @@ public class DomainUserService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final PaymentGateway paymentGateway;
+    private final ChangeNotifier changeNotifier;
     private final AddressVOMapper addressMapper;
 
     public User create(@NotNull @Valid final CreateUserForm form) {
@@ -96,6 +103,12 @@ public class DomainUserService {
 
         sendVerificationEmail(user);
 
+        eventPublisher.publishEvent(
+                ExternalCustomerRequestedEvent.builder()
+                        .userId(user.getId())
+                        .build()
+        );
+
         return user;
     }
 
@@ -167,10 +180,58 @@ public class DomainUserService {
         user.removeAddress(userAddress);
     }
 
+    @Transactional(readOnly = true)
+    public boolean hasExternalCustomer(@NotNull final Long userId) {
+        return userRepository.findById(userId).getExternalId() != null;
+    }
+
+    /**
+     * The user is locked, so that of concurrent callers only the first sets its external customer.
+     * @return false if the user already got an external customer in the meantime, which is then kept
+     */
+    public boolean setExternalCustomerIfAbsent(@NotNull final Long userId, @NotBlank final String externalId) {
+        final User user = userRepository.findByIdForUpdate(userId);
+
+        if (user.getExternalId() != null) {
+            return false;
+        }
+
+        user.setExternalId(externalId);
+
+        return true;
+    }
+
     public void deletePaymentMethod(@NotNull final Long userId, @NotBlank final String paymentMethodId) {
         final User user = userRepository.findById(userId);
 
         paymentGateway.removePaymentMethod(user, paymentMethodId);
+
+        eventPublisher.publishEvent(
+                PaymentMethodsChangedEvent.builder()
+                        .customerId(userId)
+                        .build()
+        );
+        changeNotifier.publish(User.class, PaymentMethodsChangedEvent.USER_PROPERTY, List.of(userId));
+    }
+
+    /**
+     * Removes at most {@code limit} anonymous customers, customers without an email, that were created
+     * before {@code before} and have neither a checkout nor an order.
+     * @return the number of removed customers
+     */
+    public int removeAnonymous(
+            @NotNull final LocalDateTime before,
+            @Positive final int limit
+    ) {
+        final Role role = roleRepository.findByType(RoleType.Customer);
+
+        final List<Long> userIds = userRepository.findAllAnonymousCreatedBeforeForUpdate(role, before, limit).stream()
+                .map(User::getId)
+                .collect(Collectors.toList());
+
+        userRepository.removeAllByIds(userIds);
+
+        return userIds.size();
     }
 
     private String verifyDoesNotExist(final String email) {
@@ -190,7 +251,7 @@ public class DomainUserService {
                         .build()
         );
 
-        eventPublisher.publishEvent(
+        outboxService.store(
                 SignUpEvent.builder()
                         .userEmail(user.getEmail())
                         .tokenId(token.getId())
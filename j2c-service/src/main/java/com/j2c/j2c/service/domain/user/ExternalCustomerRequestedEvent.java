@@ -0,0 +1,13 @@
+package com.j2c.j2c.service.domain.user;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExternalCustomerRequestedEvent {
+
+    @NonNull
+    private final Long userId;
+
+}
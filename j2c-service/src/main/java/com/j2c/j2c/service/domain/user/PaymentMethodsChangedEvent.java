@@ -0,0 +1,16 @@
+package com.j2c.j2c.service.domain.user;
+
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentMethodsChangedEvent {
+
+    // the property of users under which the change is published to the other nodes
+    public static final String USER_PROPERTY = "paymentMethods";
+
+    @NonNull
+    private final Long customerId;
+
+}
@@ -1,11 +1,13 @@
 package com.j2c.j2c.service.domain.user;
 
 import lombok.*;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SignUpEvent {
 
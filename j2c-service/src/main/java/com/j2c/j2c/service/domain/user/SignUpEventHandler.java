@@ -0,0 +1,29 @@
+package com.j2c.j2c.service.domain.user;
+
+import com.j2c.j2c.service.domain.outbox.OutboxEventHandler;
+import com.j2c.j2c.service.mail.MailSender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@RequiredArgsConstructor
+public class SignUpEventHandler implements OutboxEventHandler<SignUpEvent> {
+
+    private final MailSender mailSender;
+
+    @Override
+    public Class<SignUpEvent> getEventType() {
+        return SignUpEvent.class;
+    }
+
+    // not idempotent, a repeated delivery sends the verification email again,
+    // it carries the same token though, so either email verifies the user
+    @Override
+    public CompletableFuture<Void> handle(final SignUpEvent event, final UUID idempotencyKey) {
+        return mailSender.sendVerificationEmail(event.getUserEmail(), event.getTokenId());
+    }
+
+}
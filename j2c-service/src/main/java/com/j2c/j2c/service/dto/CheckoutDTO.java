@@ -34,6 +34,9 @@ public final class CheckoutDTO {
     @Schema(example = "ABC123")
     private final String paymentToken;
 
+    @Schema(example = "true")
+    private final boolean paymentAuthorized;
+
     @Schema(example = "127.0.0.1")
     private final String ipAddress;
 
@@ -0,0 +1,19 @@
+package com.j2c.j2c.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CursorPageDTO<T> {
+
+    private final List<T> content;
+
+    // null when there are no more elements
+    private final String nextCursor;
+
+}
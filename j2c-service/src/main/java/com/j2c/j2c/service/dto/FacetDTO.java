@@ -0,0 +1,22 @@
+package com.j2c.j2c.service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FacetDTO {
+
+    @Schema(example = "71")
+    private final Long id;
+
+    @Schema(example = "Dogs")
+    private final String name;
+
+    @Schema(example = "128")
+    private final long count;
+
+}
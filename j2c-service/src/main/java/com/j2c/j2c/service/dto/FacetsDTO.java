@@ -0,0 +1,18 @@
+package com.j2c.j2c.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FacetsDTO {
+
+    private final List<FacetDTO> categories;
+
+    private final List<FacetDTO> tags;
+
+}
@@ -0,0 +1,18 @@
+package com.j2c.j2c.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VersionDTO {
+
+    private final String version;
+
+    private final LocalDateTime lastModified;
+
+}
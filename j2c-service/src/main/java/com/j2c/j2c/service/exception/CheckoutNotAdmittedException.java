@@ -0,0 +1,32 @@
+package com.j2c.j2c.service.exception;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a checkout has to wait for its turn in the waiting room of a product variant.
+ */
+@Getter
+public class CheckoutNotAdmittedException extends J2cServiceException {
+
+    // the ticket that keeps the turn of the checkout, null if the waiting room was full
+    private final UUID ticket;
+
+    private final long position;
+
+    private final long retryAfterSeconds;
+
+    public CheckoutNotAdmittedException(
+            final String message,
+            final UUID ticket,
+            final long position,
+            final long retryAfterSeconds
+    ) {
+        super(message);
+        this.ticket = ticket;
+        this.position = position;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
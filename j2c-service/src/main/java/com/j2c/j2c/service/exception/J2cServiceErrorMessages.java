@@ -4,6 +4,12 @@ public final class J2cServiceErrorMessages {
     public static final String RESOURCE_NOT_FOUND = "Resource of type '%s' with id %s was not found";
     public static final String RESOURCES_NOT_FOUND = "Resources of type '%s' with the following ids were not found: %s";
     public static final String REMOVE_USER_HAS_CHECKOUT = "The user with id '%s' cannot be deleted because they have an active checkout";
+    public static final String CHECKOUT_PAYMENT_NOT_SYNCED = "The payment of the checkout with id '%s' could not be updated with its total price, please retry";
+    public static final String INSUFFICIENT_STOCK = "Not enough units of the variant with id '%s' are in stock";
+    public static final String CHECKOUT_QUEUED = "The checkout is queued at position %s, please retry after %s seconds with the waiting room ticket";
+    public static final String CHECKOUT_WAITING_ROOM_FULL = "Too many checkouts of the variant with id '%s' are waiting, please retry after %s seconds";
+    public static final String INVALID_CURSOR = "'cursor' is not valid";
+    public static final String INVALID_PAYMENT_EVENT = "The payment event is not valid or its signature could not be verified";
     public static final String USER_EMAIL_ALREADY_EXISTS = "A user with the email '%s' already exists";
 
     private J2cServiceErrorMessages() {}
@@ -1,5 +1,6 @@
 package com.j2c.j2c.service.gateway;
 
+import com.j2c.j2c.domain.entity.Checkout;
 import com.j2c.j2c.domain.entity.Payment;
 import com.j2c.j2c.domain.entity.User;
 import com.j2c.j2c.service.dto.PaymentMethodDTO;
@@ -16,6 +17,12 @@ public interface PaymentGateway {
 
     Optional<Payment> findById(String paymentId);
 
+    /**
+     * The payment of a checkout whose authorization was reported by the gateway,
+     * built from the recorded details without calling the gateway.
+     */
+    Payment authorized(Checkout checkout);
+
     List<? extends PaymentMethodDTO> findPaymentMethods(User user);
 
     void removePaymentMethod(User user, String paymentMethodId);
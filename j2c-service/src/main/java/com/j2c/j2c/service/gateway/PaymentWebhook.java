@@ -0,0 +1,15 @@
+package com.j2c.j2c.service.gateway;
+
+import com.j2c.j2c.domain.entity.PaymentEvent;
+
+import java.util.Optional;
+
+public interface PaymentWebhook {
+
+    /**
+     * Verifies that the payload was signed by the gateway and reads the event from it.
+     * Events that do not change the state of a payment are not returned.
+     */
+    Optional<PaymentEvent> constructEvent(String payload, String signature);
+
+}
@@ -0,0 +1,149 @@
+package com.j2c.j2c.service.gateway.stripe;
+
+import com.stripe.Stripe;
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import com.stripe.net.HttpClient;
+import com.stripe.net.HttpContent;
+import com.stripe.net.HttpHeaders;
+import com.stripe.net.StripeRequest;
+import com.stripe.net.StripeResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the requests of the stripe library over a pooled, keep-alive http client.
+ * At most a fixed number of requests are in flight at a time (bulkhead), and requests are refused outright while
+ * stripe keeps failing (circuit breaker), so that a slow stripe cannot tie up every thread that calls it.
+ */
+@Slf4j
+class StripeHttpClient extends HttpClient {
+
+    private static final String METRIC_PREFIX = "j2c.gateway.stripe.";
+
+    // headers that are managed by the jdk client itself
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "upgrade"
+    );
+
+    private final java.net.http.HttpClient client;
+    private final int maxConcurrentRequests;
+    private final Semaphore bulkhead;
+    private final Duration maxWait;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    StripeHttpClient(
+            @NonNull final Duration connectTimeout,
+            final int maxConcurrentRequests,
+            @NonNull final Duration maxWait,
+            @NonNull final CircuitBreaker circuitBreaker,
+            @NonNull final MeterRegistry meterRegistry
+    ) {
+        this.client = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.bulkhead = new Semaphore(maxConcurrentRequests, true);
+        this.maxWait = maxWait;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_PREFIX + "requests.active", bulkhead, b -> maxConcurrentRequests - b.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "circuit.open", circuitBreaker, c -> c.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public StripeResponse request(@NonNull final StripeRequest request) throws StripeException {
+        if (!acquireBulkhead()) {
+            reject("bulkhead");
+            throw new ApiConnectionException("Too many concurrent requests to Stripe, at most "
+                    + maxConcurrentRequests + " are allowed");
+        }
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                reject("circuit_open");
+                throw new ApiConnectionException("Requests to Stripe are suspended after repeated failures");
+            }
+            return send(request);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private StripeResponse send(final StripeRequest request) throws StripeException {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            final HttpResponse<String> response = client.send(toHttpRequest(request), HttpResponse.BodyHandlers.ofString());
+            outcome = response.statusCode() >= 500 ? "server_error" : "success";
+            return new StripeResponse(response.statusCode(), HttpHeaders.of(response.headers().map()), response.body());
+        } catch (final IOException | URISyntaxException exception) {
+            throw new ApiConnectionException("Request to Stripe (" + request.url() + ") failed: "
+                    + exception.getMessage(), exception);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ApiConnectionException("Request to Stripe (" + request.url() + ") was interrupted", exception);
+        } finally {
+            if ("success".equals(outcome)) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            sample.stop(Timer.builder(METRIC_PREFIX + "requests")
+                    .tag("method", request.method().name())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(final String reason) {
+        log.warn("Rejected request to Stripe, reason: " + reason);
+        meterRegistry.counter(METRIC_PREFIX + "requests.rejected", "reason", reason).increment();
+    }
+
+    private static HttpRequest toHttpRequest(final StripeRequest request) throws URISyntaxException {
+        final HttpContent content = request.content();
+        final HttpRequest.BodyPublisher body = content == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(content.byteArrayContent());
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request.url().toURI())
+                .timeout(Duration.ofMillis(request.options().getReadTimeout()))
+                .method(request.method().name(), body)
+                .setHeader("User-Agent", "Stripe/v1 JavaBindings/" + Stripe.VERSION);
+        request.headers().map().forEach((name, values) -> {
+            if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                builder.setHeader(name, String.join(",", values));
+            }
+        });
+        if (content != null) {
+            builder.setHeader("Content-Type", content.contentType());
+        }
+        return builder.build();
+    }
+
+}
@@ -6,6 +6,7 @@ import com.j2c.j2c.domain.entity.Payment;
 import com.neovisionaries.i18n.CurrencyCode;
 import com.stripe.exception.StripeException;
 import com.stripe.model.PaymentIntent;
+import com.stripe.net.RequestOptions;
 import com.stripe.param.PaymentIntentUpdateParams;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,9 @@ public class StripePayment implements Payment {
     @NonNull
     private PaymentIntent paymentIntent;
 
+    @NonNull
+    private final RequestOptions options;
+
     @Override
     public String getId() {
         return paymentIntent.getId();
@@ -52,7 +56,7 @@ public class StripePayment implements Payment {
             params.setCurrency(toStripeCurrency(checkout.getCurrency()));
         }
         try {
-            paymentIntent = paymentIntent.update(params.build());
+            paymentIntent = paymentIntent.update(params.build(), options);
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
         }
@@ -61,7 +65,7 @@ public class StripePayment implements Payment {
     @Override
     public void capture() {
         try {
-            paymentIntent = paymentIntent.capture();
+            paymentIntent = paymentIntent.capture(options);
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
         }
@@ -70,7 +74,7 @@ public class StripePayment implements Payment {
     @Override
     public void cancel() {
         try {
-            paymentIntent = paymentIntent.cancel();
+            paymentIntent = paymentIntent.cancel(options);
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
         }
@@ -1,6 +1,8 @@
 package com.j2c.j2c.service.gateway.stripe;
 
+import com.j2c.j2c.domain.entity.Checkout;
 import com.j2c.j2c.domain.entity.Payment;
+import com.j2c.j2c.domain.entity.PaymentDetails;
 import com.j2c.j2c.domain.entity.User;
 import com.j2c.j2c.domain.enums.PaymentMethodType;
 import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
@@ -9,17 +11,14 @@ import com.j2c.j2c.service.exception.ServiceException;
 import com.j2c.j2c.service.gateway.*;
 import com.j2c.j2c.service.dto.PaymentMethodDTO;
 import com.neovisionaries.i18n.CurrencyCode;
-import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.*;
 import com.stripe.param.CustomerCreateParams;
 import com.stripe.param.PaymentIntentCreateParams;
 import com.stripe.param.PaymentMethodListParams;
 import lombok.NonNull;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -31,22 +30,17 @@ import static com.j2c.j2c.service.gateway.stripe.StripeUtils.toStripeCurrency;
 @Component
 class StripePaymentGateway implements PaymentGateway {
 
-    private final String secretKey;
+    private final StripeTransport transport;
     private final StripeSupportedPaymentMethods supportedPaymentMethods;
 
     public StripePaymentGateway(
-            @NonNull @Value("${j2c.service.gateway.stripe.key}") final String stripeSecretKey,
+            @NonNull final StripeTransport transport,
             final StripeSupportedPaymentMethods supportedPaymentMethods
     ) {
-        this.secretKey = stripeSecretKey;
+        this.transport = transport;
         this.supportedPaymentMethods = supportedPaymentMethods;
     }
 
-    @PostConstruct
-    protected void init() {
-        Stripe.apiKey = secretKey;
-    }
-
     @Override
     public List<? extends PaymentMethodDTO> findPaymentMethods(@NonNull final User user) {
         final String customerId = user.getExternalId();
@@ -67,7 +61,7 @@ class StripePaymentGateway implements PaymentGateway {
                     + paymentMethodId + "' does not belong to the customer with id '" + user.getId() + "'");
         }
         try {
-            paymentMethod.detach();
+            paymentMethod.detach(transport.write());
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
         }
@@ -77,7 +71,7 @@ class StripePaymentGateway implements PaymentGateway {
     public String createCustomer() {
         final CustomerCreateParams params = CustomerCreateParams.builder().build();
         try {
-            final Customer customer = Customer.create(params);
+            final Customer customer = Customer.create(params, transport.write());
             return customer.getId();
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
@@ -97,8 +91,8 @@ class StripePaymentGateway implements PaymentGateway {
                 .setCustomer(customerId)
                 .build();
         try {
-            final PaymentIntent paymentIntent = PaymentIntent.create(params);
-            return new StripePayment(paymentIntent);
+            final PaymentIntent paymentIntent = PaymentIntent.create(params, transport.write());
+            return new StripePayment(paymentIntent, transport.write());
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
         }
@@ -110,14 +104,36 @@ class StripePaymentGateway implements PaymentGateway {
             return Optional.empty();
         }
         final Optional<PaymentIntent> paymentIntent = retrievePayment(paymentId);
-        return paymentIntent.map(StripePayment::new);
+        return paymentIntent.map(t -> new StripePayment(t, transport.write()));
+    }
+
+    @Override
+    public Payment authorized(@NonNull final Checkout checkout) {
+        final PaymentDetails details = checkout.getPaymentDetails();
+        if (details == null || details.getAuthorizedAmount() == null) {
+            throw new IllegalArgumentException("checkout payment must be authorized");
+        }
+        final PaymentIntent paymentIntent = new PaymentIntent();
+        paymentIntent.setId(details.getId());
+        paymentIntent.setClientSecret(details.getToken());
+        paymentIntent.setAmount(details.getAuthorizedAmount());
+        paymentIntent.setAmountCapturable(details.getAuthorizedAmount());
+        paymentIntent.setAmountReceived(0L);
+        paymentIntent.setPaymentMethod(details.getPaymentMethodId());
+        paymentIntent.setCurrency(toStripeCurrency(checkout.getCurrency()));
+        paymentIntent.setStatus("requires_capture");
+        return new StripePayment(paymentIntent, transport.write());
     }
 
     private Optional<PaymentIntent> retrievePayment(final String paymentIntentId) {
         try {
-            return optional(PaymentIntent.retrieve(paymentIntentId));
+            return optional(PaymentIntent.retrieve(paymentIntentId, transport.read()));
         } catch (final StripeException exception) {
-            return Optional.empty();
+            // an unavailable gateway must not be mistaken for a missing payment
+            if ("resource_missing".equals(exception.getCode())) {
+                return Optional.empty();
+            }
+            throw new GatewayException(exception.getMessage(), exception);
         }
     }
 
@@ -139,7 +155,7 @@ class StripePaymentGateway implements PaymentGateway {
                 .setType(type)
                 .build();
         try {
-            return PaymentMethod.list(params);
+            return PaymentMethod.list(params, transport.read());
         } catch (final StripeException exception) {
             throw new GatewayException(exception.getMessage(), exception);
         }
@@ -147,7 +163,7 @@ class StripePaymentGateway implements PaymentGateway {
 
     private PaymentMethod retrievePaymentMethod(final String paymentMethodId) {
         try {
-            return PaymentMethod.retrieve(paymentMethodId);
+            return PaymentMethod.retrieve(paymentMethodId, transport.read());
         } catch (final StripeException exception) {
             final String code = exception.getCode();
             if ("resource_missing".equals(code)) {
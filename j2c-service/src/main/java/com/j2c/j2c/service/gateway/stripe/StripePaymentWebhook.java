@@ -0,0 +1,80 @@
+package com.j2c.j2c.service.gateway.stripe;
+
+import com.google.gson.JsonSyntaxException;
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import com.j2c.j2c.domain.enums.PaymentEventType;
+import com.j2c.j2c.service.exception.InvalidInputException;
+import com.j2c.j2c.service.gateway.PaymentWebhook;
+import com.stripe.exception.EventDataObjectDeserializationException;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.PaymentIntent;
+import com.stripe.model.StripeObject;
+import com.stripe.net.Webhook;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.INVALID_PAYMENT_EVENT;
+
+@Component
+class StripePaymentWebhook implements PaymentWebhook {
+
+    private static final Map<String, PaymentEventType> types = Map.of(
+            "payment_intent.amount_capturable_updated", PaymentEventType.AUTHORIZED,
+            "payment_intent.payment_failed", PaymentEventType.FAILED,
+            "payment_intent.canceled", PaymentEventType.CANCELED
+    );
+
+    private final String secret;
+
+    public StripePaymentWebhook(@NonNull @Value("${j2c.service.gateway.stripe.webhook-secret}") final String secret) {
+        this.secret = secret;
+    }
+
+    @Override
+    public Optional<PaymentEvent> constructEvent(@NonNull final String payload, @NonNull final String signature) {
+        final Event event;
+        try {
+            event = Webhook.constructEvent(payload, signature, secret);
+        } catch (final SignatureVerificationException | JsonSyntaxException exception) {
+            throw new InvalidInputException(Set.of(INVALID_PAYMENT_EVENT), Collections.emptySet(), exception);
+        }
+        final PaymentEventType type = types.get(event.getType());
+        if (type == null) {
+            return Optional.empty();
+        }
+        return findPaymentIntent(event)
+                .map(paymentIntent -> PaymentEvent.builder()
+                        .id(event.getId())
+                        .type(type)
+                        .paymentId(paymentIntent.getId())
+                        .amount(paymentIntent.getAmountCapturable())
+                        .paymentMethodId(paymentIntent.getPaymentMethod())
+                        .payload(payload)
+                        .build());
+    }
+
+    // events of an api version other than the one of the library can only be read unsafely
+    private static Optional<PaymentIntent> findPaymentIntent(final Event event) {
+        final EventDataObjectDeserializer deserializer = event.getDataObjectDeserializer();
+        Optional<StripeObject> object = deserializer.getObject();
+        if (object.isEmpty()) {
+            try {
+                object = Optional.ofNullable(deserializer.deserializeUnsafe());
+            } catch (final EventDataObjectDeserializationException exception) {
+                return Optional.empty();
+            }
+        }
+        return object
+                .filter(PaymentIntent.class::isInstance)
+                .map(PaymentIntent.class::cast);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.j2c.j2c.service.gateway.stripe;
+
+import com.stripe.Stripe;
+import com.stripe.net.ApiResource;
+import com.stripe.net.LiveStripeResponseGetter;
+import com.stripe.net.RequestOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configures how the stripe library talks to the stripe api.
+ * Requests go through a {@link StripeHttpClient}, and carry the api key and the timeout of their kind of operation
+ * in their {@link RequestOptions}: lookups are given up on sooner than mutations, whose outcome is costlier to lose.
+ */
+@Component
+class StripeTransport {
+
+    private final String apiBase;
+    private final StripeHttpClient httpClient;
+    private final RequestOptions readOptions;
+    private final RequestOptions writeOptions;
+
+    StripeTransport(
+            @NonNull @Value("${j2c.service.gateway.stripe.key}") final String secretKey,
+            @NonNull @Value("${j2c.service.gateway.stripe.api-base:https://api.stripe.com}") final String apiBase,
+            @Value("${j2c.service.gateway.stripe.connect-timeout:2000}") final int connectTimeout,
+            @Value("${j2c.service.gateway.stripe.read-timeout:5000}") final int readTimeout,
+            @Value("${j2c.service.gateway.stripe.write-timeout:15000}") final int writeTimeout,
+            @Value("${j2c.service.gateway.stripe.max-concurrent-requests:20}") final int maxConcurrentRequests,
+            @Value("${j2c.service.gateway.stripe.max-wait:100}") final long maxWait,
+            @Value("${j2c.service.gateway.stripe.circuit-breaker.failure-threshold:5}") final int failureThreshold,
+            @Value("${j2c.service.gateway.stripe.circuit-breaker.open-duration:30000}") final long openDuration,
+            final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.apiBase = apiBase;
+        this.httpClient = new StripeHttpClient(
+                Duration.ofMillis(connectTimeout),
+                maxConcurrentRequests,
+                Duration.ofMillis(maxWait),
+                new CircuitBreaker(failureThreshold, Duration.ofMillis(openDuration), Clock.systemUTC()),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+        this.readOptions = options(secretKey, connectTimeout, readTimeout);
+        this.writeOptions = options(secretKey, connectTimeout, writeTimeout);
+    }
+
+    // the library only supports a single transport per jvm
+    @PostConstruct
+    protected void init() {
+        Stripe.overrideApiBase(apiBase);
+        ApiResource.setStripeResponseGetter(new LiveStripeResponseGetter(httpClient));
+    }
+
+    RequestOptions read() {
+        return readOptions;
+    }
+
+    RequestOptions write() {
+        return writeOptions;
+    }
+
+    private static RequestOptions options(final String secretKey, final int connectTimeout, final int readTimeout) {
+        return RequestOptions.builder()
+                .setApiKey(secretKey)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setMaxNetworkRetries(0)
+                .build();
+    }
+
+}
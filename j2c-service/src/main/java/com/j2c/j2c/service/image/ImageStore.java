@@ -3,19 +3,39 @@ package com.j2c.j2c.service.image;
 import com.j2c.j2c.domain.entity.UploadedImage;
 
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Stores uploaded images and moves them to the products and categories they are assigned to.
+ * The assignment and removal of images may complete asynchronously, and must tolerate being repeated.
+ */
 public interface ImageStore {
 
     UploadedImage store(InputStream image);
 
-    void assignToProduct(Set<UUID> uploadedImageIds, Long productId);
+    CompletableFuture<Void> assignToProduct(Set<UUID> uploadedImageIds, Long productId);
 
-    void assignToCategory(UUID uploadedImageId, Long rootCategoryId);
+    CompletableFuture<Void> assignToCategory(UUID uploadedImageId, Long rootCategoryId);
 
-    void removeProductImages(Long productId, Set<String> imageFilenames);
+    CompletableFuture<Void> removeProductImages(Long productId, Set<String> imageFilenames);
 
-    void removeCategoryImages(Long rootCategoryId, Set<String> imageFilenames);
+    CompletableFuture<Void> removeCategoryImages(Long rootCategoryId, Set<String> imageFilenames);
+
+    /**
+     * Lists the names of at most {@code limit} files among the uploaded ones that were last modified before
+     * {@code modifiedBefore}, in the order of their names, starting after {@code after} or from the first if it is null.
+     * Files are listed whether or not an uploaded image refers to them.
+     */
+    List<String> findUploadedFilenames(String after, Instant modifiedBefore, int limit);
+
+    /**
+     * Removes the uploaded files with the given names, except those modified since {@code modifiedBefore},
+     * which may have been uploaded again in the meantime.
+     */
+    RemoveUploadedFilesResult removeUploadedFiles(Set<String> filenames, Instant modifiedBefore);
 
 }
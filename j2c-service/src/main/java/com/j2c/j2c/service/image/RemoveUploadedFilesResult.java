@@ -0,0 +1,17 @@
+package com.j2c.j2c.service.image;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RemoveUploadedFilesResult {
+
+    private final int removedCount;
+
+    private final long removedBytes;
+
+}
@@ -6,6 +6,7 @@ import com.j2c.j2c.domain.repository.ProductRepository;
 import com.j2c.j2c.domain.repository.UploadedImageRepository;
 import com.j2c.j2c.service.exception.ImageStorageException;
 import com.j2c.j2c.service.image.ImageStore;
+import com.j2c.j2c.service.image.RemoveUploadedFilesResult;
 import lombok.NonNull;
 import org.apache.tika.Tika;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,15 +17,18 @@ import org.springframework.util.DigestUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import static com.j2c.j2c.service.config.AsyncExecutionConfig.IMAGE_STORE_EXECUTOR;
+
 @Component
 @Transactional
 class FileSystemImageStore implements ImageStore {
@@ -90,16 +94,16 @@ class FileSystemImageStore implements ImageStore {
         }
     }
 
-    @Async
+    @Async(IMAGE_STORE_EXECUTOR)
     @Override
-    public void assignToProduct(
+    public CompletableFuture<Void> assignToProduct(
             final Set<UUID> uploadedImageIds,
             final Long productId
     ) {
         if (productId == null) {
             throw new IllegalArgumentException("product id must not be null");
         } else if (uploadedImageIds == null || uploadedImageIds.isEmpty()) {
-            return;
+            return done();
         }
         try {
             productRepository.verifyExistsById(productId);
@@ -107,61 +111,124 @@ class FileSystemImageStore implements ImageStore {
             final Path uploadedSubDir = resolveUploadedSubDir();
             final Path targetDir = createNewProductIdDirIfNotExists(productId);
             moveFiles(uploadedSubDir, filenames, targetDir);
+            return done();
         } catch (final IOException exception) {
             throw new RuntimeException(exception);
         }
     }
 
-    @Async
+    @Async(IMAGE_STORE_EXECUTOR)
     @Override
-    public void assignToCategory(
+    public CompletableFuture<Void> assignToCategory(
             final UUID uploadedImageId,
             final Long rootCategoryId
     ) {
         if (rootCategoryId == null) {
             throw new IllegalArgumentException("root category id must not be null");
         } else if (uploadedImageId == null) {
-            return;
+            return done();
         }
         try {
             categoryRepository.verifyExistsById(rootCategoryId);
-            final String filename = findAndRemove(uploadedImageId);
+            final Set<String> filenames = findAndRemove(uploadedImageId);
             final Path uploadedSubDir = resolveUploadedSubDir();
             final Path targetDir = createNewProductCategoryIdDirIfNotExists(rootCategoryId);
-            moveFiles(uploadedSubDir, Collections.singleton(filename), targetDir);
+            moveFiles(uploadedSubDir, filenames, targetDir);
+            return done();
         } catch (final IOException exception) {
             throw new RuntimeException(exception);
         }
     }
 
-    @Async
+    @Async(IMAGE_STORE_EXECUTOR)
     @Override
-    public void removeProductImages(
+    public CompletableFuture<Void> removeProductImages(
             final Long productId,
             final Set<String> imageFilenames
     ) {
         if (productId == null) {
             throw new IllegalArgumentException("product id must not be null");
         } else if (imageFilenames == null || imageFilenames.isEmpty()) {
-            return;
+            return done();
         }
         final Path productIdSubDir = getSubDirectory(PRODUCT_SUBDIR, productId.toString());
         deleteFiles(productIdSubDir, imageFilenames);
+        return done();
     }
 
-    @Async
+    @Async(IMAGE_STORE_EXECUTOR)
     @Override
-    public void removeCategoryImages(
+    public CompletableFuture<Void> removeCategoryImages(
             final Long rootCategoryId,
             final Set<String> imageFilenames
     ) {
         if (rootCategoryId == null) {
             throw new IllegalArgumentException("root category id must not be null");
         } else if (imageFilenames == null || imageFilenames.isEmpty()) {
-            return;
+            return done();
         }
         final Path categoryIdSubDir = getSubDirectory(CATEGORY_SUBDIR, rootCategoryId.toString());
         deleteFiles(categoryIdSubDir, imageFilenames);
+        return done();
+    }
+
+    // only the first names after 'after' are kept while the directory is streamed, never the whole listing
+    @Override
+    public List<String> findUploadedFilenames(
+            final String after,
+            @NonNull final Instant modifiedBefore,
+            final int limit
+    ) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        final TreeSet<String> filenames = new TreeSet<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(resolveUploadedSubDir())) {
+            for (final Path file : files) {
+                final String filename = file.getFileName().toString();
+                if ((after != null && filename.compareTo(after) <= 0)
+                        || (filenames.size() == limit && filename.compareTo(filenames.last()) >= 0)
+                        || !isRegularFileModifiedBefore(readAttributesIfExists(file), modifiedBefore)) {
+                    continue;
+                }
+                filenames.add(filename);
+                if (filenames.size() > limit) {
+                    filenames.pollLast();
+                }
+            }
+        } catch (final IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        return new ArrayList<>(filenames);
+    }
+
+    @Override
+    public RemoveUploadedFilesResult removeUploadedFiles(
+            @NonNull final Set<String> filenames,
+            @NonNull final Instant modifiedBefore
+    ) {
+        final Path uploadedSubDir = resolveUploadedSubDir();
+        int removedCount = 0;
+        long removedBytes = 0;
+        for (final String filename : filenames) {
+            final Path file = uploadedSubDir.resolve(filename);
+            final BasicFileAttributes attributes = readAttributesIfExists(file);
+            if (!isRegularFileModifiedBefore(attributes, modifiedBefore)) {
+                continue;
+            }
+            try {
+                if (Files.deleteIfExists(file)) {
+                    removedCount++;
+                    removedBytes += attributes.size();
+                }
+            } catch (final IOException exception) {
+                throw new RuntimeException(exception);
+            }
+        }
+        return RemoveUploadedFilesResult.builder()
+                .removedCount(removedCount)
+                .removedBytes(removedBytes)
+                .build();
     }
 
     private Path resolveUploadedSubDir() {
@@ -171,15 +238,14 @@ class FileSystemImageStore implements ImageStore {
         return uploadedSubDir;
     }
 
-    private String findAndRemove(final UUID uploadedImageId) {
-        final UploadedImage uploadedImage = uploadedImageRepository.findById(uploadedImageId);
-        final String filename = uploadedImage.getFilename();
-        uploadedImageRepository.remove(uploadedImage);
-        return filename;
+    private Set<String> findAndRemove(final UUID uploadedImageId) {
+        return findAndRemove(Collections.singleton(uploadedImageId));
     }
 
+    // the images are locked, so that they are not reaped while their files are moved,
+    // an image that is no longer there has already been moved by an earlier delivery
     private Set<String> findAndRemove(final Set<UUID> uploadedImageIds) {
-        final List<UploadedImage> uploadedImages = uploadedImageRepository.findAllByIdDoNotThrow(
+        final List<UploadedImage> uploadedImages = uploadedImageRepository.findAllByIdForUpdate(
                 uploadedImageIds.stream()
                         .filter(Objects::nonNull)
                         .collect(Collectors.toSet())
@@ -265,6 +331,30 @@ class FileSystemImageStore implements ImageStore {
         }
     }
 
+    private static boolean isRegularFileModifiedBefore(
+            final BasicFileAttributes attributes,
+            final Instant modifiedBefore
+    ) {
+        return attributes != null
+                && attributes.isRegularFile()
+                && attributes.lastModifiedTime().toInstant().isBefore(modifiedBefore);
+    }
+
+    // a file may be moved or removed by another thread at any time
+    private static BasicFileAttributes readAttributesIfExists(final Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (final NoSuchFileException exception) {
+            return null;
+        } catch (final IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static CompletableFuture<Void> done() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     private static String getMimeType(final Path file) throws IOException {
         return new Tika().detect(file);
     }
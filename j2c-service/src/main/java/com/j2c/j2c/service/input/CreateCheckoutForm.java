@@ -9,6 +9,7 @@ import lombok.Getter;
 import javax.validation.Valid;
 import javax.validation.constraints.*;
 import java.util.List;
+import java.util.UUID;
 
 import static com.j2c.j2c.domain.entity.MaxLengths.EMAIL_MAXLENGTH;
 
@@ -28,4 +29,8 @@ public class CreateCheckoutForm {
             "and the quantity is how many of those variants the customer wishes to purchase")
     private final List<@NotNull @Valid Line> lines;
 
+    @Schema(description = "The waiting room ticket returned with a previous attempt that was asked to retry later, " +
+            "the checkout keeps its turn when it is retried with the ticket")
+    private final UUID waitingRoomTicket;
+
 }
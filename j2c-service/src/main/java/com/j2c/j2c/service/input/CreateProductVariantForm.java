@@ -42,4 +42,9 @@ public class CreateProductVariantForm {
             description = "If provided, this value will be used instead of the parent product's price to calculate the total amount during checkout")
     private final Long price;
 
+    @PositiveOrZero
+    @Schema(example = "25",
+            description = "The number of units available for sale. If never provided, the variant can be sold in unlimited quantities")
+    private final Integer stock;
+
 }
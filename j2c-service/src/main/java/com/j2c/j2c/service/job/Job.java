@@ -0,0 +1,30 @@
+package com.j2c.j2c.service.job;
+
+/**
+ * Periodic background work that {@link JobRunner} runs on one node at a time, in bounded batches.
+ * A run that ends before the job has finished, because it processed its maximum number of batches, failed or
+ * its node stopped, is resumed by the next run from the checkpoint of its last processed batch.
+ * A job that removes what it processes needs no checkpoint, its next batch simply starts over,
+ * see {@link JobBatchResult#removed(int, int)}.
+ */
+public interface Job {
+
+    /**
+     * Identifies the lease of the job across nodes, it must not change between releases.
+     */
+    String getName();
+
+    /**
+     * @return the time in milliseconds from the end of a run that finished the job to the start of the next run
+     */
+    long getDelay();
+
+    int getMaxBatches();
+
+    /**
+     * Processes one batch, in a transaction of its own.
+     * @param checkpoint where the previous batch stopped, null on the first batch of the job
+     */
+    JobBatchResult processBatch(String checkpoint);
+
+}
@@ -0,0 +1,36 @@
+package com.j2c.j2c.service.job;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobBatchResult {
+
+    private final int processedCount;
+
+    // whether nothing is left to process, the next run then starts from the beginning
+    private final boolean finished;
+
+    // where the next batch starts, null if it starts from the beginning
+    private final String checkpoint;
+
+    public static JobBatchResult finished(final int processedCount) {
+        return new JobBatchResult(processedCount, true, null);
+    }
+
+    public static JobBatchResult unfinished(final int processedCount, final String checkpoint) {
+        return new JobBatchResult(processedCount, false, checkpoint);
+    }
+
+    /**
+     * The result of a batch of a job that removes what it processes, the removed rows are no longer found,
+     * so the next batch starts from the beginning. The job has finished once a batch removes fewer rows
+     * than {@code batchSize}.
+     */
+    public static JobBatchResult removed(final int removedCount, final int batchSize) {
+        return removedCount < batchSize ? finished(removedCount) : unfinished(removedCount, null);
+    }
+
+}
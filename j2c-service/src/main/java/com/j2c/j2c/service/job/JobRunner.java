@@ -0,0 +1,153 @@
+package com.j2c.j2c.service.job;
+
+import com.j2c.j2c.domain.entity.JobLease;
+import com.j2c.j2c.service.domain.job.DomainJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.LocalDateTime.now;
+
+/**
+ * Runs every {@link Job} at its fixed delay on every node, but on one node at a time: a run first takes the lease
+ * of its job, and is skipped while another node holds it.
+ * After every batch the run records its checkpoint and renews its lease, a run whose lease was taken over because
+ * it ran out stops. A run that finished the job keeps others from running it until it is due again, so the job
+ * runs once per delay across all nodes. A run that stopped early releases the lease right away, so the next run
+ * on any node resumes from the checkpoint.
+ * Every job runs on a thread of its own, not on the application's task scheduler, so that a long run neither
+ * delays the other jobs nor the scheduled tasks of the application, e.g. the delivery of outbox events.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    private static final String METRIC_PREFIX = "j2c.jobs.";
+
+    // how long a run that is under way is waited for on shutdown, it stops after its current batch
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private final DomainJobService domainService;
+    private final List<Job> jobs;
+    private final String owner;
+    private final long lease;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    private volatile boolean stopping;
+
+    @Autowired
+    JobRunner(
+            final DomainJobService domainService,
+            final List<Job> jobs,
+            @Value("${j2c.service.jobs.lease:300000}") final long lease,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        // the name of the JVM, 'pid@host', differs between nodes and between restarts of a node
+        this(domainService, jobs, ManagementFactory.getRuntimeMXBean().getName(), lease, meterRegistryProvider);
+    }
+
+    JobRunner(
+            final DomainJobService domainService,
+            final List<Job> jobs,
+            final String owner,
+            final long lease,
+            final ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.domainService = domainService;
+        this.jobs = List.copyOf(jobs);
+        this.owner = owner;
+        this.lease = lease;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(Math.max(this.jobs.size(), 1));
+        this.scheduler.setThreadNamePrefix("job-");
+        this.scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        this.scheduler.setAwaitTerminationSeconds(SHUTDOWN_TIMEOUT_SECONDS);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.initialize();
+        jobs.forEach(job -> scheduler.scheduleWithFixedDelay(() -> run(job), job.getDelay()));
+    }
+
+    // a run that is under way stops after its current batch
+    @PreDestroy
+    void shutdown() {
+        stopping = true;
+        scheduler.shutdown();
+    }
+
+    void run(final Job job) {
+        final String name = job.getName();
+        final Optional<JobLease> jobLease;
+        try {
+            jobLease = domainService.acquireLease(name, owner, after(lease));
+        } catch (final RuntimeException exception) {
+            log.warn("Lease of job '" + name + "' could not be taken", exception);
+            return;
+        }
+        if (jobLease.isEmpty()) {
+            meterRegistry.counter(METRIC_PREFIX + "skipped", "job", name).increment();
+            return;
+        }
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String checkpoint = jobLease.get().getCheckpoint();
+        String outcome = "paused";
+        try {
+            for (int batch = 0; batch < job.getMaxBatches() && !stopping; batch++) {
+                final JobBatchResult result = job.processBatch(checkpoint);
+                meterRegistry.counter(METRIC_PREFIX + "rows", "job", name).increment(result.getProcessedCount());
+                if (result.isFinished()) {
+                    checkpoint = null;
+                    outcome = "finished";
+                    break;
+                }
+                checkpoint = result.getCheckpoint();
+                if (!domainService.renewLease(name, owner, checkpoint, after(lease))) {
+                    log.warn("Lease of job '" + name + "' was taken over, the run is stopped");
+                    outcome = "lost";
+                    break;
+                }
+            }
+        } catch (final RuntimeException exception) {
+            log.error("Run of job '" + name + "' failed", exception);
+            outcome = "failed";
+        }
+        sample.stop(meterRegistry.timer(METRIC_PREFIX + "duration", "job", name, "outcome", outcome));
+
+        if (!"lost".equals(outcome)) {
+            release(name, checkpoint, "finished".equals(outcome) ? after(job.getDelay()) : now());
+        }
+    }
+
+    // a lease that is not released runs out in time, the job is then merely resumed later
+    private void release(final String name, final String checkpoint, final LocalDateTime until) {
+        try {
+            domainService.releaseLease(name, owner, checkpoint, until);
+        } catch (final RuntimeException exception) {
+            log.warn("Lease of job '" + name + "' could not be released", exception);
+        }
+    }
+
+    private static LocalDateTime after(final long millis) {
+        return now().plus(millis, ChronoUnit.MILLIS);
+    }
+
+}
@@ -9,6 +9,9 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.j2c.j2c.service.config.AsyncExecutionConfig.MAIL_EXECUTOR;
 
 @Component
 @ConditionalOnExpression("!'${spring.mail.host:}'.isBlank()")
@@ -31,11 +34,12 @@ public class DefaultMailSender implements MailSender {
         this.smtpUsername = smtpUsername;
     }
 
-    @Async
+    @Async(MAIL_EXECUTOR)
     @Override
-    public void sendVerificationEmail(@NonNull final String toEmail, @NonNull final UUID tokenId) {
+    public CompletableFuture<Void> sendVerificationEmail(@NonNull final String toEmail, @NonNull final UUID tokenId) {
         final SimpleMailMessage mailMessage = newVerificationMailMessage(toEmail, tokenId);
         javaMailSender.send(mailMessage);
+        return CompletableFuture.completedFuture(null);
     }
 
     private SimpleMailMessage newVerificationMailMessage(final String toEmail, final UUID tokenId) {
@@ -1,9 +1,10 @@
 package com.j2c.j2c.service.mail;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface MailSender {
 
-    void sendVerificationEmail(String toEmail, UUID tokenId);
+    CompletableFuture<Void> sendVerificationEmail(String toEmail, UUID tokenId);
 
 }
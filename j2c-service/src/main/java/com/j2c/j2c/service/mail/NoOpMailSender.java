@@ -4,6 +4,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @ConditionalOnProperty(
@@ -13,6 +14,8 @@ import java.util.UUID;
 public class NoOpMailSender implements MailSender {
 
     @Override
-    public void sendVerificationEmail(final String toEmail, final UUID tokenId) {}
+    public CompletableFuture<Void> sendVerificationEmail(final String toEmail, final UUID tokenId) {
+        return CompletableFuture.completedFuture(null);
+    }
 
 }
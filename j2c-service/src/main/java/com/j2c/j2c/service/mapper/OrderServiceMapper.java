@@ -4,13 +4,16 @@ import com.j2c.j2c.domain.entity.Order;
 import com.j2c.j2c.domain.entity.OrderFulfillment;
 import com.j2c.j2c.domain.entity.OrderFulfillmentLine;
 import com.j2c.j2c.domain.entity.OrderLine;
+import com.j2c.j2c.domain.repository.KeysetSlice;
 import com.j2c.j2c.service.domain.order.*;
+import com.j2c.j2c.service.dto.CursorPageDTO;
 import com.j2c.j2c.service.dto.OrderDTO;
 import com.j2c.j2c.service.dto.OrderDTO.OrderDTOBuilder;
 import com.j2c.j2c.service.dto.OrderFulfillmentDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentDTO.OrderFulfillmentDTOBuilder;
 import com.j2c.j2c.service.dto.OrderFulfillmentLineDTO;
 import com.j2c.j2c.service.dto.OrderLineDTO;
+import com.j2c.j2c.service.util.Cursors;
 import lombok.NonNull;
 import org.springframework.data.domain.Page;
 import lombok.RequiredArgsConstructor;
@@ -59,6 +62,13 @@ public class OrderServiceMapper {
         return orderDTOMapper.fromEntities(orders);
     }
 
+    public CursorPageDTO<OrderDTO> toOrderDTO(@NonNull final KeysetSlice<Order> orders) {
+        return CursorPageDTO.<OrderDTO>builder()
+                .content(orderDTOMapper.fromEntities(orders.getContent()))
+                .nextCursor(Cursors.encode(orders.getNext()))
+                .build();
+    }
+
     public OrderDTO toOrderDTO(@NonNull final CreateFulfillmentResult result) {
         final OrderFulfillment fulfillment = result.getCreatedFulfillment();
         final OrderFulfillmentDTOBuilder fulfillmentDTOBuilder = fulfillmentDTOMapper.fromEntity(fulfillment);
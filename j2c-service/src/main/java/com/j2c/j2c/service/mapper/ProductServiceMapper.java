@@ -1,13 +1,17 @@
 package com.j2c.j2c.service.mapper;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.j2c.j2c.domain.entity.*;
+import com.j2c.j2c.domain.repository.Facet;
+import com.j2c.j2c.domain.repository.KeysetSlice;
 import com.j2c.j2c.service.domain.product.CreateProductResult;
 import com.j2c.j2c.service.domain.product.CreateProductVariantResult;
 import com.j2c.j2c.service.domain.product.UpdateProductResult;
 import com.j2c.j2c.service.domain.product.UpdateProductVariantResult;
 import com.j2c.j2c.service.dto.*;
 import com.j2c.j2c.service.dto.ProductVariantDTO.ProductVariantDTOBuilder;
+import com.j2c.j2c.service.util.Cursors;
 import org.springframework.data.domain.Page;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +37,13 @@ public class ProductServiceMapper {
         return productDTOMapper.fromEntities(products);
     }
 
+    public CursorPageDTO<ProductDTO> toProductDTO(@NonNull final KeysetSlice<Product> products) {
+        return CursorPageDTO.<ProductDTO>builder()
+                .content(productDTOMapper.fromEntities(products.getContent()))
+                .nextCursor(Cursors.encode(products.getNext()))
+                .build();
+    }
+
     public ProductDTO toProductDTO(@NonNull final CreateProductResult result) {
         final ProductDTO.ProductDTOBuilder builder = productDTOMapper.fromEntity(result.getCreatedProduct());
         final ProductVariantDTO defaultVariant = toVariantDTO(result.getCreatedVariant());
@@ -48,6 +59,13 @@ public class ProductServiceMapper {
         return builder.build();
     }
 
+    public FacetsDTO toFacetsDTO(@NonNull final List<Facet> categories, @NonNull final List<Facet> tags) {
+        return FacetsDTO.builder()
+                .categories(toFacetDTO(categories))
+                .tags(toFacetDTO(tags))
+                .build();
+    }
+
     public ProductVariantDTO toVariantDTO(@NonNull final ProductVariant variant) {
         return variantDTOMapper.fromEntity(variant).build();
     }
@@ -103,4 +121,14 @@ public class ProductServiceMapper {
                 .collect(ImmutableSet.toImmutableSet());
     }
 
+    private static List<FacetDTO> toFacetDTO(final List<Facet> facets) {
+        return facets.stream()
+                .map(facet -> FacetDTO.builder()
+                        .id(facet.getId())
+                        .name(facet.getName())
+                        .count(facet.getCount())
+                        .build())
+                .collect(ImmutableList.toImmutableList());
+    }
+
 }
@@ -0,0 +1,65 @@
+package com.j2c.j2c.service.util;
+
+import com.j2c.j2c.domain.repository.Keyset;
+import com.j2c.j2c.service.exception.InvalidInputException;
+import lombok.NonNull;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Set;
+
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.INVALID_CURSOR;
+
+/**
+ * Encodes a {@link Keyset} into an opaque cursor that clients pass back to fetch the next slice.
+ * The cursor carries the sort it was created with, so the sort requested along with it is ignored.
+ */
+public final class Cursors {
+
+    private static final String SEPARATOR = ":";
+
+    private Cursors() {}
+
+    public static String encode(final Keyset keyset) {
+        if (keyset == null) {
+            return null;
+        }
+        final String raw = String.join(SEPARATOR,
+                keyset.getProperty(),
+                keyset.getDirection().name(),
+                String.valueOf(keyset.getId()),
+                keyset.getValue());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Keyset decode(final String cursor, @NonNull final Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] parts = raw.split(SEPARATOR, 4);
+            return Keyset.builder()
+                    .property(parts[0])
+                    .direction(Sort.Direction.valueOf(parts[1]))
+                    .id(Long.valueOf(parts[2]))
+                    .value(parts[3])
+                    .build();
+        } catch (final RuntimeException ex) {
+            throw new InvalidInputException(Set.of(INVALID_CURSOR), Collections.emptySet(), ex);
+        }
+    }
+
+    private static Keyset first(final Sort sort) {
+        final Sort.Order order = sort.stream()
+                .findFirst()
+                .orElse(Sort.Order.asc("id"));
+        return Keyset.builder()
+                .property(order.getProperty())
+                .direction(order.getDirection())
+                .build();
+    }
+
+}
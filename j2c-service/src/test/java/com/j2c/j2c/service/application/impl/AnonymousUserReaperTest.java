@@ -0,0 +1,69 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.user.DomainUserService;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class AnonymousUserReaperTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final int MAX_BATCHES = 3;
+
+    private DomainUserService domainService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnonymousUserReaper reaper;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainUserService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        reaper = new AnonymousUserReaper(
+                domainService,
+                168,
+                BATCH_SIZE,
+                MAX_BATCHES,
+                3600000,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldRemoveCustomersCreatedBeforeRetention() {
+        final LocalDateTime earliest = LocalDateTime.now().minusHours(168);
+
+        reaper.processBatch(null);
+
+        verify(domainService).removeAnonymous(
+                argThat(before -> !before.isBefore(earliest) && before.isBefore(LocalDateTime.now().minusHours(167))),
+                eq(BATCH_SIZE)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldCountRemovedCustomers() {
+        when(domainService.removeAnonymous(any(), eq(BATCH_SIZE)))
+                .thenReturn(1);
+
+        final JobBatchResult result = reaper.processBatch(null);
+
+        assertEquals(1, result.getProcessedCount());
+        assertEquals(1, meterRegistry.counter("j2c.users.anonymous.removed").count());
+    }
+
+}
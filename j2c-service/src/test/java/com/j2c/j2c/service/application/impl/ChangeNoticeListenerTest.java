@@ -0,0 +1,146 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.base.Ticker;
+import com.j2c.j2c.domain.repository.SecondLevelCache;
+import com.j2c.j2c.service.dto.PaymentMethodDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChangeNoticeListenerTest {
+
+    private ProductDTOCache productCache;
+
+    private PaymentMethodDTOCache paymentMethodCache;
+
+    private SecondLevelCache secondLevelCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ChangeNoticeListener listener;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        productCache = new ProductDTOCache(100);
+        paymentMethodCache = new PaymentMethodDTOCache(100, 60000, Ticker.systemTicker());
+        secondLevelCache = mock(SecondLevelCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        final ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        // not listening, notices are handed to the listener directly
+        listener = new ChangeNoticeListener(productCache, paymentMethodCache, secondLevelCache,
+                new DataSourceProperties(), false, 5000, 5000, meterRegistryProvider);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        listener.shutdown();
+    }
+
+    @Test
+    public void handle_ProductNotice_ShouldOnlyEvictTheProducts() {
+        loadProduct(1L);
+        loadProduct(2L);
+        loadProduct(3L);
+
+        listener.handle("Product:1,2");
+
+        loadProduct(1L);
+        loadProduct(2L);
+        loadProduct(3L);
+        assertEquals(5, loads.get());
+        assertEquals(1, meterRegistry.counter("j2c.cache.invalidation.notices").count());
+    }
+
+    @Test
+    public void handle_ProductTagNotice_ShouldEvictAllProducts() {
+        loadProduct(1L);
+        loadProduct(2L);
+
+        listener.handle("ProductTag:7");
+
+        loadProduct(1L);
+        loadProduct(2L);
+        assertEquals(4, loads.get());
+        verify(secondLevelCache).evict("ProductTag", Set.of(7L));
+    }
+
+    @Test
+    public void handle_PaymentMethodsNotice_ShouldOnlyEvictTheCustomers() {
+        loadPaymentMethods(1L);
+        loadPaymentMethods(2L);
+
+        listener.handle("User.paymentMethods:1");
+
+        loadPaymentMethods(1L);
+        loadPaymentMethods(2L);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void handle_EntityNotice_ShouldEvictSecondLevelCache() {
+        listener.handle("ShippingZone:4");
+
+        verify(secondLevelCache).evict("ShippingZone", Set.of(4L));
+        verify(secondLevelCache, never()).evictAll(any(String.class));
+    }
+
+    @Test
+    public void handle_WidenedEntityNotice_ShouldEvictAllEntitiesOfTheType() {
+        listener.handle("ShippingZone");
+
+        verify(secondLevelCache).evictAll("ShippingZone");
+    }
+
+    @Test
+    public void handle_MalformedNotice_ShouldBeIgnored() {
+        loadProduct(1L);
+
+        listener.handle("Product:one");
+
+        loadProduct(1L);
+        assertEquals(1, loads.get());
+        assertEquals(0, meterRegistry.counter("j2c.cache.invalidation.notices").count());
+    }
+
+    @Test
+    public void reset_ShouldEvictEverything() {
+        loadProduct(1L);
+        loadPaymentMethods(1L);
+
+        listener.reset();
+
+        loadProduct(1L);
+        loadPaymentMethods(1L);
+        assertEquals(4, loads.get());
+        verify(secondLevelCache).evictAll();
+    }
+
+    private void loadProduct(final Long productId) {
+        productCache.get(productId, "find", () -> "product-" + loads.incrementAndGet());
+    }
+
+    private void loadPaymentMethods(final Long customerId) {
+        paymentMethodCache.get(customerId, () -> {
+            loads.incrementAndGet();
+            return List.<PaymentMethodDTO>of();
+        });
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.base.Ticker;
+import com.j2c.j2c.service.exception.CheckoutNotAdmittedException;
+import com.j2c.j2c.service.input.CreateCheckoutForm;
+import com.j2c.j2c.service.input.Line;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckoutAdmissionControlTest {
+
+    // one turn every 100 milliseconds
+    private static final double RATE = 10;
+
+    private static final int BURST = 2;
+
+    private static final int QUEUE_CAPACITY = 3;
+
+    private MutableTicker ticker;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CheckoutAdmissionControl admissionControl;
+
+    @BeforeEach
+    public void setUp() {
+        ticker = new MutableTicker();
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new CheckoutAdmissionControl(true, RATE, BURST, QUEUE_CAPACITY, 60000, 1000, ticker, meterRegistry);
+    }
+
+    @Test
+    public void admit_Disabled_ShouldAdmitEveryCheckout() {
+        admissionControl = new CheckoutAdmissionControl(false, RATE, BURST, QUEUE_CAPACITY, 60000, 1000, ticker, meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> admissionControl.admit(form(1L, null)));
+        }
+    }
+
+    @Test
+    public void admit_WithinBurst_ShouldAdmit() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+
+        assertEquals(2, meterRegistry.counter("j2c.checkouts.admission.checkouts", "outcome", "admitted").count());
+    }
+
+    @Test
+    public void admit_BeyondBurst_ShouldQueueInOrderOfArrival() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+
+        final CheckoutNotAdmittedException first = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, null))
+        );
+        final CheckoutNotAdmittedException second = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, null))
+        );
+
+        assertNotNull(first.getTicket());
+        assertEquals(1, first.getPosition());
+        assertEquals(2, second.getPosition());
+        assertEquals(1, first.getRetryAfterSeconds());
+    }
+
+    @Test
+    public void admit_RetriedWithTicketBeforeTurn_ShouldKeepTurn() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+        final UUID ticket = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, null))
+        ).getTicket();
+
+        ticker.advance(50);
+        final CheckoutNotAdmittedException retried = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, ticket))
+        );
+
+        assertEquals(ticket, retried.getTicket());
+        assertEquals(1, retried.getPosition());
+    }
+
+    @Test
+    public void admit_RetriedWithTicketOnTurn_ShouldAdmitOnce() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+        final UUID ticket = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, null))
+        ).getTicket();
+
+        ticker.advance(100);
+
+        assertDoesNotThrow(() -> admissionControl.admit(form(1L, ticket)));
+        // the ticket is used up, a second attempt with it is queued at the back
+        final CheckoutNotAdmittedException reused = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, ticket))
+        );
+        assertNotEquals(ticket, reused.getTicket());
+    }
+
+    @Test
+    public void admit_WaitingRoomFull_ShouldRejectWithoutTicket() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            assertThrows(CheckoutNotAdmittedException.class, () -> admissionControl.admit(form(1L, null)));
+        }
+
+        final CheckoutNotAdmittedException rejected = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, null))
+        );
+
+        assertNull(rejected.getTicket());
+        assertEquals(1, meterRegistry.counter("j2c.checkouts.admission.checkouts", "outcome", "rejected").count());
+    }
+
+    @Test
+    public void admit_OneWaitingRoomFull_ShouldGiveBackTurnsOfOtherVariants() {
+        admissionControl.admit(form(2L, null));
+        admissionControl.admit(form(2L, null));
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            assertThrows(CheckoutNotAdmittedException.class, () -> admissionControl.admit(form(2L, null)));
+        }
+        final CreateCheckoutForm bothVariants = CreateCheckoutForm.builder()
+                .email("customer@j2c.com")
+                .lines(List.of(
+                        Line.builder().id(1L).quantity(1).build(),
+                        Line.builder().id(2L).quantity(1).build()
+                ))
+                .build();
+
+        final CheckoutNotAdmittedException rejected = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(bothVariants)
+        );
+
+        assertNull(rejected.getTicket());
+        // the whole burst of the first variant is still available
+        assertDoesNotThrow(() -> admissionControl.admit(form(1L, null)));
+        assertDoesNotThrow(() -> admissionControl.admit(form(1L, null)));
+    }
+
+    @Test
+    public void admit_OtherVariant_ShouldNotBeHeldUp() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+        assertThrows(CheckoutNotAdmittedException.class, () -> admissionControl.admit(form(1L, null)));
+
+        assertDoesNotThrow(() -> admissionControl.admit(form(2L, null)));
+    }
+
+    @Test
+    public void admit_TicketOfOtherVariants_ShouldTakeNewTurn() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+        final UUID ticket = assertThrows(
+                CheckoutNotAdmittedException.class,
+                () -> admissionControl.admit(form(1L, null))
+        ).getTicket();
+
+        ticker.advance(100);
+
+        assertDoesNotThrow(() -> admissionControl.admit(form(2L, ticket)));
+        assertThrows(CheckoutNotAdmittedException.class, () -> admissionControl.admit(form(1L, null)));
+    }
+
+    @Test
+    public void admit_AfterQuietPeriod_ShouldAdmitBurstAgain() {
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+
+        ticker.advance(1000);
+
+        admissionControl.admit(form(1L, null));
+        admissionControl.admit(form(1L, null));
+    }
+
+    private static CreateCheckoutForm form(final Long variantId, final UUID ticket) {
+        return CreateCheckoutForm.builder()
+                .email("customer@j2c.com")
+                .lines(List.of(Line.builder().id(variantId).quantity(1).build()))
+                .waitingRoomTicket(ticket)
+                .build();
+    }
+
+    private static class MutableTicker extends Ticker {
+
+        private long nanos;
+
+        void advance(final long millis) {
+            nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+    }
+
+}
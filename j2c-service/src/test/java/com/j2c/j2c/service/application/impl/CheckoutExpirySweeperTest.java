@@ -0,0 +1,105 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.checkout.DomainCheckoutService;
+import com.j2c.j2c.service.domain.checkout.RemoveExpiredCheckoutsResult;
+import com.j2c.j2c.service.exception.GatewayException;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CheckoutExpirySweeperTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final int MAX_BATCHES = 3;
+
+    private DomainCheckoutService domainService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CheckoutExpirySweeper sweeper;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainCheckoutService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        sweeper = new CheckoutExpirySweeper(
+                domainService,
+                72,
+                BATCH_SIZE,
+                MAX_BATCHES,
+                2,
+                600000,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        sweeper.shutdown();
+    }
+
+    @Test
+    public void processBatch_ShouldRemoveCheckoutsInactiveForLongerThanTtl() {
+        when(domainService.removeExpired(any(), eq(BATCH_SIZE)))
+                .thenReturn(result(0, Collections.emptyList()));
+        final LocalDateTime earliest = LocalDateTime.now().minusHours(72);
+
+        sweeper.processBatch(null);
+
+        verify(domainService).removeExpired(
+                argThat(before -> !before.isBefore(earliest) && before.isBefore(LocalDateTime.now().minusHours(71))),
+                eq(BATCH_SIZE)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldCancelPaymentsOfRemovedCheckouts() {
+        when(domainService.removeExpired(any(), eq(BATCH_SIZE)))
+                .thenReturn(result(2, List.of("pi_1", "pi_2")));
+
+        final JobBatchResult result = sweeper.processBatch(null);
+
+        assertEquals(2, result.getProcessedCount());
+        verify(domainService).cancelPayment("pi_1");
+        verify(domainService).cancelPayment("pi_2");
+        assertEquals(2, meterRegistry.counter("j2c.checkouts.expiry.removed").count());
+        assertEquals(2, meterRegistry.counter("j2c.checkouts.expiry.payments", "outcome", "cancelled").count());
+    }
+
+    @Test
+    public void processBatch_CancellationFails_ShouldCancelRemainingPayments() {
+        when(domainService.removeExpired(any(), eq(BATCH_SIZE)))
+                .thenReturn(result(2, List.of("pi_1", "pi_2")));
+        doThrow(new GatewayException()).when(domainService).cancelPayment("pi_1");
+
+        sweeper.processBatch(null);
+
+        verify(domainService).cancelPayment("pi_2");
+        assertEquals(1, meterRegistry.counter("j2c.checkouts.expiry.payments", "outcome", "cancelled").count());
+        assertEquals(1, meterRegistry.counter("j2c.checkouts.expiry.payments", "outcome", "failed").count());
+    }
+
+    private static RemoveExpiredCheckoutsResult result(final int removedCount, final List<String> paymentIds) {
+        return RemoveExpiredCheckoutsResult.builder()
+                .removedCount(removedCount)
+                .paymentIds(paymentIds)
+                .build();
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.domain.entity.*;
+import com.j2c.j2c.domain.enums.MassUnit;
+import com.j2c.j2c.domain.enums.ShippingMethodType;
+import com.j2c.j2c.service.input.SetCheckoutShippingMethodForm;
+import com.j2c.j2c.service.test.BaseServiceTest;
+import com.j2c.j2c.service.test.CheckoutServiceStubber;
+import com.j2c.j2c.service.test.MockBeanProvider;
+import com.j2c.j2c.service.test.MockEntity;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "j2c.service.checkout.lazy-payment-sync=true"
+})
+class CheckoutServiceImplLazyPaymentSyncTest extends BaseServiceTest {
+
+    @Autowired
+    private CheckoutServiceImpl service;
+
+    @Autowired
+    private CheckoutServiceStubber stubber;
+
+    @Autowired
+    private MockBeanProvider mockBeanProvider;
+
+    @Test
+    public void setShippingMethod_HasPayment_ShouldNotCallGateway() {
+        final Long checkoutId = 1L;
+        final SetCheckoutShippingMethodForm form = SetCheckoutShippingMethodForm.builder()
+                .shippingMethodId(1L)
+                .build();
+
+        final Payment payment = payment();
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .paymentDetails(paymentDetailsFromPayment(payment))
+                .build();
+        stubber.setShippingMethod()
+                .checkout(checkout)
+                .shippingMethod(shippingMethodWithIdForCountry(form.getShippingMethodId(), checkout))
+                .payment(payment)
+                .stub();
+
+        service.setShippingMethod(checkoutId, form);
+
+        verifyNoInteractions(mockBeanProvider.getPaymentGateway());
+    }
+
+    @Test
+    public void setShippingMethod_NoPayment_ShouldNotRequestPayment() {
+        final Long checkoutId = 1L;
+        final SetCheckoutShippingMethodForm form = SetCheckoutShippingMethodForm.builder()
+                .shippingMethodId(1L)
+                .build();
+
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .build();
+        stubber.setShippingMethod()
+                .checkout(checkout)
+                .shippingMethod(shippingMethodWithIdForCountry(form.getShippingMethodId(), checkout))
+                .payment(payment())
+                .stub();
+
+        service.setShippingMethod(checkoutId, form);
+
+        verifyNoInteractions(mockBeanProvider.getPaymentGateway());
+    }
+
+    @Test
+    public void complete_TotalPriceChanged_ShouldUpdatePaymentBeforeCapture() {
+        final Long checkoutId = 1L;
+
+        final Payment payment = spy(payment());
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .paymentDetails(paymentDetailsFromPayment(payment))
+                .build();
+        stubber.complete()
+                .checkout(checkout)
+                .payment(payment)
+                .stub();
+
+        service.complete(checkoutId);
+
+        final InOrder inOrder = inOrder(payment);
+        inOrder.verify(payment, times(1))
+                .update(checkout);
+        inOrder.verify(payment, times(1))
+                .capture();
+        assertTrue(checkout.isPaymentSynced());
+    }
+
+    private static Payment payment() {
+        return MockEntity.payment().build();
+    }
+
+    private static PaymentDetails paymentDetailsFromPayment(final Payment payment) {
+        return MockEntity.paymentDetails()
+                .id(payment.getId())
+                .token(payment.getToken())
+                .build();
+    }
+
+    private static MockEntity.MockCheckoutBuilder checkoutWithId(final Long id) {
+        return MockEntity.checkout()
+                .id(id)
+                .usesSingleAddress(false)
+                .shippingRequired(true)
+                .massUnit(MassUnit.g)
+                .totalMass(100)
+                .nullPaymentDetails(true);
+    }
+
+    private static ShippingMethod shippingMethodWithIdForCountry(final Long id, final Checkout checkout) {
+        final ShippingZone zone = MockEntity.shippingZone().build();
+        MockEntity.shippingCountry().zone(zone).code(checkout.getShippingAddress().getCountry()).build();
+        return MockEntity.shippingMethod()
+                .id(id)
+                .zone(zone)
+                .type(ShippingMethodType.Weight)
+                .min(0L)
+                .max(75000L)
+                .rate(1000L)
+                .build();
+    }
+
+}
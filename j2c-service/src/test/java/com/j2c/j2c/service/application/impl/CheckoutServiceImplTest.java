@@ -2,6 +2,7 @@ package com.j2c.j2c.service.application.impl;
 
 import com.j2c.j2c.domain.entity.*;
 import com.j2c.j2c.domain.enums.MassUnit;
+import com.j2c.j2c.domain.enums.RoleType;
 import com.j2c.j2c.domain.enums.ShippingMethodType;
 import com.j2c.j2c.service.dto.CheckoutDTO;
 import com.j2c.j2c.service.dto.OrderDTO;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static com.j2c.j2c.domain.exception.DomainErrorMessages.*;
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.INSUFFICIENT_STOCK;
 import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.RESOURCES_NOT_FOUND;
 import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.RESOURCE_NOT_FOUND;
 import static com.j2c.j2c.service.test.TestUtils.*;
@@ -425,6 +427,55 @@ class CheckoutServiceImplTest extends BaseServiceTest {
                 .save(any(Checkout.class));
     }
 
+    @Test
+    public void checkout_VariantOutOfStock_ShouldThrowServiceException() {
+        final Long customerId = 1L;
+        final String ipAddress = "127.0.0.1";
+        final CreateCheckoutForm form = hpCreateCheckoutForm().build();
+
+        stubber.checkout()
+                .customer(userWithId(customerId))
+                .variants(physicalProducts(form.getLines()))
+                .configuration(defaultConfiguration())
+                .payment(Payment.free())
+                .stock(2)
+                .stub();
+
+        final ServiceException exception = assertThrows(
+                ServiceException.class,
+                () -> service.checkout(customerId, ipAddress, form)
+        );
+        assertEquals(String.format(INSUFFICIENT_STOCK, 1L), exception.getMessage());
+
+        verify(mockBeanProvider.getInventoryStripeRepository(), never())
+                .findAllByVariantIdForUpdate(any());
+        verify(mockBeanProvider.getCheckoutRepository(), never())
+                .save(any(Checkout.class));
+    }
+
+    @Test
+    public void checkout_VariantsInStock_ShouldReserveUnits() {
+        final Long customerId = 1L;
+        final String ipAddress = "127.0.0.1";
+        final CreateCheckoutForm form = hpCreateCheckoutForm().build();
+
+        stubber.checkout()
+                .customer(userWithId(customerId))
+                .variants(physicalProducts(form.getLines()))
+                .configuration(defaultConfiguration())
+                .payment(Payment.free())
+                .stock(10)
+                .stub();
+
+        final CheckoutDTO checkoutDTO = service.checkout(customerId, ipAddress, form);
+
+        assertEquals(form.getLines().size(), checkoutDTO.getLines().size());
+        for (final Line line : form.getLines()) {
+            verify(mockBeanProvider.getInventoryStripeRepository(), times(1))
+                    .findAllAvailableForUpdate(eq(line.getId()), eq(line.getQuantity().intValue()), any());
+        }
+    }
+
     @Test
     public void checkout_ShippingIsNotRequired_ShouldRequestGatewayPayment() {
         final Long customerId = 1L;
@@ -444,6 +495,31 @@ class CheckoutServiceImplTest extends BaseServiceTest {
                 .request(any(Long.class), any(CurrencyCode.class), anyString());
     }
 
+    @Test
+    public void checkoutAnonymously_HappyPath_ShouldCreateCustomerAndReturnCreatedCheckoutAndLines() {
+        final String ipAddress = "127.0.0.1";
+        final CreateCheckoutForm form = hpCreateCheckoutForm().build();
+
+        stubber.checkout()
+                .role(MockEntity.role().type(RoleType.Customer).build())
+                .variants(physicalProducts(form.getLines()))
+                .configuration(defaultConfiguration())
+                .payment(Payment.free())
+                .stub();
+
+        final CheckoutDTO checkoutDTO = service.checkoutAnonymously(ipAddress, form);
+
+        assertNotNull(checkoutDTO);
+        assertNotNull(checkoutDTO.getCustomerId());
+        assertEquals(form.getEmail(), checkoutDTO.getEmail());
+        assertEquals(form.getLines().size(), checkoutDTO.getLines().size());
+
+        verify(mockBeanProvider.getUserRepository(), times(1))
+                .save(any(User.class));
+        verify(mockBeanProvider.getCheckoutRepository(), times(1))
+                .save(any(Checkout.class));
+    }
+
     @Test
     public void createShippingAddress_NullCheckoutId_ShouldThrowInvalidInputException() {
         final CreateCheckoutShippingAddressForm form = hpCreateCheckoutShippingAddressForm().build();
@@ -2877,6 +2953,93 @@ class CheckoutServiceImplTest extends BaseServiceTest {
         assertEquals(form.getSavePaymentMethodAsDefault(), checkoutDTO.getSavePaymentMethodAsDefault());
     }
 
+    @Test
+    public void preparePayment_NoPayment_ShouldRequestPayment() {
+        final Long checkoutId = 1L;
+
+        final Payment payment = payment();
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .nullPaymentDetails(true)
+                .build();
+        stubber.preparePayment()
+                .checkout(checkout)
+                .payment(payment)
+                .stub();
+
+        service.preparePayment(checkoutId);
+
+        verify(mockBeanProvider.getPaymentGateway(), times(1))
+                .request(eq(checkout.getTotalPrice()), any(CurrencyCode.class), anyString());
+        assertTrue(checkout.isPaymentSynced());
+    }
+
+    @Test
+    public void preparePayment_TotalPriceChanged_ShouldUpdatePayment() {
+        final Long checkoutId = 1L;
+
+        final Payment payment = spy(payment());
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .paymentDetails(paymentDetailsFromPayment(payment))
+                .build();
+        stubber.preparePayment()
+                .checkout(checkout)
+                .payment(payment)
+                .stub();
+
+        service.preparePayment(checkoutId);
+
+        verify(payment, times(1))
+                .update(checkout);
+        assertTrue(checkout.isPaymentSynced());
+    }
+
+    @Test
+    public void preparePayment_PaymentSynced_ShouldNotCallGateway() {
+        final Long checkoutId = 1L;
+
+        final Payment payment = payment();
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .paymentDetails(paymentDetailsFromPayment(payment))
+                .build();
+        checkout.completePaymentSync(checkout.startPaymentSync(), checkout.getTotalPrice());
+        stubber.preparePayment()
+                .checkout(checkout)
+                .payment(payment)
+                .stub();
+
+        service.preparePayment(checkoutId);
+
+        verifyNoInteractions(mockBeanProvider.getPaymentGateway());
+    }
+
+    @Test
+    public void preparePayment_TotalPriceChangedDuringSync_ShouldUpdatePaymentAgain() {
+        final Long checkoutId = 1L;
+
+        final Payment payment = spy(payment());
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .paymentDetails(paymentDetailsFromPayment(payment))
+                .build();
+        stubber.preparePayment()
+                .checkout(checkout)
+                .payment(payment)
+                .stub();
+        final Long price = checkout.getPrice();
+        doAnswer(i -> {
+            // only the first update races with a change of the total price
+            if (checkout.getPrice().equals(price)) {
+                setField(checkout, "price", price + 100);
+            }
+            return null;
+        }).when(payment).update(checkout);
+
+        service.preparePayment(checkoutId);
+
+        verify(payment, times(2))
+                .update(checkout);
+        assertTrue(checkout.isPaymentSynced());
+    }
+
     @Test
     public void complete_NullCheckoutId_ShouldThrowInvalidInputException() {
         final InvalidInputException exception = assertThrows(
@@ -3009,6 +3172,28 @@ class CheckoutServiceImplTest extends BaseServiceTest {
                 .delete(any(Checkout.class));
     }
 
+    @Test
+    public void complete_PaymentAuthorized_ShouldNotRetrievePayment() {
+        final Long checkoutId = 1L;
+
+        final Payment payment = spy(payment());
+        final Checkout checkout = checkoutWithId(checkoutId)
+                .paymentDetails(paymentDetailsFromPayment(payment))
+                .build();
+        checkout.authorizePayment(checkout.getTotalPrice(), payment.getPaymentMethodId());
+        stubber.complete()
+                .checkout(checkout)
+                .payment(payment)
+                .stub();
+
+        service.complete(checkoutId);
+
+        verify(mockBeanProvider.getPaymentGateway(), never())
+                .findById(anyString());
+        verify(payment, times(1))
+                .capture();
+    }
+
     @Test
     public void cancel_NullCheckoutId_ShouldThrowInvalidInputException() {
         final InvalidInputException exception = assertThrows(
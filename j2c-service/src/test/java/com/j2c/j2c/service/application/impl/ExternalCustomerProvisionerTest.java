@@ -0,0 +1,119 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.user.DomainUserService;
+import com.j2c.j2c.service.domain.user.ExternalCustomerRequestedEvent;
+import com.j2c.j2c.service.exception.GatewayException;
+import com.j2c.j2c.service.gateway.PaymentGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ExternalCustomerProvisionerTest {
+
+    private DomainUserService domainService;
+
+    private PaymentGateway paymentGateway;
+
+    private ExternalCustomerProvisioner provisioner;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainUserService.class);
+        paymentGateway = mock(PaymentGateway.class);
+        when(paymentGateway.createCustomer()).thenReturn("cus_1");
+        when(domainService.setExternalCustomerIfAbsent(anyLong(), any())).thenReturn(true);
+        // batches are only provisioned when the test says so
+        provisioner = new ExternalCustomerProvisioner(domainService, paymentGateway, 2, 10, 1000, 3600000);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        provisioner.shutdown();
+    }
+
+    @Test
+    public void provisionBatch_ShouldCreateAndStoreExternalCustomer() {
+        request(1L);
+
+        provisioner.provisionBatch();
+
+        verify(paymentGateway).createCustomer();
+        verify(domainService).setExternalCustomerIfAbsent(1L, "cus_1");
+    }
+
+    @Test
+    public void provisionBatch_AlreadyProvisioned_ShouldNotCreateExternalCustomer() {
+        when(domainService.hasExternalCustomer(1L)).thenReturn(true);
+        request(1L);
+
+        provisioner.provisionBatch();
+
+        verify(paymentGateway, never()).createCustomer();
+        verify(domainService, never()).setExternalCustomerIfAbsent(anyLong(), any());
+    }
+
+    @Test
+    public void handle_SameUserRequestedTwice_ShouldProvisionOnce() {
+        request(1L);
+        request(1L);
+
+        provisioner.provisionBatch();
+        provisioner.provisionBatch();
+
+        verify(paymentGateway, times(1)).createCustomer();
+    }
+
+    @Test
+    public void handle_QueueFull_ShouldDropRequest() {
+        request(1L);
+        request(2L);
+        request(3L);
+
+        provisioner.provisionBatch();
+
+        verify(domainService).setExternalCustomerIfAbsent(1L, "cus_1");
+        verify(domainService).setExternalCustomerIfAbsent(2L, "cus_1");
+        verify(domainService, never()).setExternalCustomerIfAbsent(eq(3L), any());
+    }
+
+    @Test
+    public void provisionBatch_GatewayFails_ShouldContinueWithNextUser() {
+        when(paymentGateway.createCustomer())
+                .thenThrow(new GatewayException())
+                .thenReturn("cus_2");
+        request(1L);
+        request(2L);
+
+        provisioner.provisionBatch();
+
+        verify(domainService, never()).setExternalCustomerIfAbsent(eq(1L), any());
+        verify(domainService).setExternalCustomerIfAbsent(2L, "cus_2");
+    }
+
+    @Test
+    public void provisionBatch_Failed_ShouldAllowRequestingAgain() {
+        when(paymentGateway.createCustomer())
+                .thenThrow(new GatewayException())
+                .thenReturn("cus_2");
+        request(1L);
+        provisioner.provisionBatch();
+
+        request(1L);
+        provisioner.provisionBatch();
+
+        verify(domainService).setExternalCustomerIfAbsent(1L, "cus_2");
+    }
+
+    private void request(final Long userId) {
+        provisioner.handle(
+                ExternalCustomerRequestedEvent.builder()
+                        .userId(userId)
+                        .build()
+        );
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.image.DomainImageService;
+import com.j2c.j2c.service.image.ImageStore;
+import com.j2c.j2c.service.image.RemoveUploadedFilesResult;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OrphanedImageCollectorTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private DomainImageService domainService;
+
+    private ImageStore imageStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OrphanedImageCollector collector;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainImageService.class);
+        imageStore = mock(ImageStore.class);
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        collector = new OrphanedImageCollector(
+                domainService,
+                imageStore,
+                24,
+                BATCH_SIZE,
+                3,
+                86400000,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldOnlyListFilesOlderThanGracePeriod() {
+        final Instant earliest = Instant.now().minus(24, ChronoUnit.HOURS);
+
+        collector.processBatch("a");
+
+        verify(imageStore).findUploadedFilenames(
+                eq("a"),
+                argThat(before -> !before.isBefore(earliest) && before.isBefore(Instant.now().minus(23, ChronoUnit.HOURS))),
+                eq(BATCH_SIZE)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldRemoveOnlyUnreferencedFiles() {
+        when(imageStore.findUploadedFilenames(any(), any(), anyInt())).thenReturn(List.of("a", "b"));
+        when(domainService.findUnreferenced(List.of("a", "b"))).thenReturn(Set.of("b"));
+        when(imageStore.removeUploadedFiles(eq(Set.of("b")), any())).thenReturn(
+                RemoveUploadedFilesResult.builder()
+                        .removedCount(1)
+                        .removedBytes(1024)
+                        .build()
+        );
+
+        collector.processBatch(null);
+
+        verify(imageStore).removeUploadedFiles(eq(Set.of("b")), any());
+        assertEquals(1, meterRegistry.counter("j2c.images.orphaned.removed").count());
+        assertEquals(1024, meterRegistry.counter("j2c.images.orphaned.removed.size").count());
+    }
+
+    @Test
+    public void processBatch_NoOrphans_ShouldRemoveNothing() {
+        when(imageStore.findUploadedFilenames(any(), any(), anyInt())).thenReturn(List.of("a"));
+        when(domainService.findUnreferenced(List.of("a"))).thenReturn(Set.of());
+
+        collector.processBatch(null);
+
+        verify(imageStore, never()).removeUploadedFiles(any(), any());
+    }
+
+    @Test
+    public void processBatch_FullBatch_ShouldContinueAfterLastFilename() {
+        when(imageStore.findUploadedFilenames(any(), any(), anyInt())).thenReturn(List.of("a", "b"));
+        when(domainService.findUnreferenced(any())).thenReturn(Set.of());
+
+        final JobBatchResult result = collector.processBatch(null);
+
+        assertFalse(result.isFinished());
+        assertEquals("b", result.getCheckpoint());
+        assertEquals(2, result.getProcessedCount());
+    }
+
+    @Test
+    public void processBatch_PartialBatch_ShouldFinish() {
+        when(imageStore.findUploadedFilenames(any(), any(), anyInt())).thenReturn(List.of("c"));
+        when(domainService.findUnreferenced(any())).thenReturn(Set.of());
+
+        final JobBatchResult result = collector.processBatch("b");
+
+        assertTrue(result.isFinished());
+        assertEquals(1, result.getProcessedCount());
+    }
+
+}
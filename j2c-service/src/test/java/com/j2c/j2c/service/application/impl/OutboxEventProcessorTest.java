@@ -0,0 +1,169 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.domain.entity.OutboxEvent;
+import com.j2c.j2c.service.domain.outbox.DomainOutboxService;
+import com.j2c.j2c.service.domain.outbox.OutboxEventHandler;
+import com.j2c.j2c.service.domain.user.SignUpEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.j2c.j2c.service.domain.outbox.OutboxPayloads.type;
+import static com.j2c.j2c.service.domain.outbox.OutboxPayloads.write;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+class OutboxEventProcessorTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private DomainOutboxService domainService;
+
+    private RecordingSignUpHandler handler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxEventProcessor processor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        domainService = mock(DomainOutboxService.class);
+        handler = new RecordingSignUpHandler();
+        meterRegistry = new SimpleMeterRegistry();
+        final ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        processor = new OutboxEventProcessor(domainService, List.of(handler), BATCH_SIZE, MAX_ATTEMPTS, 60000, 10000, meterRegistryProvider);
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        processor.shutdown();
+    }
+
+    @Test
+    public void poll_HandlerSucceeds_ShouldDeliverPayloadAndMarkProcessed() {
+        final UUID tokenId = UUID.randomUUID();
+        final OutboxEvent event = signUpEvent("customer@j2c.com", tokenId);
+        when(domainService.claimAvailable(eq(MAX_ATTEMPTS), eq(BATCH_SIZE), any()))
+                .thenReturn(List.of(event));
+
+        processor.poll();
+
+        assertEquals(1, handler.received.size());
+        assertEquals("customer@j2c.com", handler.received.get(0).getUserEmail());
+        assertEquals(tokenId, handler.received.get(0).getTokenId());
+        assertEquals(event.getId(), handler.keys.get(0));
+        verify(domainService).markProcessed(event.getId());
+        verify(domainService, never()).recordFailedAttempt(any(), any());
+    }
+
+    @Test
+    public void poll_HandlerFails_ShouldRecordFailedAttemptWithBackoff() {
+        handler.result = CompletableFuture.failedFuture(new RuntimeException("SMTP server unavailable"));
+        final OutboxEvent event = signUpEvent("customer@j2c.com", UUID.randomUUID());
+        setField(event, "attempts", 1);
+        when(domainService.claimAvailable(eq(MAX_ATTEMPTS), eq(BATCH_SIZE), any()))
+                .thenReturn(List.of(event));
+
+        final LocalDateTime before = LocalDateTime.now();
+        processor.poll();
+
+        // the second failed attempt waits twice the retry delay
+        verify(domainService).recordFailedAttempt(eq(event.getId()), argThat(retryAt -> !retryAt.isBefore(before.plusSeconds(20))));
+        verify(domainService, never()).markProcessed(any());
+        assertEquals(1, meterRegistry.counter("j2c.outbox.events", "outcome", "failed").count());
+    }
+
+    @Test
+    public void poll_LastAttemptFails_ShouldCountAbandonedEvent() {
+        handler.result = CompletableFuture.failedFuture(new RuntimeException("SMTP server unavailable"));
+        final OutboxEvent event = signUpEvent("customer@j2c.com", UUID.randomUUID());
+        setField(event, "attempts", MAX_ATTEMPTS - 1);
+        when(domainService.claimAvailable(eq(MAX_ATTEMPTS), eq(BATCH_SIZE), any()))
+                .thenReturn(List.of(event));
+
+        processor.poll();
+
+        verify(domainService).recordFailedAttempt(eq(event.getId()), any());
+        assertEquals(1, meterRegistry.counter("j2c.outbox.events", "outcome", "abandoned").count());
+    }
+
+    @Test
+    public void poll_NoHandlerForType_ShouldRecordFailedAttempt() {
+        final OutboxEvent event = OutboxEvent.builder()
+                .type("UnknownEvent")
+                .payload("{}")
+                .build();
+        setField(event, "id", UUID.randomUUID());
+        when(domainService.claimAvailable(eq(MAX_ATTEMPTS), eq(BATCH_SIZE), any()))
+                .thenReturn(List.of(event));
+
+        processor.poll();
+
+        verify(domainService).recordFailedAttempt(eq(event.getId()), any());
+        assertTrue(handler.received.isEmpty());
+    }
+
+    @Test
+    public void poll_FullBatch_ShouldClaimNextBatch() {
+        when(domainService.claimAvailable(eq(MAX_ATTEMPTS), eq(BATCH_SIZE), any()))
+                .thenReturn(List.of(signUpEvent("a@j2c.com", UUID.randomUUID()), signUpEvent("b@j2c.com", UUID.randomUUID())))
+                .thenReturn(List.of(signUpEvent("c@j2c.com", UUID.randomUUID())))
+                .thenReturn(List.of());
+
+        processor.poll();
+
+        assertEquals(3, handler.received.size());
+        verify(domainService, times(2)).claimAvailable(eq(MAX_ATTEMPTS), eq(BATCH_SIZE), any());
+        verify(domainService, times(3)).markProcessed(any());
+    }
+
+    private static OutboxEvent signUpEvent(final String email, final UUID tokenId) {
+        final OutboxEvent event = OutboxEvent.builder()
+                .type(type(SignUpEvent.class))
+                .payload(write(
+                        SignUpEvent.builder()
+                                .userEmail(email)
+                                .tokenId(tokenId)
+                                .build()
+                ))
+                .build();
+        setField(event, "id", UUID.randomUUID());
+        return event;
+    }
+
+    private static class RecordingSignUpHandler implements OutboxEventHandler<SignUpEvent> {
+
+        private final List<SignUpEvent> received = new ArrayList<>();
+        private final List<UUID> keys = new ArrayList<>();
+        private CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+
+        @Override
+        public Class<SignUpEvent> getEventType() {
+            return SignUpEvent.class;
+        }
+
+        @Override
+        public CompletableFuture<Void> handle(final SignUpEvent event, final UUID idempotencyKey) {
+            received.add(event);
+            keys.add(idempotencyKey);
+            return result;
+        }
+
+    }
+
+}
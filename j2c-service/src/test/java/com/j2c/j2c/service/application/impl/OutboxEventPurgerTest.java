@@ -0,0 +1,71 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.outbox.DomainOutboxService;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxEventPurgerTest {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private static final int BATCH_SIZE = 2;
+
+    private DomainOutboxService domainService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxEventPurger purger;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainOutboxService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        purger = new OutboxEventPurger(
+                domainService,
+                MAX_ATTEMPTS,
+                168,
+                BATCH_SIZE,
+                3,
+                3600000,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldRemoveEventsFinishedBeforeRetention() {
+        final LocalDateTime earliest = LocalDateTime.now().minusHours(168);
+
+        purger.processBatch(null);
+
+        verify(domainService).removeFinished(
+                eq(MAX_ATTEMPTS),
+                argThat(before -> !before.isBefore(earliest) && before.isBefore(LocalDateTime.now().minusHours(167))),
+                eq(BATCH_SIZE)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldCountRemovedEvents() {
+        when(domainService.removeFinished(eq(MAX_ATTEMPTS), any(), eq(BATCH_SIZE)))
+                .thenReturn(1);
+
+        final JobBatchResult result = purger.processBatch(null);
+
+        assertEquals(1, result.getProcessedCount());
+        assertEquals(1, meterRegistry.counter("j2c.outbox.removed").count());
+    }
+
+}
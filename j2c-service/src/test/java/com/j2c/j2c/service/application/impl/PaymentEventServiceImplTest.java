@@ -0,0 +1,159 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.domain.entity.Checkout;
+import com.j2c.j2c.domain.entity.Order;
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import com.j2c.j2c.domain.enums.OrderStatus;
+import com.j2c.j2c.domain.enums.PaymentEventType;
+import com.j2c.j2c.service.domain.payment.DomainPaymentEventService;
+import com.j2c.j2c.service.exception.InvalidInputException;
+import com.j2c.j2c.service.test.BaseServiceTest;
+import com.j2c.j2c.service.test.MockBeanProvider;
+import com.j2c.j2c.service.test.MockEntity;
+import com.j2c.j2c.service.test.PaymentEventServiceStubber;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PaymentEventServiceImplTest extends BaseServiceTest {
+
+    @Autowired
+    private PaymentEventServiceImpl service;
+
+    @Autowired
+    private DomainPaymentEventService domainService;
+
+    @Autowired
+    private PaymentEventServiceStubber stubber;
+
+    @Autowired
+    private MockBeanProvider mockBeanProvider;
+
+    @Test
+    public void receive_NullSignature_ShouldThrowInvalidInputException() {
+        assertThrows(
+                InvalidInputException.class,
+                () -> service.receive("{}", null)
+        );
+    }
+
+    @Test
+    public void receive_NewEvent_ShouldStoreEvent() {
+        final PaymentEvent event = event("evt_1", PaymentEventType.AUTHORIZED, "pi_1", 1499L);
+        stubber.receive()
+                .event(event)
+                .stub();
+
+        service.receive("{}", "signature");
+
+        verify(mockBeanProvider.getPaymentEventRepository(), times(1))
+                .save(event);
+    }
+
+    @Test
+    public void receive_AlreadyStoredEvent_ShouldNotStoreAgain() {
+        final PaymentEvent event = event("evt_1", PaymentEventType.AUTHORIZED, "pi_1", 1499L);
+        stubber.receive()
+                .event(event)
+                .alreadyStored(true)
+                .stub();
+
+        service.receive("{}", "signature");
+
+        verify(mockBeanProvider.getPaymentEventRepository(), never())
+                .save(any(PaymentEvent.class));
+    }
+
+    @Test
+    public void receive_IgnoredEvent_ShouldNotStoreAnything() {
+        stubber.receive()
+                .stub();
+
+        service.receive("{}", "signature");
+
+        verify(mockBeanProvider.getPaymentEventRepository(), never())
+                .save(any(PaymentEvent.class));
+    }
+
+    @Test
+    public void process_Authorized_ShouldAuthorizeCheckoutPayment() {
+        final Checkout checkout = MockEntity.checkout().build();
+        final PaymentEvent event = event("evt_1", PaymentEventType.AUTHORIZED, checkout.getPaymentId(), checkout.getTotalPrice());
+        stubber.process()
+                .event(event)
+                .checkout(checkout)
+                .stub();
+
+        domainService.process(event.getId());
+
+        assertTrue(checkout.isPaymentAuthorized());
+        assertTrue(event.isProcessed());
+    }
+
+    @Test
+    public void process_AuthorizedForPreviousTotal_ShouldNotAuthorizeCheckoutPayment() {
+        final Checkout checkout = MockEntity.checkout().build();
+        final PaymentEvent event = event("evt_1", PaymentEventType.AUTHORIZED, checkout.getPaymentId(), checkout.getTotalPrice() + 1);
+        stubber.process()
+                .event(event)
+                .checkout(checkout)
+                .stub();
+
+        domainService.process(event.getId());
+
+        assertFalse(checkout.isPaymentAuthorized());
+        assertTrue(event.isProcessed());
+    }
+
+    @Test
+    public void process_Canceled_ShouldCancelOrder() {
+        final Order order = MockEntity.order()
+                .status(OrderStatus.CONFIRMED)
+                .build();
+        final PaymentEvent event = event("evt_1", PaymentEventType.CANCELED, order.getPaymentId(), null);
+        stubber.process()
+                .event(event)
+                .order(order)
+                .stub();
+
+        domainService.process(event.getId());
+
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+        assertTrue(event.isProcessed());
+    }
+
+    @Test
+    public void process_AlreadyProcessed_ShouldIgnore() {
+        final Checkout checkout = MockEntity.checkout().build();
+        final PaymentEvent event = event("evt_1", PaymentEventType.AUTHORIZED, checkout.getPaymentId(), checkout.getTotalPrice());
+        event.markProcessed();
+        stubber.process()
+                .event(event)
+                .checkout(checkout)
+                .stub();
+
+        domainService.process(event.getId());
+
+        assertFalse(checkout.isPaymentAuthorized());
+    }
+
+    private static PaymentEvent event(
+            final String id,
+            final PaymentEventType type,
+            final String paymentId,
+            final Long amount
+    ) {
+        return PaymentEvent.builder()
+                .id(id)
+                .type(type)
+                .paymentId(paymentId)
+                .amount(amount)
+                .paymentMethodId("pm_1")
+                .payload("{}")
+                .build();
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.google.common.base.Ticker;
+import com.j2c.j2c.service.domain.user.PaymentMethodsChangedEvent;
+import com.j2c.j2c.service.dto.CardDTO;
+import com.j2c.j2c.service.dto.PaymentMethodDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentMethodDTOCacheTest {
+
+    private static final long EXPIRE_AFTER_WRITE = 60000;
+
+    private MutableTicker ticker;
+
+    private PaymentMethodDTOCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        ticker = new MutableTicker();
+        cache = new PaymentMethodDTOCache(100, EXPIRE_AFTER_WRITE, ticker);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void get_SameCustomer_ShouldLoadOnce() {
+        final List<? extends PaymentMethodDTO> first = cache.get(1L, this::load);
+        final List<? extends PaymentMethodDTO> second = cache.get(1L, this::load);
+
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void get_DifferentCustomers_ShouldLoadForEach() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_Expired_ShouldLoadAgain() {
+        cache.get(1L, this::load);
+
+        ticker.advance(EXPIRE_AFTER_WRITE);
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_LoaderThrows_ShouldNotCache() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.get(1L, () -> {
+                    throw new IllegalStateException();
+                })
+        );
+
+        cache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void handle_PaymentMethodsChangedEvent_ShouldOnlyEvictEntryOfTheCustomer() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        cache.handle(PaymentMethodsChangedEvent.builder().customerId(1L).build());
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void get_InvalidatedWhileLoading_ShouldNotCacheLoadedValue() {
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load();
+        });
+
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private List<? extends PaymentMethodDTO> load() {
+        return List.of(
+                CardDTO.builder()
+                        .id("pm_" + loads.incrementAndGet())
+                        .build()
+        );
+    }
+
+    private static class MutableTicker extends Ticker {
+
+        private long nanos;
+
+        void advance(final long millis) {
+            nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+    }
+
+}
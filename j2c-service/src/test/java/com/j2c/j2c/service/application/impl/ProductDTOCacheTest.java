@@ -0,0 +1,99 @@
+package com.j2c.j2c.service.application.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductDTOCacheTest {
+
+    private ProductDTOCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new ProductDTOCache(100);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void get_SameKey_ShouldLoadOnce() {
+        final String first = cache.get(1L, "find", this::load);
+        final String second = cache.get(1L, "find", this::load);
+
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void get_DifferentArguments_ShouldLoadForEach() {
+        cache.get(1L, "findVariants", this::load, PageRequest.of(0, 10));
+        cache.get(1L, "findVariants", this::load, PageRequest.of(1, 10));
+        cache.get(1L, "findVariants", this::load, PageRequest.of(0, 10));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_LoaderThrows_ShouldNotCache() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.get(1L, "find", () -> {
+                    throw new IllegalStateException();
+                })
+        );
+
+        cache.get(1L, "find", this::load);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void invalidate_ShouldOnlyEvictEntriesOfTheProduct() {
+        cache.get(1L, "find", this::load);
+        cache.get(1L, "findProductTags", this::load, PageRequest.of(0, 10));
+        cache.get(2L, "find", this::load);
+
+        cache.invalidate(1L);
+
+        cache.get(1L, "find", this::load);
+        cache.get(1L, "findProductTags", this::load, PageRequest.of(0, 10));
+        cache.get(2L, "find", this::load);
+
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    public void invalidateAll_ShouldEvictAllEntries() {
+        cache.get(1L, "find", this::load);
+        cache.get(2L, "find", this::load);
+
+        cache.invalidateAll();
+
+        cache.get(1L, "find", this::load);
+        cache.get(2L, "find", this::load);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void get_InvalidatedWhileLoading_ShouldNotCacheLoadedValue() {
+        cache.get(1L, "find", () -> {
+            cache.invalidate(1L);
+            return load();
+        });
+
+        cache.get(1L, "find", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private String load() {
+        return "loaded-" + loads.incrementAndGet();
+    }
+
+}
@@ -3,6 +3,7 @@ package com.j2c.j2c.service.application.impl;
 import com.j2c.j2c.domain.entity.*;
 import com.j2c.j2c.service.dto.ProductCategoryDTO;
 import com.j2c.j2c.service.dto.ProductTagDTO;
+import com.j2c.j2c.service.domain.product.AssignProductImagesEvent;
 import com.j2c.j2c.service.input.*;
 import com.j2c.j2c.service.input.CreateProductCategoryForm.CreateProductCategoryFormBuilder;
 import com.j2c.j2c.service.input.CreateProductForm.CreateProductFormBuilder;
@@ -12,6 +13,7 @@ import com.j2c.j2c.service.input.UpdateProductCategoryForm.UpdateProductCategory
 import com.j2c.j2c.service.input.UpdateProductForm.UpdateProductFormBuilder;
 import com.j2c.j2c.service.dto.ProductDTO;
 import com.j2c.j2c.service.dto.ProductVariantDTO;
+import com.j2c.j2c.service.dto.VersionDTO;
 import com.j2c.j2c.service.exception.InvalidInputException;
 import com.j2c.j2c.service.exception.ResourceNotFoundException;
 import com.j2c.j2c.service.exception.ServiceException;
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 
 import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.*;
 import static com.j2c.j2c.domain.exception.DomainErrorMessages.*;
+import static com.j2c.j2c.service.domain.outbox.OutboxPayloads.type;
 import static com.j2c.j2c.service.test.MockEntity.*;
 import static com.j2c.j2c.service.test.TestUtils.nullable;
 import static com.j2c.j2c.service.test.TestUtils.removeFirst;
@@ -283,8 +286,8 @@ class ProductServiceImplTest extends BaseServiceTest {
                 .save(any(Product.class));
         verify(mockBeanProvider.getProductToTagAssociationRepository(), times(1))
                 .saveAll(anyIterable());
-        verify(mockBeanProvider.getImageStore(), times(1))
-                .assignToProduct(anySet(), any(Long.class));
+        verify(mockBeanProvider.getOutboxEventRepository(), times(1))
+                .save(argThat(e -> type(AssignProductImagesEvent.class).equals(e.getType())));
     }
 
     @Test
@@ -636,8 +639,8 @@ class ProductServiceImplTest extends BaseServiceTest {
                 .saveAll(anyIterable());
         verify(mockBeanProvider.getProductToTagAssociationRepository(), times(1))
                 .deleteAll(anyIterable());
-        verify(mockBeanProvider.getImageStore(), times(1))
-                .assignToProduct(anySet(), any(Long.class));
+        verify(mockBeanProvider.getOutboxEventRepository(), times(1))
+                .save(argThat(e -> type(AssignProductImagesEvent.class).equals(e.getType())));
     }
 
     @Test
@@ -1481,8 +1484,8 @@ class ProductServiceImplTest extends BaseServiceTest {
 
         verify(mockBeanProvider.getProductVariantImageRepository(), times(1))
                 .saveAll(anyIterable());
-        verify(mockBeanProvider.getImageStore(), times(1))
-                .assignToProduct(anySet(), any(Long.class));
+        verify(mockBeanProvider.getOutboxEventRepository(), times(1))
+                .save(argThat(e -> type(AssignProductImagesEvent.class).equals(e.getType())));
     }
 
     @Test
@@ -1770,6 +1773,31 @@ class ProductServiceImplTest extends BaseServiceTest {
                 .assignToCategory(any(UUID.class), any(Long.class));
     }
 
+    @Test
+    public void createCategory_HappyPath_ShouldIncrementCategoriesVersion() {
+        final CreateProductCategoryForm form = hpCreateProductCategoryForm().build();
+
+        stubber.createCategory()
+                .imageForNewCategory(uploadedImageWithId(form.getImageId()))
+                .stub();
+
+        service.createCategory(form);
+
+        verify(mockBeanProvider.getCollectionVersionRepository(), times(1))
+                .increment("ProductCategory");
+    }
+
+    @Test
+    public void findCategoriesVersion_ShouldHaveNoLastModified() {
+        when(mockBeanProvider.getCollectionVersionRepository().findVersionById("ProductCategory"))
+                .thenReturn(Optional.of(3L));
+
+        final VersionDTO version = service.findCategoriesVersion();
+
+        assertEquals("3", version.getVersion());
+        assertNull(version.getLastModified());
+    }
+
     @Test
     public void createCategory_NullDescription_ShouldReturnNullCategoryDescription() {
         final CreateProductCategoryForm form = hpCreateProductCategoryForm()
@@ -0,0 +1,67 @@
+package com.j2c.j2c.service.application.impl;
+
+import com.j2c.j2c.service.domain.image.DomainImageService;
+import com.j2c.j2c.service.job.JobBatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UploadedImageReaperTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private DomainImageService domainService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UploadedImageReaper reaper;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainImageService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        reaper = new UploadedImageReaper(
+                domainService,
+                168,
+                BATCH_SIZE,
+                3,
+                3600000,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldRemoveImagesUploadedBeforeRetention() {
+        final LocalDateTime earliest = LocalDateTime.now().minusHours(168);
+
+        reaper.processBatch(null);
+
+        verify(domainService).removeUnassigned(
+                argThat(before -> !before.isBefore(earliest) && before.isBefore(LocalDateTime.now().minusHours(167))),
+                eq(BATCH_SIZE)
+        );
+    }
+
+    @Test
+    public void processBatch_ShouldCountRemovedImages() {
+        when(domainService.removeUnassigned(any(), eq(BATCH_SIZE)))
+                .thenReturn(1);
+
+        final JobBatchResult result = reaper.processBatch(null);
+
+        assertEquals(1, result.getProcessedCount());
+        assertEquals(1, meterRegistry.counter("j2c.images.uploaded.removed").count());
+    }
+
+}
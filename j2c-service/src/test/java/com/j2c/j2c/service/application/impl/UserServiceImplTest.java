@@ -5,6 +5,7 @@ import com.j2c.j2c.domain.entity.User;
 import com.j2c.j2c.domain.entity.UserAddress;
 import com.j2c.j2c.domain.entity.UserVerificationToken;
 import com.j2c.j2c.domain.enums.RoleType;
+import com.j2c.j2c.service.domain.user.SignUpEvent;
 import com.j2c.j2c.service.dto.UserAddressDTO;
 import com.j2c.j2c.service.input.ChangeUserEmailForm;
 import com.j2c.j2c.service.dto.UserDTO;
@@ -25,10 +26,12 @@ import java.util.UUID;
 
 import static com.j2c.j2c.domain.exception.DomainErrorMessages.ADDRESS_DOES_NOT_BELONG_TO_USER;
 import static com.j2c.j2c.domain.exception.DomainErrorMessages.VALID_USER_EMAIL_BUT_NULL_PASSWORD;
+import static com.j2c.j2c.service.domain.outbox.OutboxPayloads.type;
 import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -521,8 +524,8 @@ class UserServiceImplTest extends BaseServiceTest {
 
         verify(mockBeanProvider.getUserRepository(), times(1))
                 .save(any(User.class));
-        verify(mockBeanProvider.getMailSender(), times(1))
-                .sendVerificationEmail(anyString(), any(UUID.class));
+        verify(mockBeanProvider.getOutboxEventRepository(), times(1))
+                .save(argThat(e -> type(SignUpEvent.class).equals(e.getType())));
     }
 
     @Test
@@ -726,8 +729,8 @@ class UserServiceImplTest extends BaseServiceTest {
 
         service.changeEmail(userId, form);
 
-        verify(mockBeanProvider.getMailSender(), times(1))
-                .sendVerificationEmail(anyString(), any(UUID.class));
+        verify(mockBeanProvider.getOutboxEventRepository(), times(1))
+                .save(argThat(e -> type(SignUpEvent.class).equals(e.getType())));
     }
 
     @Test
@@ -0,0 +1,123 @@
+package com.j2c.j2c.service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.j2c.j2c.service.config.AsyncExecutionConfig.RejectionPolicy.CALLER_RUNS;
+import static com.j2c.j2c.service.config.AsyncExecutionConfig.RejectionPolicy.DISCARD;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncExecutionConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AsyncExecutionConfig config;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        config = new AsyncExecutionConfig(10000, meterRegistryProvider);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        config.drain();
+    }
+
+    @Test
+    public void execute_QueueFullWithCallerRuns_ShouldRunOnCaller() {
+        final ThreadPoolTaskExecutor executor = newExecutor("test", CALLER_RUNS);
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertEquals(Thread.currentThread(), thread.get());
+        assertEquals(1, meterRegistry.counter("j2c.executor.rejected", "name", "test", "policy", "caller_runs").count());
+    }
+
+    @Test
+    public void execute_QueueFullWithDiscard_ShouldDropTask() {
+        final ThreadPoolTaskExecutor executor = newExecutor("test", DISCARD);
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        final AtomicInteger runs = new AtomicInteger();
+        executor.execute(runs::incrementAndGet);
+
+        release.countDown();
+        config.drain();
+        assertEquals(0, runs.get());
+        assertEquals(1, meterRegistry.counter("j2c.executor.rejected", "name", "test", "policy", "discard").count());
+    }
+
+    @Test
+    public void execute_TasksQueued_ShouldReportQueueDepth() {
+        final ThreadPoolTaskExecutor executor = newExecutor("test", DISCARD);
+        executor.execute(this::awaitRelease);
+        executor.execute(this::awaitRelease);
+
+        assertEquals(1, meterRegistry.get("j2c.executor.queued").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    public void drain_TasksQueued_ShouldRunThemBeforeReturning() {
+        final ThreadPoolTaskExecutor executor = newExecutor("test", DISCARD);
+        final AtomicInteger runs = new AtomicInteger();
+        executor.execute(() -> {
+            awaitRelease();
+            runs.incrementAndGet();
+        });
+        executor.execute(runs::incrementAndGet);
+
+        // the running task is only released once draining has begun
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        }).start();
+        config.drain();
+
+        assertEquals(2, runs.get());
+    }
+
+    // one thread and room for one task in the queue
+    private ThreadPoolTaskExecutor newExecutor(final String name, final AsyncExecutionConfig.RejectionPolicy rejectionPolicy) {
+        final ThreadPoolTaskExecutor executor = config.newExecutor(name, 1, 1, rejectionPolicy);
+        executor.initialize();
+        return executor;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
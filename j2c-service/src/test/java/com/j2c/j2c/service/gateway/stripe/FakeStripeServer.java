@@ -0,0 +1,93 @@
+package com.j2c.j2c.service.gateway.stripe;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local stand-in for the stripe api, which answers every request with the configured response
+ * after the configured latency, so that the transport can be tested offline.
+ */
+class FakeStripeServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int status = 200;
+    private volatile String body = "{}";
+    private volatile String lastAuthorization;
+
+    private FakeStripeServer(final HttpServer server, final ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static FakeStripeServer start() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final FakeStripeServer fake = new FakeStripeServer(server, executor);
+        server.createContext("/", fake::handle);
+        server.setExecutor(executor);
+        server.start();
+        return fake;
+    }
+
+    String getApiBase() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    void setLatency(final Duration latency) {
+        this.latency = latency;
+    }
+
+    void respond(final int status, final String body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    int getRequestCount() {
+        return requestCount.get();
+    }
+
+    String getLastAuthorization() {
+        return lastAuthorization;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        lastAuthorization = exchange.getRequestHeaders().getFirst("Authorization");
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        final byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("Request-Id", "req_" + requestCount.get());
+        exchange.sendResponseHeaders(status, response.length);
+        try (final OutputStream output = exchange.getResponseBody()) {
+            output.write(response);
+        } catch (final IOException exception) {
+            // the client gave up waiting
+        }
+    }
+
+}
@@ -6,9 +6,12 @@ import com.j2c.j2c.domain.entity.Payment;
 import com.j2c.j2c.service.dto.CardDTO;
 import com.j2c.j2c.service.test.MockEntity;
 import com.neovisionaries.i18n.CurrencyCode;
+import com.stripe.Stripe;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -21,8 +24,20 @@ class StripePaymentGatewayTest {
     @BeforeEach
     void setUp() {
         final StripeSupportedPaymentMethods mapper = new StripeSupportedPaymentMethods();
-        paymentGateway = new StripePaymentGateway(System.getenv("J2C_STRIPE_TEST_KEY"), mapper);
-        paymentGateway.init();
+        final StripeTransport transport = new StripeTransport(
+                System.getenv("J2C_STRIPE_TEST_KEY"),
+                Stripe.LIVE_API_BASE,
+                2000,
+                5000,
+                15000,
+                20,
+                100,
+                5,
+                30000,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)
+        );
+        transport.init();
+        paymentGateway = new StripePaymentGateway(transport, mapper);
     }
 
 //    @Test
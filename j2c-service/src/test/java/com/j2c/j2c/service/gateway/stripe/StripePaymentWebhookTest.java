@@ -0,0 +1,121 @@
+package com.j2c.j2c.service.gateway.stripe;
+
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import com.j2c.j2c.domain.enums.PaymentEventType;
+import com.j2c.j2c.service.exception.InvalidInputException;
+import com.stripe.Stripe;
+import com.stripe.net.Webhook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.j2c.j2c.service.exception.J2cServiceErrorMessages.INVALID_PAYMENT_EVENT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripePaymentWebhookTest {
+
+    private static final String SECRET = "whsec_test";
+
+    private StripePaymentWebhook webhook;
+
+    @BeforeEach
+    void setUp() {
+        webhook = new StripePaymentWebhook(SECRET);
+    }
+
+    @Test
+    public void constructEvent_AmountCapturableUpdated_ShouldReturnAuthorizedEvent() throws Exception {
+        final String payload = payload("evt_1", "payment_intent.amount_capturable_updated");
+
+        final Optional<PaymentEvent> event = webhook.constructEvent(payload, sign(payload, SECRET));
+
+        assertTrue(event.isPresent());
+        assertEquals("evt_1", event.get().getId());
+        assertEquals(PaymentEventType.AUTHORIZED, event.get().getType());
+        assertEquals("pi_1", event.get().getPaymentId());
+        assertEquals(1499L, event.get().getAmount());
+        assertEquals("pm_1", event.get().getPaymentMethodId());
+        assertEquals(payload, event.get().getPayload());
+    }
+
+    @Test
+    public void constructEvent_Canceled_ShouldReturnCanceledEvent() throws Exception {
+        final String payload = payload("evt_2", "payment_intent.canceled");
+
+        final Optional<PaymentEvent> event = webhook.constructEvent(payload, sign(payload, SECRET));
+
+        assertTrue(event.isPresent());
+        assertEquals(PaymentEventType.CANCELED, event.get().getType());
+    }
+
+    @Test
+    public void constructEvent_UnsupportedType_ShouldReturnEmpty() throws Exception {
+        final String payload = payload("evt_3", "payment_intent.created");
+
+        final Optional<PaymentEvent> event = webhook.constructEvent(payload, sign(payload, SECRET));
+
+        assertTrue(event.isEmpty());
+    }
+
+    @Test
+    public void constructEvent_SignedWithAnotherSecret_ShouldThrowInvalidInputException() throws Exception {
+        final String payload = payload("evt_4", "payment_intent.amount_capturable_updated");
+        final String signature = sign(payload, "whsec_other");
+
+        final InvalidInputException exception = assertThrows(
+                InvalidInputException.class,
+                () -> webhook.constructEvent(payload, signature)
+        );
+        assertTrue(exception.getErrors().contains(INVALID_PAYMENT_EVENT));
+    }
+
+    @Test
+    public void constructEvent_TamperedPayload_ShouldThrowInvalidInputException() throws Exception {
+        final String payload = payload("evt_5", "payment_intent.amount_capturable_updated");
+        final String signature = sign(payload, SECRET);
+        final String tampered = payload.replace("1499", "1");
+
+        final InvalidInputException exception = assertThrows(
+                InvalidInputException.class,
+                () -> webhook.constructEvent(tampered, signature)
+        );
+        assertTrue(exception.getErrors().contains(INVALID_PAYMENT_EVENT));
+    }
+
+    @Test
+    public void constructEvent_MalformedSignature_ShouldThrowInvalidInputException() {
+        final String payload = payload("evt_6", "payment_intent.amount_capturable_updated");
+
+        final InvalidInputException exception = assertThrows(
+                InvalidInputException.class,
+                () -> webhook.constructEvent(payload, "malformed")
+        );
+        assertTrue(exception.getErrors().contains(INVALID_PAYMENT_EVENT));
+    }
+
+    private static String sign(final String payload, final String secret) throws Exception {
+        final long timestamp = Webhook.Util.getTimeNow();
+        final String signature = Webhook.Util.computeHmacSha256(secret, timestamp + "." + payload);
+        return "t=" + timestamp + ",v1=" + signature;
+    }
+
+    private static String payload(final String eventId, final String type) {
+        return "{" +
+                "\"id\": \"" + eventId + "\"," +
+                "\"object\": \"event\"," +
+                "\"api_version\": \"" + Stripe.API_VERSION + "\"," +
+                "\"type\": \"" + type + "\"," +
+                "\"data\": {\"object\": {" +
+                    "\"id\": \"pi_1\"," +
+                    "\"object\": \"payment_intent\"," +
+                    "\"amount\": 1499," +
+                    "\"amount_capturable\": 1499," +
+                    "\"currency\": \"usd\"," +
+                    "\"payment_method\": \"pm_1\"," +
+                    "\"status\": \"requires_capture\"" +
+                "}}" +
+                "}";
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.j2c.j2c.service.gateway.stripe;
+
+import com.j2c.j2c.domain.entity.Payment;
+import com.j2c.j2c.service.exception.GatewayException;
+import com.stripe.Stripe;
+import com.stripe.net.ApiResource;
+import com.stripe.net.LiveStripeResponseGetter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripeTransportTest {
+
+    private static final String SECRET_KEY = "sk_test_fake";
+
+    private static final String PAYMENT_INTENT = "{" +
+            "\"id\": \"pi_1\"," +
+            "\"object\": \"payment_intent\"," +
+            "\"amount\": 1000," +
+            "\"currency\": \"eur\"," +
+            "\"client_secret\": \"pi_1_secret_1\"," +
+            "\"status\": \"requires_payment_method\"" +
+            "}";
+
+    private static final String API_ERROR = "{\"error\": {\"type\": \"api_error\", \"message\": \"unavailable\"}}";
+
+    private FakeStripeServer stripe;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stripe = FakeStripeServer.start();
+        stripe.respond(200, PAYMENT_INTENT);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stripe.close();
+        Stripe.overrideApiBase(Stripe.LIVE_API_BASE);
+        ApiResource.setStripeResponseGetter(new LiveStripeResponseGetter());
+    }
+
+    @Test
+    void findById_ShouldSendApiKeyWithRequest() {
+        final StripePaymentGateway gateway = gateway(1000, 5, 0, 5);
+
+        final Payment payment = gateway.findById("pi_1").orElseThrow();
+
+        assertEquals("pi_1", payment.getId());
+        assertEquals("Bearer " + SECRET_KEY, stripe.getLastAuthorization());
+    }
+
+    @Test
+    void findById_SlowerThanReadTimeout_ShouldThrowGatewayException() {
+        final StripePaymentGateway gateway = gateway(100, 5, 0, 5);
+        stripe.setLatency(Duration.ofMillis(1000));
+
+        assertThrows(GatewayException.class, () -> gateway.findById("pi_1"));
+    }
+
+    @Test
+    void findById_MoreConcurrentRequestsThanAllowed_ShouldRejectExcess() throws Exception {
+        final StripePaymentGateway gateway = gateway(5000, 2, 0, 5);
+        stripe.setLatency(Duration.ofMillis(1000));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            calls.add(executor.submit(() -> {
+                start.await();
+                return gateway.findById("pi_1");
+            }));
+        }
+        start.countDown();
+        int rejected = 0;
+        for (final Future<?> call : calls) {
+            try {
+                call.get();
+            } catch (final ExecutionException exception) {
+                assertTrue(exception.getCause() instanceof GatewayException);
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(2, rejected);
+        assertEquals(2, stripe.getRequestCount());
+        assertEquals(2, meterRegistry.counter("j2c.gateway.stripe.requests.rejected", "reason", "bulkhead").count());
+    }
+
+    @Test
+    void findById_RepeatedServerErrors_ShouldFailFastWithoutCallingStripe() {
+        final StripePaymentGateway gateway = gateway(1000, 5, 0, 2);
+        stripe.respond(500, API_ERROR);
+
+        assertThrows(GatewayException.class, () -> gateway.findById("pi_1"));
+        assertThrows(GatewayException.class, () -> gateway.findById("pi_1"));
+        assertThrows(GatewayException.class, () -> gateway.findById("pi_1"));
+
+        assertEquals(2, stripe.getRequestCount());
+        assertEquals(1, meterRegistry.counter("j2c.gateway.stripe.requests.rejected", "reason", "circuit_open").count());
+    }
+
+    private StripePaymentGateway gateway(
+            final int readTimeout,
+            final int maxConcurrentRequests,
+            final long maxWait,
+            final int failureThreshold
+    ) {
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        final StripeTransport transport = new StripeTransport(
+                SECRET_KEY,
+                stripe.getApiBase(),
+                1000,
+                readTimeout,
+                readTimeout,
+                maxConcurrentRequests,
+                maxWait,
+                failureThreshold,
+                60000,
+                beanFactory.getBeanProvider(MeterRegistry.class)
+        );
+        transport.init();
+        return new StripePaymentGateway(transport, new StripeSupportedPaymentMethods());
+    }
+
+}
@@ -7,6 +7,7 @@ import com.j2c.j2c.domain.repository.ProductRepository;
 import com.j2c.j2c.domain.repository.UploadedImageRepository;
 import com.j2c.j2c.domain.repository.spring.*;
 import com.j2c.j2c.service.exception.ImageStorageException;
+import com.j2c.j2c.service.image.RemoveUploadedFilesResult;
 import com.j2c.j2c.service.test.MockEntity;
 import lombok.NonNull;
 import org.junit.jupiter.api.BeforeAll;
@@ -20,6 +21,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -189,7 +193,7 @@ class FileSystemImageStoreTest {
         when(mockProductSDJRepository.existsById(productId))
                 .thenReturn(true);
 
-        when(mockUploadedImageSDJRepository.findAllById(anySet()))
+        when(mockUploadedImageSDJRepository.findAllByIdForUpdate(anySet()))
                 .thenReturn(uploadedImagesWithIds(uploadedImageIds));
 
         imageStore.assignToProduct(uploadedImageIds, productId);
@@ -235,8 +239,8 @@ class FileSystemImageStoreTest {
         when(mockCategorySDJRepository.existsById(rootCategoryId))
                 .thenReturn(true);
 
-        when(mockUploadedImageSDJRepository.findById(uploadedImageId))
-                .thenReturn(Optional.of(uploadedImageWithId(uploadedImageId)));
+        when(mockUploadedImageSDJRepository.findAllByIdForUpdate(Set.of(uploadedImageId)))
+                .thenReturn(List.of(uploadedImageWithId(uploadedImageId)));
 
         imageStore.assignToCategory(uploadedImageId, rootCategoryId);
 
@@ -298,6 +302,46 @@ class FileSystemImageStoreTest {
         assertEquals(currentNumberOfFilesInRootCategoryIdDir - 1, countNumberOfFilesInStoreDirectory(directory));
     }
 
+    @Test
+    void findUploadedFilenames_ShouldListOldFilesAfterCheckpointInOrder() throws IOException {
+        final Instant now = Instant.now();
+        final Path directory = getStoreDirectory(UPLOADED_SUBDIR);
+        createFile(directory, "d", now.minus(2, ChronoUnit.DAYS));
+        createFile(directory, "a", now.minus(2, ChronoUnit.DAYS));
+        createFile(directory, "c", now.minus(2, ChronoUnit.DAYS));
+        createFile(directory, "b", now.minus(2, ChronoUnit.DAYS));
+        createFile(directory, "e", now);
+
+        final Instant modifiedBefore = now.minus(1, ChronoUnit.DAYS);
+
+        assertEquals(List.of("a", "b"), imageStore.findUploadedFilenames(null, modifiedBefore, 2));
+        assertEquals(List.of("c", "d"), imageStore.findUploadedFilenames("b", modifiedBefore, 2));
+        assertEquals(List.of(), imageStore.findUploadedFilenames("d", modifiedBefore, 2));
+    }
+
+    @Test
+    void removeUploadedFiles_ShouldKeepFilesModifiedSince() throws IOException {
+        final Instant now = Instant.now();
+        final Path directory = getStoreDirectory(UPLOADED_SUBDIR);
+        createFile(directory, "a", now.minus(2, ChronoUnit.DAYS));
+        createFile(directory, "b", now);
+
+        final RemoveUploadedFilesResult result = imageStore.removeUploadedFiles(
+                Set.of("a", "b", "c"),
+                now.minus(1, ChronoUnit.DAYS)
+        );
+
+        assertEquals(1, result.getRemovedCount());
+        assertEquals(1, result.getRemovedBytes());
+        assertFalse(Files.exists(directory.resolve("a")));
+        assertTrue(Files.exists(directory.resolve("b")));
+    }
+
+    private static void createFile(final Path directory, final String filename, final Instant lastModified) throws IOException {
+        final Path file = Files.write(directory.resolve(filename), new byte[]{1});
+        Files.setLastModifiedTime(file, FileTime.from(lastModified));
+    }
+
     private void mockSaveUploadedImage() {
         when(mockUploadedImageSDJRepository.save(isNotNull()))
                 .thenAnswer(i -> {
@@ -0,0 +1,37 @@
+package com.j2c.j2c.service.job;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobBatchResultTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Test
+    public void removed_PartialBatch_ShouldFinish() {
+        final JobBatchResult result = JobBatchResult.removed(1, BATCH_SIZE);
+
+        assertTrue(result.isFinished());
+        assertEquals(1, result.getProcessedCount());
+        assertNull(result.getCheckpoint());
+    }
+
+    @Test
+    public void removed_NothingRemoved_ShouldFinish() {
+        final JobBatchResult result = JobBatchResult.removed(0, BATCH_SIZE);
+
+        assertTrue(result.isFinished());
+        assertEquals(0, result.getProcessedCount());
+    }
+
+    @Test
+    public void removed_FullBatch_ShouldNotFinishAndStartOver() {
+        final JobBatchResult result = JobBatchResult.removed(BATCH_SIZE, BATCH_SIZE);
+
+        assertFalse(result.isFinished());
+        assertEquals(BATCH_SIZE, result.getProcessedCount());
+        assertNull(result.getCheckpoint());
+    }
+
+}
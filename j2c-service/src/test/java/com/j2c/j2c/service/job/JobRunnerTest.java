@@ -0,0 +1,159 @@
+package com.j2c.j2c.service.job;
+
+import com.j2c.j2c.domain.entity.JobLease;
+import com.j2c.j2c.service.domain.job.DomainJobService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class JobRunnerTest {
+
+    private static final String NAME = "test-job";
+
+    private static final String OWNER = "1@node";
+
+    private static final long DELAY = 3600000;
+
+    private static final int MAX_BATCHES = 3;
+
+    private DomainJobService domainService;
+
+    private Job job;
+
+    private JobLease lease;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JobRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        domainService = mock(DomainJobService.class);
+        job = mock(Job.class);
+        when(job.getName()).thenReturn(NAME);
+        when(job.getDelay()).thenReturn(DELAY);
+        when(job.getMaxBatches()).thenReturn(MAX_BATCHES);
+        lease = mock(JobLease.class);
+        when(domainService.acquireLease(eq(NAME), eq(OWNER), any())).thenReturn(Optional.of(lease));
+        when(domainService.renewLease(eq(NAME), eq(OWNER), any(), any())).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        runner = new JobRunner(domainService, List.of(job), OWNER, 300000, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    public void run_LeaseHeldByAnotherNode_ShouldSkip() {
+        when(domainService.acquireLease(eq(NAME), eq(OWNER), any())).thenReturn(Optional.empty());
+
+        runner.run(job);
+
+        verify(job, never()).processBatch(any());
+        verify(domainService, never()).releaseLease(any(), any(), any(), any());
+        assertEquals(1, meterRegistry.counter("j2c.jobs.skipped", "job", NAME).count());
+    }
+
+    @Test
+    public void run_ShouldResumeFromCheckpointUntilFinished() {
+        when(lease.getCheckpoint()).thenReturn("a");
+        when(job.processBatch("a")).thenReturn(JobBatchResult.unfinished(2, "b"));
+        when(job.processBatch("b")).thenReturn(JobBatchResult.finished(1));
+        final LocalDateTime earliestDue = LocalDateTime.now().plusSeconds(DELAY / 1000);
+
+        runner.run(job);
+
+        verify(domainService).renewLease(eq(NAME), eq(OWNER), eq("b"), any());
+        verify(domainService).releaseLease(eq(NAME), eq(OWNER), isNull(), argThat(until -> !until.isBefore(earliestDue)));
+        assertEquals(3, meterRegistry.counter("j2c.jobs.rows", "job", NAME).count());
+        assertEquals(1, meterRegistry.timer("j2c.jobs.duration", "job", NAME, "outcome", "finished").count());
+    }
+
+    @Test
+    public void run_MaxBatchesReached_ShouldReleaseAtCheckpoint() {
+        when(job.processBatch(any()))
+                .thenReturn(JobBatchResult.unfinished(2, "a"))
+                .thenReturn(JobBatchResult.unfinished(2, "b"))
+                .thenReturn(JobBatchResult.unfinished(2, "c"));
+
+        runner.run(job);
+
+        verify(job, times(MAX_BATCHES)).processBatch(any());
+        verify(domainService).releaseLease(eq(NAME), eq(OWNER), eq("c"), argThat(until -> !until.isAfter(LocalDateTime.now())));
+        assertEquals(1, meterRegistry.timer("j2c.jobs.duration", "job", NAME, "outcome", "paused").count());
+    }
+
+    @Test
+    public void run_LeaseTakenOver_ShouldStopWithoutReleasing() {
+        when(job.processBatch(any())).thenReturn(JobBatchResult.unfinished(2, "a"));
+        when(domainService.renewLease(eq(NAME), eq(OWNER), any(), any())).thenReturn(false);
+
+        runner.run(job);
+
+        verify(job, times(1)).processBatch(any());
+        verify(domainService, never()).releaseLease(any(), any(), any(), any());
+        assertEquals(1, meterRegistry.timer("j2c.jobs.duration", "job", NAME, "outcome", "lost").count());
+    }
+
+    @Test
+    public void run_BatchFails_ShouldReleaseAtLastCheckpoint() {
+        when(job.processBatch(any()))
+                .thenReturn(JobBatchResult.unfinished(2, "a"))
+                .thenThrow(new IllegalStateException());
+
+        runner.run(job);
+
+        verify(domainService).releaseLease(eq(NAME), eq(OWNER), eq("a"), any());
+        assertEquals(2, meterRegistry.counter("j2c.jobs.rows", "job", NAME).count());
+        assertEquals(1, meterRegistry.timer("j2c.jobs.duration", "job", NAME, "outcome", "failed").count());
+    }
+
+    @Test
+    public void start_JobRunning_ShouldNotHoldUpOtherJobs() {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        when(job.processBatch(any())).thenAnswer(invocation -> {
+            blocked.await();
+            return JobBatchResult.finished(0);
+        });
+        final Job otherJob = mock(Job.class);
+        when(otherJob.getName()).thenReturn("other-job");
+        when(otherJob.getDelay()).thenReturn(DELAY);
+        when(otherJob.getMaxBatches()).thenReturn(MAX_BATCHES);
+        when(otherJob.processBatch(any())).thenReturn(JobBatchResult.finished(0));
+        when(domainService.acquireLease(eq("other-job"), eq(OWNER), any())).thenReturn(Optional.of(lease));
+        runner = new JobRunner(domainService, List.of(job, otherJob), OWNER, 300000, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+        runner.start();
+        try {
+            verify(otherJob, timeout(5000)).processBatch(any());
+        } finally {
+            blocked.countDown();
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    public void run_AfterShutdown_ShouldProcessNoBatch() {
+        when(lease.getCheckpoint()).thenReturn("a");
+        runner.shutdown();
+
+        runner.run(job);
+
+        verify(job, never()).processBatch(anyString());
+        verify(domainService).releaseLease(eq(NAME), eq(OWNER), eq("a"), any());
+    }
+
+}
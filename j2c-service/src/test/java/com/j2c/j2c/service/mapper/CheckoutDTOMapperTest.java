@@ -33,6 +33,7 @@ class CheckoutDTOMapperTest extends BaseMapperTest {
                 dto,
                 "customerId",
                 "paymentToken",
+                "paymentAuthorized",
                 "address",
                 "shippingMethodDetails",
                 "shippingAddress",
@@ -40,6 +41,7 @@ class CheckoutDTOMapperTest extends BaseMapperTest {
         );
         assertEquals(entity.getCustomer().getId(), dto.getCustomerId());
         assertNull(dto.getPaymentToken());
+        assertEquals(entity.isPaymentAuthorized(), dto.isPaymentAuthorized());
         assertNull(dto.getLines());
 
         assertMappings(entity.getAddress(), dto.getAddress());
@@ -7,11 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import static com.j2c.j2c.service.test.MockRepositoryUtils.mockRepositorySave;
 import static com.j2c.j2c.service.test.MockRepositoryUtils.mockRepositorySaveAll;
@@ -28,15 +32,25 @@ import static com.j2c.j2c.service.test.MockRepositoryUtils.mockRepositorySaveAll
         ConfigurationServiceImpl.class,
         ShippingServiceImpl.class,
         ProductServiceImpl.class,
+        ProductDTOCache.class,
+        PaymentMethodDTOCache.class,
         OrderServiceImpl.class,
         CheckoutServiceImpl.class,
+        CheckoutAdmissionControl.class,
+        PaymentEventServiceImpl.class,
         UserServiceImpl.class,
         NoOpPasswordEncoder.class,
+        BaseServiceTest.NoTransactionConfig.class
 })
 @ImportAutoConfiguration({
         ValidationAutoConfiguration.class,
         AopAutoConfiguration.class
 })
+@TestPropertySource(properties = {
+        // stubs differ between tests for the same ids, so nothing may be served from the cache
+        "j2c.service.cache.product.maximum-size=0",
+        "j2c.service.cache.payment-methods.maximum-size=0"
+})
 public abstract class BaseServiceTest {
 
     @BeforeEach
@@ -50,4 +64,15 @@ public abstract class BaseServiceTest {
         mockRepositorySaveAll(repository);
     }
 
+    // repositories are mocked, so the callbacks of programmatic transactions are simply run in place
+    @TestConfiguration
+    static class NoTransactionConfig {
+
+        @Bean
+        public TransactionOperations transactionOperations() {
+            return TransactionOperations.withoutTransaction();
+        }
+
+    }
+
 }
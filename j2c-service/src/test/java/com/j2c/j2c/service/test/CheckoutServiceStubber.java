@@ -2,6 +2,7 @@ package com.j2c.j2c.service.test;
 
 import com.j2c.j2c.domain.entity.*;
 import com.j2c.j2c.domain.exception.EntityDoesNotExistException;
+import com.j2c.j2c.domain.repository.spring.CheckoutSDJRepository;
 import com.neovisionaries.i18n.CurrencyCode;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +11,10 @@ import org.springframework.boot.test.context.TestComponent;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.when;
 
 @TestComponent
@@ -25,16 +28,21 @@ public class CheckoutServiceStubber {
             buildMethodName = "stub")
     private void _checkout(
             final User customer,
+            final Role role,
             final Checkout checkout,
             final List<ProductVariant> variants,
             final Configuration configuration,
-            final Payment payment
+            final Payment payment,
+            final Integer stock
     ) {
         mockFindUserById(customer);
+        mockFindRoleByType(role);
         mockCheckoutExistsById(checkout);
         mockFindAllLinesById(variants);
+        mockInventory(variants, stock);
         mockGetConfiguration(configuration);
         mockRequestPayment(payment);
+        mockFindSavedCheckoutById();
     }
 
     @Builder(builderClassName = "MockCreateShippingAddress",
@@ -113,6 +121,18 @@ public class CheckoutServiceStubber {
         mockFindCheckoutById(checkout);
     }
 
+    @Builder(builderClassName = "MockPreparePayment",
+            builderMethodName = "preparePayment",
+            buildMethodName = "stub")
+    private void _preparePayment(
+            final Checkout checkout,
+            final Payment payment
+    ) {
+        mockFindCheckoutById(checkout);
+        mockFindPaymentById(payment);
+        mockRequestPayment(payment);
+    }
+
     @Builder(builderClassName = "MockComplete",
             builderMethodName = "complete",
             buildMethodName = "stub")
@@ -122,6 +142,7 @@ public class CheckoutServiceStubber {
     ) {
         mockFindCheckoutById(checkout);
         mockFindPaymentById(payment);
+        mockAuthorizedPayment(payment);
     }
 
     @Builder(builderClassName = "MockCancel",
@@ -135,6 +156,13 @@ public class CheckoutServiceStubber {
         mockFindPaymentById(payment);
     }
 
+    private void mockFindRoleByType(final Role role) {
+        if (role != null) {
+            when(mockBeanProvider.getRoleRepository().findByType(role.getType()))
+                    .thenReturn(Optional.of(role));
+        }
+    }
+
     private void mockFindUserById(final User user) {
         if (user != null) {
             when(mockBeanProvider.getUserRepository().findById(user.getId()))
@@ -146,9 +174,21 @@ public class CheckoutServiceStubber {
         if (checkout != null) {
             when(mockBeanProvider.getCheckoutRepository().findById(checkout.getId()))
                     .thenReturn(Optional.of(checkout));
+            when(mockBeanProvider.getCheckoutRepository().findByIdForUpdate(checkout.getId()))
+                    .thenReturn(Optional.of(checkout));
         }
     }
 
+    private void mockFindSavedCheckoutById() {
+        final CheckoutSDJRepository repository = mockBeanProvider.getCheckoutRepository();
+        when(repository.findById(anyLong()))
+                .thenAnswer(i -> mockingDetails(repository).getInvocations().stream()
+                        .filter(invocation -> invocation.getMethod().getName().equals("save"))
+                        .map(invocation -> invocation.<Checkout>getArgument(0))
+                        .filter(checkout -> i.getArgument(0).equals(checkout.getId()))
+                        .findFirst());
+    }
+
     private void mockCheckoutExistsById(final Checkout checkout) {
         if (checkout != null) {
             when(mockBeanProvider.getCheckoutRepository().existsById(checkout.getId()))
@@ -191,6 +231,13 @@ public class CheckoutServiceStubber {
         }
     }
 
+    private void mockAuthorizedPayment(final Payment payment) {
+        if (payment != null) {
+            when(mockBeanProvider.getPaymentGateway().authorized(any(Checkout.class)))
+                    .thenReturn(payment);
+        }
+    }
+
     private void mockFindAllLinesById(final List<ProductVariant> variants) {
         if (variants != null) {
             when(mockBeanProvider.getProductVariantRepository().findAllById(anySet()))
@@ -198,4 +245,28 @@ public class CheckoutServiceStubber {
         }
     }
 
+    // every variant is tracked with a single stripe holding all of its units
+    private void mockInventory(final List<ProductVariant> variants, final Integer stock) {
+        if (variants == null || stock == null) {
+            return;
+        }
+        when(mockBeanProvider.getInventoryStripeRepository().findAllVariantIdsByVariantIdIn(anyCollection()))
+                .thenReturn(
+                        variants.stream()
+                                .map(ProductVariant::getId)
+                                .collect(Collectors.toSet())
+                );
+        for (final ProductVariant variant : variants) {
+            final InventoryStripe stripe = InventoryStripe.builder()
+                    .variant(variant)
+                    .stripe(0)
+                    .available(stock)
+                    .build();
+            when(mockBeanProvider.getInventoryStripeRepository().findAllAvailableForUpdate(eq(variant.getId()), intThat(q -> q <= stock), any()))
+                    .thenReturn(List.of(stripe));
+            when(mockBeanProvider.getInventoryStripeRepository().sumAvailableByVariantId(variant.getId()))
+                    .thenReturn((long) stock);
+        }
+    }
+
 }
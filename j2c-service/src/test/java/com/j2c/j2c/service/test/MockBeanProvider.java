@@ -2,16 +2,20 @@ package com.j2c.j2c.service.test;
 
 import com.google.common.collect.ImmutableList;
 import com.j2c.j2c.domain.entity.Entity;
+import com.j2c.j2c.domain.repository.ChangeNotifier;
+import com.j2c.j2c.domain.repository.SecondLevelCache;
 import com.j2c.j2c.domain.repository.spring.*;
 import com.j2c.j2c.service.mail.MailSender;
 import com.j2c.j2c.service.image.ImageStore;
 import com.j2c.j2c.service.gateway.PaymentGateway;
+import com.j2c.j2c.service.gateway.PaymentWebhook;
 import lombok.Getter;
 import org.springframework.boot.test.context.TestComponent;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
 import java.lang.reflect.Field;
 import java.util.List;
 
@@ -27,12 +31,21 @@ public class MockBeanProvider {
     @MockBean
     private CheckoutSDJRepository checkoutRepository;
 
+    @MockBean
+    private CollectionVersionSDJRepository collectionVersionRepository;
+
     @MockBean
     private ConfigurationSDJRepository configurationRepository;
 
     @MockBean
     private UserVerificationTokenSDJRepository userVerificationTokenRepository;
 
+    @MockBean
+    private InventoryStripeSDJRepository inventoryStripeRepository;
+
+    @MockBean
+    private JobLeaseSDJRepository jobLeaseRepository;
+
     @MockBean
     private OrderFulfillmentSDJRepository orderFulfillmentRepository;
 
@@ -45,9 +58,18 @@ public class MockBeanProvider {
     @MockBean
     private OrderSDJRepository orderRepository;
 
+    @MockBean
+    private OutboxEventSDJRepository outboxEventRepository;
+
+    @MockBean
+    private PaymentEventSDJRepository paymentEventRepository;
+
     @MockBean
     private ProductCategorySDJRepository productCategoryRepository;
 
+    @MockBean
+    private ProductCategoryFacetSDJRepository productCategoryFacetRepository;
+
     @MockBean
     private ProductToTagAssociationSDJRepository productToTagAssociationRepository;
 
@@ -57,6 +79,9 @@ public class MockBeanProvider {
     @MockBean
     private ProductTagSDJRepository productTagRepository;
 
+    @MockBean
+    private ProductTagFacetSDJRepository productTagFacetRepository;
+
     @MockBean
     private ProductVariantImageSDJRepository productVariantImageRepository;
 
@@ -84,12 +109,24 @@ public class MockBeanProvider {
     @MockBean
     private UserSDJRepository userRepository;
 
+    @MockBean
+    private SecondLevelCache secondLevelCache;
+
+    @MockBean
+    private ChangeNotifier changeNotifier;
+
+    @MockBean
+    private EntityManager entityManager;
+
     @MockBean
     private ImageStore imageStore;
 
     @MockBean
     private PaymentGateway paymentGateway;
 
+    @MockBean
+    private PaymentWebhook paymentWebhook;
+
     @MockBean
     private MailSender mailSender;
 
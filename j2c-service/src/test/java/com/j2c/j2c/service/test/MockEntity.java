@@ -62,11 +62,15 @@ public final class MockEntity {
             builderMethodName = "paymentDetails")
     private static PaymentDetails mPaymentDetails(
             final String id,
-            final String token
+            final String token,
+            final Long amount,
+            final Long authorizedAmount
     ) {
         final PaymentDetails payment = easyRandom.nextObject(PaymentDetails.class);
         setFieldIfNotNull(payment, "id", id);
         setFieldIfNotNull(payment, "token", token);
+        setField(payment, "amount", amount);
+        setField(payment, "authorizedAmount", authorizedAmount);
 
         return payment;
     }
@@ -346,6 +350,7 @@ public final class MockEntity {
             final boolean nullRootCategory
     ) {
         final ProductCategory category = newEntity(ProductCategory.class, id);
+        category.renumber(ProductCategory.ROOT_LEFT, ProductCategory.ROOT_RIGHT, ProductCategory.ROOT_LEFT + 1);
         if (nullRootCategory) {
             setNull(category, "root");
         }
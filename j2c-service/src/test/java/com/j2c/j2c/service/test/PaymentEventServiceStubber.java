@@ -0,0 +1,62 @@
+package com.j2c.j2c.service.test;
+
+import com.j2c.j2c.domain.entity.Checkout;
+import com.j2c.j2c.domain.entity.Order;
+import com.j2c.j2c.domain.entity.PaymentEvent;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@TestComponent
+@RequiredArgsConstructor
+public class PaymentEventServiceStubber {
+
+    private final MockBeanProvider mockBeanProvider;
+
+    @Builder(builderClassName = "MockReceive",
+            builderMethodName = "receive",
+            buildMethodName = "stub")
+    private void _receive(
+            final PaymentEvent event,
+            final boolean alreadyStored
+    ) {
+        mockConstructEvent(event);
+        if (event != null) {
+            when(mockBeanProvider.getPaymentEventRepository().existsById(event.getId()))
+                    .thenReturn(alreadyStored);
+        }
+    }
+
+    @Builder(builderClassName = "MockProcess",
+            builderMethodName = "process",
+            buildMethodName = "stub")
+    private void _process(
+            final PaymentEvent event,
+            final Checkout checkout,
+            final Order order
+    ) {
+        if (event != null) {
+            when(mockBeanProvider.getPaymentEventRepository().findByIdForUpdate(event.getId()))
+                    .thenReturn(Optional.of(event));
+        }
+        if (checkout != null) {
+            when(mockBeanProvider.getCheckoutRepository().findByPaymentId(checkout.getPaymentId()))
+                    .thenReturn(Optional.of(checkout));
+        }
+        if (order != null) {
+            when(mockBeanProvider.getOrderRepository().findByPaymentId(order.getPaymentId()))
+                    .thenReturn(Optional.of(order));
+        }
+    }
+
+    private void mockConstructEvent(final PaymentEvent event) {
+        when(mockBeanProvider.getPaymentWebhook().constructEvent(anyString(), anyString()))
+                .thenReturn(Optional.ofNullable(event));
+    }
+
+}
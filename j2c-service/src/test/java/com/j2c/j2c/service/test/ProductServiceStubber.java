@@ -134,7 +134,7 @@ public class ProductServiceStubber {
             final ProductCategory parentCategory,
             final UploadedImage imageForNewCategory
     ) {
-        mockFindCategoryById(parentCategory);
+        mockFindCategoryByIdForUpdate(parentCategory);
         mockFindUploadedImageById(imageForNewCategory);
     }
 
@@ -180,6 +180,15 @@ public class ProductServiceStubber {
         }
     }
 
+    private void mockFindCategoryByIdForUpdate(final ProductCategory category) {
+        if (category != null) {
+            when(mockBeanProvider.getProductCategoryRepository().findRootIdById(category.getId()))
+                    .thenReturn(Optional.of(category.getRootCategoryId()));
+            when(mockBeanProvider.getProductCategoryRepository().findByIdForUpdate(category.getId()))
+                    .thenReturn(Optional.of(category));
+        }
+    }
+
     private void mockFindTagById(final ProductTag tag) {
         if (tag != null) {
             when(mockBeanProvider.getProductTagRepository().findById(tag.getId()))
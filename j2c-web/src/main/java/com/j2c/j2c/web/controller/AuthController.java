@@ -86,7 +86,8 @@ public class AuthController {
 
     @PostMapping(value = "/api/anonymous",
             produces = MediaType.APPLICATION_JSON_VALUE)
-    @Operation(summary = "Create a new unprivileged anonymous user")
+    @Operation(summary = "Create a new unprivileged anonymous user",
+            description = "Prefer /api/anonymous-session, which does not create a user until the visitor checks out.")
     @ApiResponse(responseCode = "200",
             headers = @Header(name = HttpHeaders.AUTHORIZATION,
                     description = "Contains the token in the format 'Bearer \\<token\\>'",
@@ -101,6 +102,20 @@ public class AuthController {
         return anonymousCustomer;
     }
 
+    @PostMapping(value = "/api/anonymous-session")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Generate a token for an anonymous session, without creating a user",
+            description = "The token can be used to create a checkout session, which creates the anonymous customer " +
+                    "and responds with a token of that customer.")
+    @ApiResponse(responseCode = "204",
+            description = "Successfully generated a token for a new anonymous session",
+            headers = @Header(name = HttpHeaders.AUTHORIZATION,
+                    description = "Contains the token in the format 'Bearer \\<token\\>'",
+                    schema = @Schema(example = "Bearer eyexJ9.eyJzdWIiOURfQNDVNIl19.PQkJ8vQ")))
+    public void anonymousSession(final HttpServletResponse response) {
+        response.setHeader(HttpHeaders.AUTHORIZATION, Bearer + tokenProvider.createAnonymous());
+    }
+
     private void setAuthorization(final HttpServletResponse response) {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (isAnonymous(authentication)) {
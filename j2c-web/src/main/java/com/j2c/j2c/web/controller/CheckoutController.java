@@ -6,8 +6,10 @@ import com.j2c.j2c.service.dto.CheckoutLineDTO;
 import com.j2c.j2c.service.dto.OrderDTO;
 import com.j2c.j2c.service.input.*;
 import com.j2c.j2c.web.security.annotation.HasReadAccess;
+import com.j2c.j2c.web.security.annotation.IsAuthenticatedOrAnonymousSession;
 import com.j2c.j2c.web.security.annotation.IsCheckoutOwnerOrHasReadAccess;
 import com.j2c.j2c.web.security.annotation.IsCheckoutOwnerOrHasWriteAccess;
+import com.j2c.j2c.web.security.token.TokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,18 +17,24 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
 
 import static com.j2c.j2c.domain.enums.Authorities.READ_ACCESS;
 import static com.j2c.j2c.domain.enums.Authorities.WRITE_CHECKOUT;
 import static com.j2c.j2c.web.security.util.AuthenticationUtils.getUserId;
+import static com.j2c.j2c.web.security.util.AuthenticationUtils.isAnonymousSession;
+import static com.j2c.j2c.web.util.WebConstants.Bearer;
+import static com.j2c.j2c.web.util.WebConstants.WaitingRoomPositionHeader;
+import static com.j2c.j2c.web.util.WebConstants.WaitingRoomTicketHeader;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,6 +42,7 @@ import static com.j2c.j2c.web.security.util.AuthenticationUtils.getUserId;
 public class CheckoutController {
 
     private final CheckoutService checkoutService;
+    private final TokenProvider tokenProvider;
 
     @GetMapping(value = "/api/checkouts",
             produces = MediaType.APPLICATION_JSON_VALUE)
@@ -84,16 +93,28 @@ public class CheckoutController {
     @PostMapping(value = "/api/checkouts",
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
-    @PreAuthorize("authenticated")
+    @IsAuthenticatedOrAnonymousSession
     @Operation(security = @SecurityRequirement(name = "JWT"),
             summary = "Creates a new checkout session for the authenticated user",
             description = "Returns the created checkout session and its lines. " +
-                    "Must be authenticated to perform, and a user may not have more than one active checkout session at a time.")
+                    "Must be authenticated or in an anonymous session to perform, and a user may not have more than one active checkout session at a time. " +
+                    "In an anonymous session the customer is created along with the checkout session, " +
+                    "and a token of the customer is returned in the Authorization header. " +
+                    "When many checkouts of the same product variants arrive at once, a checkout may be refused with 429 " +
+                    "and the Retry-After, " + WaitingRoomTicketHeader + " and " + WaitingRoomPositionHeader + " headers, " +
+                    "it keeps its turn when it is retried with the ticket in the 'waitingRoomTicket' field.")
     public CheckoutDTO checkout(
             final HttpServletRequest request,
+            final HttpServletResponse response,
             @RequestBody final CreateCheckoutForm payload
     ) {
         final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isAnonymousSession(authentication)) {
+            final CheckoutDTO checkout = checkoutService.checkoutAnonymously(request.getRemoteAddr(), payload);
+            final String token = tokenProvider.create(checkout.getCustomerId(), Collections.emptySet());
+            response.setHeader(HttpHeaders.AUTHORIZATION, Bearer + token);
+            return checkout;
+        }
         final Long userId = getUserId(authentication);
         return checkoutService.checkout(userId, request.getRemoteAddr(), payload);
     }
@@ -220,6 +241,18 @@ public class CheckoutController {
         return checkoutService.useSingleAddress(checkoutId, payload);
     }
 
+    @PostMapping(value = "/api/checkouts/{checkoutId}/payment",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @IsCheckoutOwnerOrHasWriteAccess
+    @Operation(security = @SecurityRequirement(name = "JWT"),
+            summary = "Prepares the payment of a checkout session for confirmation",
+            description = "Returns the updated checkout session, with the payment token once it has all required information. " +
+                    "Must be called right before confirming the payment, so that the payment amount is the current total price. " +
+                    "Requires ownership of the resource or " + WRITE_CHECKOUT + " authority (Admin).")
+    public CheckoutDTO preparePayment(@PathVariable final Long checkoutId) {
+        return checkoutService.preparePayment(checkoutId);
+    }
+
     @PostMapping(value = "/api/checkouts/{checkoutId}/complete",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @IsCheckoutOwnerOrHasWriteAccess
@@ -17,6 +17,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import static com.j2c.j2c.web.util.WebConstants.WaitingRoomPositionHeader;
+import static com.j2c.j2c.web.util.WebConstants.WaitingRoomTicketHeader;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
@@ -78,6 +81,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .build();
     }
 
+    // only checkouts are admission controlled, so the response is documented on the checkout endpoint
+    @Hidden
+    @ExceptionHandler(CheckoutNotAdmittedException.class)
+    public ResponseEntity<ErrorResponse> handle(final CheckoutNotAdmittedException exception) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+        headers.set(WaitingRoomPositionHeader, String.valueOf(exception.getPosition()));
+        if (exception.getTicket() != null) {
+            headers.set(WaitingRoomTicketHeader, exception.getTicket().toString());
+        }
+        final ErrorResponse body = ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .message(exception.getMessage())
+                .build();
+        return new ResponseEntity<>(body, headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     @ApiResponse(responseCode = "401", ref = "401")
     public void handle(final AuthenticationException exception) {
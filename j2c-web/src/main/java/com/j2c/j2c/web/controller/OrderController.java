@@ -2,6 +2,7 @@ package com.j2c.j2c.web.controller;
 
 import com.j2c.j2c.domain.entity.Order;
 import com.j2c.j2c.service.application.OrderService;
+import com.j2c.j2c.service.dto.CursorPageDTO;
 import com.j2c.j2c.service.dto.OrderDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentDTO;
 import com.j2c.j2c.service.dto.OrderFulfillmentLineDTO;
@@ -19,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -49,6 +51,23 @@ public class OrderController {
         return orderService.findAll(predicate, pageable);
     }
 
+    @GetMapping(value = "/api/orders/scroll",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @HasReadAccess
+    @Operation(security = @SecurityRequirement(name = "JWT"),
+            summary = "Retrieves orders in slices",
+            description = "Pass the returned nextCursor to retrieve the following slice. " +
+                    "The sort is only read along with the first request and must be on id or email. " +
+                    "Requires " + READ_ACCESS + " authority (Viewer, Staff, Admin).")
+    public CursorPageDTO<OrderDTO> scroll(
+            @QuerydslPredicate(root = Order.class) final Predicate predicate,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            final Sort sort
+    ) {
+        return orderService.scroll(predicate, cursor, sort, size);
+    }
+
     @GetMapping(value = "/api/orders/{orderId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @HasReadAccess
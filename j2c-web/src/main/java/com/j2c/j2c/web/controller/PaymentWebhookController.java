@@ -0,0 +1,31 @@
+package com.j2c.j2c.web.controller;
+
+import com.j2c.j2c.service.application.PaymentEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Webhooks", description = "Endpoints called by external services")
+public class PaymentWebhookController {
+
+    private final PaymentEventService paymentEventService;
+
+    @PostMapping(value = "/api/webhooks/stripe",
+            consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Receives an event from Stripe",
+            description = "The event is stored and processed asynchronously, requests without a valid 'Stripe-Signature' header are rejected.")
+    public void receiveStripeEvent(
+            @RequestBody final String payload,
+            @RequestHeader("Stripe-Signature") final String signature
+    ) {
+        paymentEventService.receive(payload, signature);
+    }
+
+}
@@ -13,12 +13,15 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.querydsl.binding.QuerydslPredicate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import static com.j2c.j2c.domain.enums.Authorities.WRITE_PRODUCTS;
+import static com.j2c.j2c.web.util.ConditionalRequests.notModified;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,15 +35,63 @@ public class ProductController {
     @Operation(summary = "Retrieves all products")
     public Page<ProductDTO> getAll(
             @QuerydslPredicate(root = Product.class) final Predicate predicate,
-            @ParameterObject final Pageable pageable
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findAllVersion())) {
+            return null;
+        }
         return productService.findAll(predicate, pageable);
     }
 
+    @GetMapping(value = "/api/products/scroll",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Retrieves products in slices",
+            description = "Pass the returned nextCursor to retrieve the following slice. " +
+                    "The sort is only read along with the first request and must be on one of " +
+                    "id, name, defaultPrice or lastModified.")
+    public CursorPageDTO<ProductDTO> scroll(
+            @QuerydslPredicate(root = Product.class) final Predicate predicate,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            final Sort sort
+    ) {
+        return productService.scroll(predicate, cursor, sort, size);
+    }
+
+    @GetMapping(value = "/api/products/search",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Searches products by name and description",
+            description = "Every word of the query is matched as a prefix. Results are sorted by relevance, " +
+                    "so any sort requested is ignored.")
+    public Page<ProductDTO> search(
+            @RequestParam final String query,
+            @RequestParam(required = false) final Long category,
+            @RequestParam(required = false) final Long tag,
+            @ParameterObject final Pageable pageable
+    ) {
+        return productService.search(query, category, tag, pageable);
+    }
+
+    @GetMapping(value = "/api/products/facets",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Counts the published products per category and per tag",
+            description = "Returns the subcategories of the given category, or the root categories if none is given, " +
+                    "each counting the products of its whole subtree, and the tags with the most products.")
+    public FacetsDTO getFacets(
+            @RequestParam(required = false) final Long category,
+            @RequestParam(defaultValue = "50") final int tags
+    ) {
+        return productService.findFacets(category, tags);
+    }
+
     @GetMapping(value = "/api/products/{productId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Retrieves a single product by its id")
-    public ProductDTO get(@PathVariable final Long productId) {
+    public ProductDTO get(@PathVariable final Long productId, final ServletWebRequest request) {
+        if (notModified(request, productService.findVersion(productId))) {
+            return null;
+        }
         return productService.find(productId);
     }
 
@@ -49,8 +100,12 @@ public class ProductController {
     @Operation(summary = "Retrieves the variants of the product with the specified id")
     public Page<ProductVariantDTO> getVariants(
             @PathVariable final Long productId,
-            @ParameterObject final Pageable pageable
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findVersion(productId))) {
+            return null;
+        }
         return productService.findVariants(productId, pageable);
     }
 
@@ -59,8 +114,12 @@ public class ProductController {
     @Operation(summary = "Retrieves a single variant by id belonging to the specified product")
     public ProductVariantDTO getVariant(
             @PathVariable final Long productId,
-            @PathVariable final Long variantId
+            @PathVariable final Long variantId,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findVersion(productId))) {
+            return null;
+        }
         return productService.findVariant(productId, variantId);
     }
 
@@ -70,8 +129,12 @@ public class ProductController {
     public Page<ProductVariantImageDTO> getVariantImages(
             @PathVariable final Long productId,
             @PathVariable final Long variantId,
-            @ParameterObject final Pageable pageable
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findVersion(productId))) {
+            return null;
+        }
         return productService.findVariantImages(productId, variantId, pageable);
     }
 
@@ -81,8 +144,12 @@ public class ProductController {
     public ProductVariantImageDTO getVariantImage(
             @PathVariable final Long productId,
             @PathVariable final Long variantId,
-            @PathVariable final Long variantImageId
+            @PathVariable final Long variantImageId,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findVersion(productId))) {
+            return null;
+        }
         return productService.findVariantImage(productId, variantId, variantImageId);
     }
 
@@ -91,22 +158,35 @@ public class ProductController {
     @Operation(summary = "Retrieves the specified product's tags")
     public Page<ProductTagDTO> getProductTags(
             @PathVariable final Long productId,
-            @ParameterObject final Pageable pageable
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findVersion(productId))) {
+            return null;
+        }
         return productService.findProductTags(productId, pageable);
     }
 
     @GetMapping(value = "/api/categories",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Retrieves all product categories")
-    public Page<ProductCategoryDTO> getAllCategories(@ParameterObject final Pageable pageable) {
+    public Page<ProductCategoryDTO> getAllCategories(
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
+    ) {
+        if (notModified(request, productService.findCategoriesVersion())) {
+            return null;
+        }
         return productService.findAllCategories(pageable);
     }
 
     @GetMapping(value = "/api/categories/{categoryId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Retrieves a single category by its id")
-    public ProductCategoryDTO getCategory(@PathVariable final Long categoryId) {
+    public ProductCategoryDTO getCategory(@PathVariable final Long categoryId, final ServletWebRequest request) {
+        if (notModified(request, productService.findCategoryVersion(categoryId))) {
+            return null;
+        }
         return productService.findCategory(categoryId);
     }
 
@@ -115,22 +195,35 @@ public class ProductController {
     @Operation(summary = "Retrieves all the sub-categories belonging to the category with the specified id")
     public Page<ProductCategoryDTO> getSubCategories(
             @PathVariable final Long categoryId,
-            @ParameterObject final Pageable pageable
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
     ) {
+        if (notModified(request, productService.findCategoriesVersion())) {
+            return null;
+        }
         return productService.findSubCategories(categoryId, pageable);
     }
 
     @GetMapping(value = "/api/tags",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Retrieves all tags")
-    public Page<ProductTagDTO> getAllTags(@ParameterObject final Pageable pageable) {
+    public Page<ProductTagDTO> getAllTags(
+            @ParameterObject final Pageable pageable,
+            final ServletWebRequest request
+    ) {
+        if (notModified(request, productService.findTagsVersion())) {
+            return null;
+        }
         return productService.findAllTags(pageable);
     }
 
     @GetMapping(value = "/api/tags/{tagId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Retrieves a single tag by its id")
-    public ProductTagDTO getTag(@PathVariable final Long tagId) {
+    public ProductTagDTO getTag(@PathVariable final Long tagId, final ServletWebRequest request) {
+        if (notModified(request, productService.findTagVersion(tagId))) {
+            return null;
+        }
         return productService.findTag(tagId);
     }
 
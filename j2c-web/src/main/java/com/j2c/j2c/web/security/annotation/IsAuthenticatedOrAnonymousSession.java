@@ -0,0 +1,16 @@
+package com.j2c.j2c.web.security.annotation;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static com.j2c.j2c.web.util.WebConstants.AnonymousSessionAuthority;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@PreAuthorize("authenticated or hasAuthority('" + AnonymousSessionAuthority + "')")
+public @interface IsAuthenticatedOrAnonymousSession {
+}
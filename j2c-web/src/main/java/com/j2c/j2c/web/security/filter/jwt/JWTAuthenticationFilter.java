@@ -3,6 +3,7 @@ package com.j2c.j2c.web.security.filter.jwt;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -48,7 +49,7 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
-    private Optional<JWTAuthenticationToken> verifyToken(final HttpServletRequest request) {
+    private Optional<AbstractAuthenticationToken> verifyToken(final HttpServletRequest request) {
         final Optional<String> token = extractToken(request);
         return token.map(this::verifyToken);
     }
@@ -62,7 +63,7 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
         authenticationEntryPoint.commence(request, response, exception);
     }
 
-    private JWTAuthenticationToken verifyToken(final String token) {
+    private AbstractAuthenticationToken verifyToken(final String token) {
         return jwtVerifier.verify(token)
                 .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Missing token"));
     }
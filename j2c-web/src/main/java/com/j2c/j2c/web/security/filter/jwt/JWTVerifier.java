@@ -3,7 +3,10 @@ package com.j2c.j2c.web.security.filter.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
@@ -14,21 +17,27 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.j2c.j2c.web.util.WebConstants.Bearer;
-import static com.j2c.j2c.web.util.WebConstants.TokenAuthorities;
+import static com.j2c.j2c.web.util.WebConstants.*;
 
 @Component
 @RequiredArgsConstructor
 public class JWTVerifier {
 
+    private static final String ANONYMOUS_SESSION_KEY = "j2c-anonymous-session";
+
     private final Key key;
 
-    public Optional<JWTAuthenticationToken> verify(final String token) {
+    /**
+     * @return the authentication of the user the token was issued to, or an anonymous authentication
+     * with the {@value com.j2c.j2c.web.util.WebConstants#AnonymousSessionAuthority} authority
+     * if it was issued to an anonymous session
+     */
+    public Optional<AbstractAuthenticationToken> verify(final String token) {
         if (token == null || token.isBlank()) {
             return Optional.empty();
         }
         final Claims claims = decode(stripPrefix(token));
-        final JWTAuthenticationToken authentication = toAuthentication(claims);
+        final AbstractAuthenticationToken authentication = toAuthentication(claims);
         return Optional.of(authentication);
     }
 
@@ -65,7 +74,14 @@ public class JWTVerifier {
         return token.length() != token.trim().length();
     }
 
-    private static JWTAuthenticationToken toAuthentication(final Claims claims) {
+    private static AbstractAuthenticationToken toAuthentication(final Claims claims) {
+        if (Boolean.TRUE.equals(claims.get(TokenAnonymous, Boolean.class))) {
+            return new AnonymousAuthenticationToken(
+                    ANONYMOUS_SESSION_KEY,
+                    claims.getSubject(),
+                    AuthorityUtils.createAuthorityList(AnonymousSessionAuthority)
+            );
+        }
         final Long principal = Long.valueOf(claims.getSubject());
         final Set<? extends GrantedAuthority> authorities = getAuthorities( claims );
         return new JWTAuthenticationToken(principal, authorities);
@@ -13,9 +13,11 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
+import static com.j2c.j2c.web.util.WebConstants.TokenAnonymous;
 import static com.j2c.j2c.web.util.WebConstants.TokenAuthorities;
 
 @Component
@@ -40,6 +42,19 @@ public class TokenProvider {
                 .compact();
     }
 
+    /**
+     * Creates a token for an anonymous session, its subject is a random session id instead of the id of a user.
+     */
+    public String createAnonymous() {
+        return Jwts.builder()
+                .signWith(key, ALGORITHM)
+                .setHeaderParam("typ", "JWT")
+                .setSubject(UUID.randomUUID().toString())
+                .setExpiration(calculateExpirationDate())
+                .claim(TokenAnonymous, true)
+                .compact();
+    }
+
     private static Date calculateExpirationDate() {
         final LocalDateTime xMinutesFromNow = LocalDateTime.now().plusMinutes(DURATION);
         return Date.from(
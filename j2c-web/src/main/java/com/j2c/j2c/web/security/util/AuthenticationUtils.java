@@ -3,6 +3,9 @@ package com.j2c.j2c.web.security.util;
 import lombok.NonNull;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import static com.j2c.j2c.web.util.WebConstants.AnonymousSessionAuthority;
 
 public final class AuthenticationUtils {
 
@@ -12,6 +15,13 @@ public final class AuthenticationUtils {
         return authentication == null || authentication instanceof AnonymousAuthenticationToken;
     }
 
+    public static boolean isAnonymousSession(final Authentication authentication) {
+        return authentication instanceof AnonymousAuthenticationToken
+                && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(AnonymousSessionAuthority::equals);
+    }
+
     public static Long getUserId(@NonNull final Authentication authentication) {
         return Long.parseLong(authentication.getName());
     }
@@ -0,0 +1,43 @@
+package com.j2c.j2c.web.util;
+
+import com.j2c.j2c.service.dto.VersionDTO;
+import lombok.NonNull;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public final class ConditionalRequests {
+
+    // lets clients and shared caches store the response, as long as they revalidate it before every use
+    private static final String CacheControlHeaderValue = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private ConditionalRequests() {}
+
+    /**
+     * Sets the ETag header, and the Last-Modified header if the version has a last modified time,
+     * derived from the specified version and checks them
+     * against the request's conditional headers. When it returns {@code true} the response status
+     * has been set to 304 and the handler should return {@code null} without loading the resource.
+     */
+    public static boolean notModified(@NonNull final ServletWebRequest request, @NonNull final VersionDTO version) {
+        final HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControlHeaderValue);
+        }
+        final String etag = "\"" + DigestUtils.md5DigestAsHex(version.getVersion().getBytes(UTF_8)) + "\"";
+        final LocalDateTime lastModified = version.getLastModified();
+        if (lastModified == null) {
+            return request.checkNotModified(etag);
+        }
+        final long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+
+}
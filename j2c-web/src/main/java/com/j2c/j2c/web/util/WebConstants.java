@@ -3,7 +3,11 @@ package com.j2c.j2c.web.util;
 public final class WebConstants {
     public static final String Bearer = "Bearer ";
     public static final String TokenAuthorities = "authorities";
+    public static final String TokenAnonymous = "anonymous";
+    public static final String AnonymousSessionAuthority = "ANONYMOUS_SESSION";
     public static final String AuthURI = "/api/authentication";
+    public static final String WaitingRoomTicketHeader = "J2c-Waiting-Room-Ticket";
+    public static final String WaitingRoomPositionHeader = "J2c-Waiting-Room-Position";
 
     private WebConstants() {}
 
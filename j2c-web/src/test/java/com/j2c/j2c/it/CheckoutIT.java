@@ -295,6 +295,22 @@ class CheckoutIT extends BaseIT {
         assertBodyIsOfType(response.getBody(), CheckoutDTO.class);
     }
 
+    @Test
+    void preparePayment() {
+        final UserDTO customer = testDataCreator.createUserWithUniqueEmail();
+        final CheckoutDTO checkout = testDataCreator.createCheckoutReadyForPurchase(customer);
+
+        final ResponseEntity<JsonNode> response = httpRequest(
+                baseUrl + "/api/checkouts/" + checkout.getId() + "/payment",
+                HttpMethod.POST,
+                null,
+                authenticate(customer.getEmail(), "password")
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertBodyIsOfType(response.getBody(), CheckoutDTO.class);
+    }
+
     @Test
     void complete() {
         final UserDTO customer = testDataCreator.createUserWithUniqueEmail();
@@ -0,0 +1,148 @@
+package com.j2c.j2c.it;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j2c.j2c.domain.enums.ShippingMethodType;
+import com.j2c.j2c.it.util.BaseLoadIT;
+import com.j2c.j2c.it.util.LatencyRecorder;
+import com.j2c.j2c.it.util.LoadReport;
+import com.j2c.j2c.service.dto.ShippingCountryDTO;
+import com.j2c.j2c.service.dto.ShippingMethodDTO;
+import com.j2c.j2c.service.dto.ShippingZoneDTO;
+import com.j2c.j2c.service.dto.UserDTO;
+import com.j2c.j2c.service.input.*;
+import com.neovisionaries.i18n.CountryCode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+class CheckoutLoadIT extends BaseLoadIT {
+
+    private static final String GET_PRODUCTS = "GET /api/products";
+    private static final String GET_PRODUCT = "GET /api/products/{id}";
+    private static final String GET_PRODUCT_VARIANTS = "GET /api/products/{id}/variants";
+    private static final String CHECKOUT = "POST /api/checkouts";
+    private static final String CREATE_SHIPPING_ADDRESS = "POST /api/checkouts/{id}/shipping-address";
+    private static final String USE_SINGLE_ADDRESS = "POST /api/checkouts/{id}/single-address";
+    private static final String SET_SHIPPING_METHOD = "PUT /api/checkouts/{id}/shipping-method";
+    private static final String COMPLETE = "POST /api/checkouts/{id}/complete";
+    private static final String CANCEL = "DELETE /api/checkouts/{id}";
+    private static final String FLOW = "browse -> checkout -> complete";
+
+    private List<UserDTO> customers;
+    private List<String> tokens;
+    private boolean[] pendingCheckouts;
+    private CountryCode country;
+    private ShippingMethodDTO shippingMethod;
+
+    @BeforeAll
+    void createCustomersAndShipping() {
+        customers = IntStream.range(0, virtualUsers)
+                .mapToObj(i -> testDataCreator.createUserWithUniqueEmail())
+                .collect(Collectors.toList());
+        tokens = customers.stream()
+                .map(UserDTO::getEmail)
+                .map(email -> authenticate(email, "password"))
+                .collect(Collectors.toList());
+        pendingCheckouts = new boolean[virtualUsers];
+        country = shippingService.findAllUnusedCountries(PageRequest.of(0, 1)).getContent().stream()
+                .map(ShippingCountryDTO::getCode)
+                .findFirst()
+                .orElseThrow();
+        final ShippingZoneDTO zone = shippingService.createZone(
+                CreateShippingZoneForm.builder()
+                        .name("Load Test Shipping Zone")
+                        .countries(Set.of(country))
+                        .build()
+        );
+        shippingMethod = shippingService.createMethod(
+                zone.getId(),
+                CreateShippingMethodForm.builder()
+                        .name("Load Test Shipping Method")
+                        .type(ShippingMethodType.Price)
+                        .min(0L)
+                        .max(1_000_000L)
+                        .rate(50L)
+                        .build()
+        );
+    }
+
+    @Test
+    void browseCheckoutComplete() throws InterruptedException {
+        final LoadReport report = loadGenerator().run(this::browseCheckoutComplete);
+
+        log.info("Checkout load test finished\n{}", report);
+        assertTrue(report.get(COMPLETE).map(LoadReport.EndpointStats::getRequests).orElse(0L) > 0);
+    }
+
+    private void browseCheckoutComplete(final int virtualUser, final LatencyRecorder recorder) {
+        final String token = tokens.get(virtualUser);
+        if (pendingCheckouts[virtualUser]) {
+            cancelPendingCheckout(virtualUser, token, recorder);
+        }
+        final long start = System.nanoTime();
+
+        final JsonNode products = body(recorder.time(GET_PRODUCTS, () -> request(HttpMethod.GET, "/api/products?published=true", null, token)));
+        final JsonNode product = products.get("content").get(0);
+        final long productId = product.get("id").asLong();
+        recorder.time(GET_PRODUCT, () -> request(HttpMethod.GET, "/api/products/" + productId, null, token));
+        recorder.time(GET_PRODUCT_VARIANTS, () -> request(HttpMethod.GET, "/api/products/" + productId + "/variants", null, token));
+
+        final CreateCheckoutForm checkoutForm = CreateCheckoutForm.builder()
+                .email("customer@j2c.com")
+                .lines(List.of(Line.builder().id(product.get("defaultVariantId").asLong()).quantity(1).build()))
+                .build();
+        final JsonNode checkout = body(recorder.time(CHECKOUT, () -> request(HttpMethod.POST, "/api/checkouts", checkoutForm, token)));
+        pendingCheckouts[virtualUser] = true;
+        final String checkoutPath = "/api/checkouts/" + checkout.get("id").asLong();
+
+        final CreateCheckoutShippingAddressForm addressForm = CreateCheckoutShippingAddressForm.builder()
+                .address(
+                        CreateAddressForm.builder()
+                                .firstName("First Name")
+                                .lastName("Last Name")
+                                .streetAddress1("Street Address 1")
+                                .country(country)
+                                .countryArea("Country Area")
+                                .city("City")
+                                .postalCode("ABC123")
+                                .phone1("123456789")
+                                .build()
+                )
+                .build();
+        body(recorder.time(CREATE_SHIPPING_ADDRESS, () -> request(HttpMethod.POST, checkoutPath + "/shipping-address", addressForm, token)));
+        final UseSingleAddressForm singleAddressForm = UseSingleAddressForm.builder().useSingleAddress(true).build();
+        body(recorder.time(USE_SINGLE_ADDRESS, () -> request(HttpMethod.POST, checkoutPath + "/single-address", singleAddressForm, token)));
+        final SetCheckoutShippingMethodForm shippingMethodForm = SetCheckoutShippingMethodForm.builder().shippingMethodId(shippingMethod.getId()).build();
+        body(recorder.time(SET_SHIPPING_METHOD, () -> request(HttpMethod.PUT, checkoutPath + "/shipping-method", shippingMethodForm, token)));
+        body(recorder.time(COMPLETE, () -> request(HttpMethod.POST, checkoutPath + "/complete", null, token)));
+        pendingCheckouts[virtualUser] = false;
+
+        recorder.record(FLOW, System.nanoTime() - start, true);
+    }
+
+    private void cancelPendingCheckout(final int virtualUser, final String token, final LatencyRecorder recorder) {
+        // a checkout shares its id with its customer
+        final Long checkoutId = customers.get(virtualUser).getId();
+        recorder.time(CANCEL, () -> request(HttpMethod.DELETE, "/api/checkouts/" + checkoutId, null, token));
+        pendingCheckouts[virtualUser] = false;
+    }
+
+    private static JsonNode body(final ResponseEntity<JsonNode> response) {
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new IllegalStateException("Unexpected response " + response.getStatusCode() + ": " + response.getBody());
+        }
+        return response.getBody();
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.j2c.j2c.it;
+
+import com.j2c.j2c.domain.repository.InventoryStripeRepository;
+import com.j2c.j2c.it.util.BaseIT;
+import com.j2c.j2c.service.dto.CheckoutDTO;
+import com.j2c.j2c.service.dto.ProductDTO;
+import com.j2c.j2c.service.dto.UserDTO;
+import com.j2c.j2c.service.exception.ServiceException;
+import com.j2c.j2c.service.input.CreateCheckoutForm;
+import com.j2c.j2c.service.input.Line;
+import com.j2c.j2c.service.input.UpdateProductVariantForm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InventoryIT extends BaseIT {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private InventoryStripeRepository inventoryRepository;
+
+    @Test
+    void checkout_HotVariantConcurrently_ShouldSellExactlyTheStock() throws Exception {
+        final int stock = 25;
+        final Long variantId = createVariantInStock(stock);
+        final List<UserDTO> customers = createCustomers(60);
+
+        final AtomicInteger refused = new AtomicInteger();
+        final List<CheckoutDTO> checkouts = runConcurrently(customers, customer -> {
+            try {
+                return checkout(customer, variantId, 1);
+            } catch (final ServiceException exception) {
+                refused.incrementAndGet();
+                return null;
+            }
+        });
+
+        assertEquals(stock, checkouts.size());
+        assertEquals(customers.size() - stock, refused.get());
+        assertEquals(0, inventoryRepository.getAvailable(variantId));
+
+        runConcurrently(checkouts, checkout -> {
+            checkoutService.cancel(checkout.getId());
+            return null;
+        });
+
+        assertEquals(stock, inventoryRepository.getAvailable(variantId));
+    }
+
+    @Test
+    void checkout_QuantitySpreadOverStripes_ShouldTakeFromSeveralStripes() {
+        final Long variantId = createVariantInStock(16);
+        final UserDTO customer = testDataCreator.createUserWithUniqueEmail();
+
+        final CheckoutDTO checkout = checkout(customer, variantId, 13);
+
+        assertEquals(3, inventoryRepository.getAvailable(variantId));
+
+        checkoutService.cancel(checkout.getId());
+
+        assertEquals(16, inventoryRepository.getAvailable(variantId));
+    }
+
+    @Test
+    void checkout_NotEnoughInStock_ShouldNotTakeAnything() {
+        final Long variantId = createVariantInStock(4);
+        final UserDTO customer = testDataCreator.createUserWithUniqueEmail();
+
+        assertThrows(ServiceException.class, () -> checkout(customer, variantId, 5));
+
+        assertEquals(4, inventoryRepository.getAvailable(variantId));
+    }
+
+    @Test
+    void checkout_MixedQuantitiesConcurrently_ShouldNeverOversell() throws Exception {
+        final int stock = 40;
+        final Long variantId = createVariantInStock(stock);
+        final List<UserDTO> customers = createCustomers(40);
+
+        final List<CheckoutDTO> checkouts = runConcurrently(customers, customer -> {
+            try {
+                // every fourth customer buys more units than a single stripe holds
+                return checkout(customer, variantId, customer.getId() % 4 == 0 ? 7 : 1);
+            } catch (final ServiceException exception) {
+                return null;
+            }
+        });
+
+        final int sold = checkouts.stream()
+                .mapToInt(checkout -> checkout.getLines().get(0).getQuantity())
+                .sum();
+        assertEquals(stock - sold, inventoryRepository.getAvailable(variantId));
+
+        runConcurrently(checkouts, checkout -> {
+            checkoutService.cancel(checkout.getId());
+            return null;
+        });
+
+        assertEquals(stock, inventoryRepository.getAvailable(variantId));
+    }
+
+    private Long createVariantInStock(final int stock) {
+        final ProductDTO product = testDataCreator.createProduct();
+        final Long variantId = product.getDefaultVariant().getId();
+        productService.updateVariant(
+                product.getId(),
+                variantId,
+                UpdateProductVariantForm.builder()
+                        .stock(stock)
+                        .build()
+        );
+        productService.publish(product.getId());
+        return variantId;
+    }
+
+    private List<UserDTO> createCustomers(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> testDataCreator.createUserWithUniqueEmail())
+                .collect(Collectors.toList());
+    }
+
+    private CheckoutDTO checkout(final UserDTO customer, final Long variantId, final int quantity) {
+        return checkoutService.checkout(
+                customer.getId(),
+                "127.0.0.1",
+                CreateCheckoutForm.builder()
+                        .email("customer@j2c.com")
+                        .lines(List.of(Line.builder().id(variantId).quantity(quantity).build()))
+                        .build()
+        );
+    }
+
+    // runs the task for every item at once, the items whose task returned null are left out of the results
+    private static <T, R> List<R> runConcurrently(final List<T> items, final Function<T, R> task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<R>> futures = new ArrayList<>();
+            for (final T item : items) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.apply(item);
+                }));
+            }
+            start.countDown();
+            final List<R> results = new ArrayList<>();
+            for (final Future<R> future : futures) {
+                final R result = future.get(60, TimeUnit.SECONDS);
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -31,6 +31,19 @@ class OrderIT extends BaseIT {
         assertPageOfTypeIsNotEmpty(response.getBody(), OrderDTO.class);
     }
 
+    @Test
+    void scroll() {
+        final ResponseEntity<JsonNode> response = httpRequest(
+                baseUrl + "/api/orders/scroll?sort=email",
+                HttpMethod.GET,
+                null,
+                adminToken
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertPageOfTypeIsNotEmpty(response.getBody(), OrderDTO.class);
+    }
+
     @Test
     void get() {
         final ResponseEntity<JsonNode> response = httpRequest(
@@ -0,0 +1,104 @@
+package com.j2c.j2c.it;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.j2c.j2c.domain.entity.Checkout;
+import com.j2c.j2c.domain.repository.CheckoutRepository;
+import com.j2c.j2c.it.util.BaseIT;
+import com.j2c.j2c.service.dto.CheckoutDTO;
+import com.j2c.j2c.service.dto.UserDTO;
+import com.stripe.Stripe;
+import com.stripe.net.Webhook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.*;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentWebhookIT extends BaseIT {
+
+    private static final String WEBHOOK_SECRET = "whsec_test";
+
+    @Autowired
+    private CheckoutRepository checkoutRepository;
+
+    @Test
+    void receiveStripeEvent() throws Exception {
+        final UserDTO customer = testDataCreator.createUserWithUniqueEmail();
+        final CheckoutDTO checkoutDTO = testDataCreator.createCheckoutReadyForPurchase(customer);
+        final Checkout checkout = checkoutRepository.findById(checkoutDTO.getId());
+        final String payload = authorizedEventPayload(checkout.getPaymentId(), checkout.getTotalPrice());
+        final String signature = sign(payload, WEBHOOK_SECRET);
+
+        final ResponseEntity<String> response = postStripeEvent(payload, signature);
+        final ResponseEntity<String> redelivery = postStripeEvent(payload, signature);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(HttpStatus.OK, redelivery.getStatusCode());
+        assertTrue(awaitPaymentAuthorized(checkoutDTO.getId(), customer));
+    }
+
+    @Test
+    void receiveStripeEvent_InvalidSignature() throws Exception {
+        final String payload = authorizedEventPayload("pi_unknown", 1000L);
+
+        final ResponseEntity<String> response = postStripeEvent(payload, sign(payload, "whsec_other"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    private ResponseEntity<String> postStripeEvent(final String payload, final String signature) {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Stripe-Signature", signature);
+        return restTemplate.exchange(
+                baseUrl + "/api/webhooks/stripe",
+                HttpMethod.POST,
+                new HttpEntity<>(payload, headers),
+                String.class
+        );
+    }
+
+    // events are processed asynchronously, so the checkout is polled until the authorization shows up
+    private boolean awaitPaymentAuthorized(final Long checkoutId, final UserDTO customer) throws InterruptedException {
+        final String token = authenticate(customer.getEmail(), "password");
+        for (int i = 0; i < 50; i++) {
+            final ResponseEntity<JsonNode> response = httpRequest(
+                    baseUrl + "/api/checkouts/" + checkoutId,
+                    HttpMethod.GET,
+                    null,
+                    token
+            );
+            if (response.getBody() != null && response.getBody().path("paymentAuthorized").asBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private static String sign(final String payload, final String secret) throws Exception {
+        final long timestamp = Webhook.Util.getTimeNow();
+        return "t=" + timestamp + ",v1=" + Webhook.Util.computeHmacSha256(secret, timestamp + "." + payload);
+    }
+
+    private static String authorizedEventPayload(final String paymentId, final Long amount) {
+        return "{" +
+                "\"id\": \"evt_" + UUID.randomUUID() + "\"," +
+                "\"object\": \"event\"," +
+                "\"api_version\": \"" + Stripe.API_VERSION + "\"," +
+                "\"type\": \"payment_intent.amount_capturable_updated\"," +
+                "\"data\": {\"object\": {" +
+                    "\"id\": \"" + paymentId + "\"," +
+                    "\"object\": \"payment_intent\"," +
+                    "\"amount\": " + amount + "," +
+                    "\"amount_capturable\": " + amount + "," +
+                    "\"currency\": \"usd\"," +
+                    "\"payment_method\": \"pm_card_visa\"," +
+                    "\"status\": \"requires_capture\"" +
+                "}}" +
+                "}";
+    }
+
+}
@@ -5,12 +5,13 @@ import com.j2c.j2c.it.util.BaseIT;
 import com.j2c.j2c.service.dto.*;
 import com.j2c.j2c.service.input.*;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ProductIT extends BaseIT {
 
@@ -40,6 +41,130 @@ class ProductIT extends BaseIT {
         assertBodyIsOfType(response.getBody(), ProductDTO.class);
     }
 
+    @Test
+    void getNotModified() {
+        final ProductDTO product = testDataCreator.createProduct();
+        final String url = baseUrl + "/api/products/" + product.getId();
+
+        final ResponseEntity<JsonNode> response = restTemplate.getForEntity(url, JsonNode.class);
+        final String etag = response.getHeaders().getETag();
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        final ResponseEntity<JsonNode> conditionalResponse = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                JsonNode.class
+        );
+
+        assertNotNull(etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, conditionalResponse.getStatusCode());
+        assertNull(conditionalResponse.getBody());
+    }
+
+    @Test
+    void getModifiedAfterUpdate() {
+        final ProductDTO product = testDataCreator.createProduct();
+        final String url = baseUrl + "/api/products/" + product.getId();
+
+        final String etag = restTemplate.getForEntity(url, JsonNode.class).getHeaders().getETag();
+
+        productService.update(
+                product.getId(),
+                UpdateProductForm.builder()
+                        .name("New Test Product Name")
+                        .build()
+        );
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        final ResponseEntity<JsonNode> conditionalResponse = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                JsonNode.class
+        );
+
+        assertEquals(HttpStatus.OK, conditionalResponse.getStatusCode());
+        assertNotEquals(etag, conditionalResponse.getHeaders().getETag());
+        assertBodyIsOfType(conditionalResponse.getBody(), ProductDTO.class);
+    }
+
+    @Test
+    void scroll() {
+        testDataCreator.createProduct();
+        testDataCreator.createProduct();
+        final String url = baseUrl + "/api/products/scroll?size=1&sort=name,desc";
+
+        final ResponseEntity<JsonNode> first = restTemplate.getForEntity(url, JsonNode.class);
+        final String cursor = first.getBody().get("nextCursor").asText();
+        final ResponseEntity<JsonNode> second = restTemplate.getForEntity(url + "&cursor=" + cursor, JsonNode.class);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertEquals(1, first.getBody().get("content").size());
+        assertEquals(1, second.getBody().get("content").size());
+        assertBodyIsOfType(first.getBody().get("content").get(0), ProductDTO.class);
+        assertNotEquals(
+                first.getBody().get("content").get(0).get("id"),
+                second.getBody().get("content").get(0).get("id")
+        );
+    }
+
+    @Test
+    void scrollInvalidCursor() {
+        final ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                baseUrl + "/api/products/scroll?cursor=invalid",
+                JsonNode.class
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void search() {
+        final ProductDTO product = testDataCreator.createProduct();
+        final String name = product.getName();
+        final String prefix = name.substring(0, name.length() - 2);
+
+        final ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                baseUrl + "/api/products/search?query=" + prefix,
+                JsonNode.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertPageOfTypeIsNotEmpty(response.getBody(), ProductDTO.class);
+        assertEquals(product.getId(), response.getBody().get("content").get(0).get("id").asLong());
+    }
+
+    @Test
+    void getFacets() {
+        final ProductCategoryDTO category = testDataCreator.createCategory();
+        final ProductDTO product = testDataCreator.createProduct();
+        productService.update(
+                product.getId(),
+                UpdateProductForm.builder()
+                        .categoryId(category.getId())
+                        .build()
+        );
+        productService.publish(product.getId());
+
+        final ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                baseUrl + "/api/products/facets",
+                JsonNode.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertBodyIsOfType(response.getBody(), FacetsDTO.class);
+        final FacetsDTO facets = objectMapper.convertValue(response.getBody(), FacetsDTO.class);
+        final FacetDTO facet = facets.getCategories().stream()
+                .filter(f -> category.getId().equals(f.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, facet.getCount());
+    }
+
     @Test
     void getVariants() {
         final ResponseEntity<JsonNode> response = httpRequest(
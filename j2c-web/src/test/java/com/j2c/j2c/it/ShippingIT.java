@@ -2,6 +2,7 @@ package com.j2c.j2c.it;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.j2c.j2c.domain.enums.ShippingMethodType;
+import com.j2c.j2c.domain.repository.ChangeNotifier;
 import com.j2c.j2c.it.util.BaseIT;
 import com.j2c.j2c.service.dto.ShippingCountryDTO;
 import com.j2c.j2c.service.dto.ShippingMethodDTO;
@@ -12,15 +13,19 @@ import com.j2c.j2c.service.input.UpdateShippingMethodForm;
 import com.j2c.j2c.service.input.UpdateShippingZoneForm;
 import com.neovisionaries.i18n.CountryCode;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ShippingIT extends BaseIT {
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void getAllZones() {
         final ResponseEntity<JsonNode> response = httpRequest(
@@ -222,4 +227,39 @@ class ShippingIT extends BaseIT {
         assertNull(response.getBody());
     }
 
+    @Test
+    void updateZoneOnAnotherNode() throws InterruptedException {
+        final ShippingZoneDTO shippingZone = testDataCreator.createShippingZone();
+        // puts the zone in the second-level cache
+        getZoneName(shippingZone.getId());
+
+        // another node updates the zone and publishes its change notice
+        jdbcTemplate.update("update shippingzone set name = ? where id = ?", "Zone Renamed Elsewhere", shippingZone.getId());
+        jdbcTemplate.queryForList("select pg_notify(?, ?)", ChangeNotifier.CHANNEL, "ShippingZone:" + shippingZone.getId());
+
+        assertTrue(awaitZoneName(shippingZone.getId(), "Zone Renamed Elsewhere"));
+    }
+
+    // notices are received asynchronously, so the zone is polled until the eviction shows up
+    private boolean awaitZoneName(final Long zoneId, final String name) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            if (name.equals(getZoneName(zoneId))) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private String getZoneName(final Long zoneId) {
+        final ResponseEntity<JsonNode> response = httpRequest(
+                baseUrl + "/api/shipping-zones/" + zoneId,
+                HttpMethod.GET,
+                null,
+                null
+        );
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody().path("name").asText();
+    }
+
 }
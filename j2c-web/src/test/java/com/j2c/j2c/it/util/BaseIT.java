@@ -38,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.*;
                 "j2c.web.security.jwt.secret=rbcjXddtz1kJnfAU1dAV0vX5PfM5r0bT/Q5F6xl+eSo7FyIJixsxIQ9Nv9JySxFl2qlvbqeOCAZ0wLGynryxwQ==",
                 "j2c.service.storage.image.filesystem.location=${J2C_TEST_LOCAL_IMAGE_STORAGE_PATH}",
                 "j2c.service.gateway.stripe.key=${J2C_STRIPE_TEST_KEY}",
+                "j2c.service.gateway.stripe.webhook-secret=whsec_test",
                 "spring.datasource.url=${J2C_TEST_DB_URL}",
                 "spring.datasource.username=${J2C_TEST_DB_USERNAME}",
                 "spring.datasource.password=${J2C_TEST_DB_PASSWORD}",
@@ -175,7 +176,7 @@ public abstract class BaseIT {
         return tokenWithPrefix.replaceFirst(WebConstants.Bearer, "");
     }
 
-    private HttpHeaders getTokenHeaders(final String token) {
+    protected HttpHeaders getTokenHeaders(final String token) {
         final HttpHeaders headers = new HttpHeaders();
         if (token != null) {
             headers.setBearerAuth(token);
@@ -0,0 +1,96 @@
+package com.j2c.j2c.it.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.NonNull;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/**
+ * Runs the whole application on an embedded H2 database with the {@link MockPaymentGateway}, so that load tests
+ * do not require any external service. Load tests are skipped unless the 'j2c.load-test' system property is true:
+ * "mvn -pl j2c-web verify -Dit.test=*LoadIT -Dj2c.load-test=true"
+ */
+@SpringBootTest(
+        properties = {
+                "spring.profiles.active=test",
+                "spring.mail.host=",
+                "j2c.web.create-default-admin=false",
+                "j2c.web.security.jwt.secret=rbcjXddtz1kJnfAU1dAV0vX5PfM5r0bT/Q5F6xl+eSo7FyIJixsxIQ9Nv9JySxFl2qlvbqeOCAZ0wLGynryxwQ==",
+                "j2c.service.storage.image.filesystem.location=${java.io.tmpdir}/j2c-load-test",
+                "j2c.service.gateway.stripe.key=sk_test_unused",
+                "j2c.service.gateway.stripe.webhook-secret=whsec_test_unused",
+                "spring.datasource.url=jdbc:h2:mem:j2c-load-test;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.datasource.hikari.maximum-pool-size=${j2c.load-test.pool-size:10}",
+                "spring.datasource.initialization-mode=always",
+                "spring.datasource.data=file:../j2c-domain/src/main/db/postgresql/migrations/V2.*__init-data.sql",
+                "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.flyway.enabled=false",
+                // H2 has no notification channel to publish change notices on
+                "j2c.service.cache.invalidation.enabled=false",
+                "logging.level.com.j2c=WARN",
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@Import({
+        MockPaymentGateway.class,
+        TestDataCreator.class
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "j2c.load-test", matches = "true")
+public abstract class BaseLoadIT extends BaseIT {
+
+    protected final int virtualUsers = Integer.getInteger("j2c.load-test.users", 16);
+
+    protected final Duration warmup = Duration.ofSeconds(Long.getLong("j2c.load-test.warmup", 10));
+
+    protected final Duration duration = Duration.ofSeconds(Long.getLong("j2c.load-test.duration", 60));
+
+    @BeforeAll
+    void beforeAllLoadTests() {
+        // the default http client only allows a handful of connections per route
+        restTemplate.getRestTemplate().setRequestFactory(
+                new HttpComponentsClientHttpRequestFactory(
+                        HttpClients.custom()
+                                .setMaxConnTotal(virtualUsers * 2)
+                                .setMaxConnPerRoute(virtualUsers * 2)
+                                .build()
+                )
+        );
+    }
+
+    protected ResponseEntity<JsonNode> request(
+            @NonNull final HttpMethod httpMethod,
+            @NonNull final String path,
+            final Object body,
+            final String token
+    ) {
+        return restTemplate.exchange(
+                baseUrl + path,
+                httpMethod,
+                new HttpEntity<>(body, getTokenHeaders(token)),
+                JsonNode.class
+        );
+    }
+
+    protected LoadGenerator loadGenerator() {
+        return LoadGenerator.builder()
+                .concurrency(virtualUsers)
+                .warmup(warmup)
+                .duration(duration)
+                .build();
+    }
+
+}
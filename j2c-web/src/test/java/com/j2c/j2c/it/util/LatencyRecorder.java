@@ -0,0 +1,59 @@
+package com.j2c.j2c.it.util;
+
+import lombok.NonNull;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class LatencyRecorder {
+
+    private final Map<String, Collection<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public <T> ResponseEntity<T> time(@NonNull final String endpoint, @NonNull final Supplier<ResponseEntity<T>> request) {
+        final long start = System.nanoTime();
+        final ResponseEntity<T> response;
+        try {
+            response = request.get();
+        } catch (final RuntimeException exception) {
+            record(endpoint, System.nanoTime() - start, false);
+            throw exception;
+        }
+        record(endpoint, System.nanoTime() - start, response.getStatusCode().is2xxSuccessful());
+        return response;
+    }
+
+    public void record(@NonNull final String endpoint, final long nanos, final boolean success) {
+        if (!recording) {
+            return;
+        }
+        latencies.computeIfAbsent(endpoint, e -> new ConcurrentLinkedQueue<>()).add(nanos);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+        }
+    }
+
+    void startRecording() {
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    Map<String, Collection<Long>> getLatencies() {
+        return latencies;
+    }
+
+    long getErrors(final String endpoint) {
+        final LongAdder adder = errors.get(endpoint);
+        return adder != null ? adder.sum() : 0;
+    }
+
+}
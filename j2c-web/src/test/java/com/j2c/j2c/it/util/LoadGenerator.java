@@ -0,0 +1,72 @@
+package com.j2c.j2c.it.util;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class LoadGenerator {
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    @FunctionalInterface
+    public interface Scenario {
+
+        void run(int virtualUser, LatencyRecorder recorder) throws Exception;
+
+    }
+
+    @Builder
+    private LoadGenerator(
+            final int concurrency,
+            @NonNull final Duration warmup,
+            @NonNull final Duration duration
+    ) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public LoadReport run(@NonNull final Scenario scenario) throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        final CountDownLatch start = new CountDownLatch(1);
+        final long deadline = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            final int virtualUser = i;
+            executor.submit(() -> {
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    try {
+                        scenario.run(virtualUser, recorder);
+                    } catch (final Exception exception) {
+                        log.warn("Virtual user " + virtualUser + " failed: " + exception.getMessage());
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        Thread.sleep(warmup.toMillis());
+        recorder.startRecording();
+        Thread.sleep(duration.toMillis());
+        recorder.stopRecording();
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+        return new LoadReport(concurrency, duration, recorder);
+    }
+
+}
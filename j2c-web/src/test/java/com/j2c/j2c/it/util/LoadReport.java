@@ -0,0 +1,106 @@
+package com.j2c.j2c.it.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Getter
+public class LoadReport {
+
+    private final int concurrency;
+    private final Duration duration;
+    private final List<EndpointStats> endpoints;
+
+    LoadReport(final int concurrency, @NonNull final Duration duration, @NonNull final LatencyRecorder recorder) {
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.endpoints = recorder.getLatencies().entrySet().stream()
+                .map(e -> EndpointStats.of(e.getKey(), e.getValue(), recorder.getErrors(e.getKey()), duration))
+                .sorted(Comparator.comparing(EndpointStats::getEndpoint))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public Optional<EndpointStats> get(final String endpoint) {
+        return endpoints.stream()
+                .filter(e -> e.getEndpoint().equals(endpoint))
+                .findFirst();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder()
+                .append(String.format("%d virtual users, %d seconds measured%n", concurrency, duration.toSeconds()))
+                .append(String.format("%-50s %8s %8s %10s %10s %10s %10s%n",
+                        "endpoint", "requests", "errors", "p50 (ms)", "p99 (ms)", "max (ms)", "req/s"));
+        endpoints.forEach(e -> sb.append(
+                String.format("%-50s %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                        e.getEndpoint(), e.getRequests(), e.getErrors(),
+                        e.getP50(), e.getP99(), e.getMax(), e.getThroughput())
+        ));
+        return sb.toString();
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class EndpointStats {
+
+        @NonNull
+        private final String endpoint;
+
+        private final long requests;
+
+        private final long errors;
+
+        // milliseconds
+        private final double p50;
+
+        private final double p99;
+
+        private final double max;
+
+        // requests per second
+        private final double throughput;
+
+        private static EndpointStats of(
+                final String endpoint,
+                final Collection<Long> latencies,
+                final long errors,
+                final Duration duration
+        ) {
+            final long[] sorted = latencies.stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            return EndpointStats.builder()
+                    .endpoint(endpoint)
+                    .requests(sorted.length)
+                    .errors(errors)
+                    .p50(toMillis(percentile(sorted, 0.50)))
+                    .p99(toMillis(percentile(sorted, 0.99)))
+                    .max(toMillis(sorted.length > 0 ? sorted[sorted.length - 1] : 0))
+                    .throughput(sorted.length / (duration.toMillis() / 1000d))
+                    .build();
+        }
+
+        private static long percentile(final long[] sorted, final double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double toMillis(final long nanos) {
+            return nanos / 1_000_000d;
+        }
+
+    }
+
+}
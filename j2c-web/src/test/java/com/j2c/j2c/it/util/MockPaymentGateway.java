@@ -1,6 +1,8 @@
 package com.j2c.j2c.it.util;
 
+import com.j2c.j2c.domain.entity.Checkout;
 import com.j2c.j2c.domain.entity.Payment;
+import com.j2c.j2c.domain.entity.PaymentDetails;
 import com.j2c.j2c.domain.entity.User;
 import com.j2c.j2c.service.dto.CardDTO;
 import com.j2c.j2c.service.dto.PaymentMethodDTO;
@@ -11,6 +13,7 @@ import org.springframework.boot.test.context.TestComponent;
 import org.springframework.context.annotation.Primary;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.j2c.j2c.domain.util.J2cUtils.optional;
 
@@ -18,7 +21,7 @@ import static com.j2c.j2c.domain.util.J2cUtils.optional;
 @TestComponent
 public class MockPaymentGateway implements PaymentGateway {
 
-    private final Map<String, MockPayment> payments = new HashMap<>();
+    private final Map<String, MockPayment> payments = new ConcurrentHashMap<>();
 
     @Override
     public String createCustomer() {
@@ -42,6 +45,18 @@ public class MockPaymentGateway implements PaymentGateway {
         return optional(payments.get(paymentId));
     }
 
+    @Override
+    public Payment authorized(@NonNull final Checkout checkout) {
+        final PaymentDetails details = checkout.getPaymentDetails();
+        return MockPayment.builder()
+                .id(details.getId())
+                .token(details.getToken())
+                .capturedAmount(details.getAuthorizedAmount())
+                .paymentMethodId(details.getPaymentMethodId())
+                .currency(checkout.getCurrency())
+                .build();
+    }
+
     @Override
     public List<? extends PaymentMethodDTO> findPaymentMethods(final User user) {
         return List.of(
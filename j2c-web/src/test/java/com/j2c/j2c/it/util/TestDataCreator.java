@@ -19,13 +19,14 @@ import org.springframework.data.domain.PageRequest;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @TestComponent
 public class TestDataCreator {
 
-    @Autowired
-    protected Flyway flyway;
+    @Autowired(required = false)
+    protected Flyway flyway; // absent when running on an embedded database created by hibernate
 
     @Autowired
     protected UserService userService;
@@ -45,7 +46,7 @@ public class TestDataCreator {
     @Autowired
     protected ImageStorageService imageStorageService;
 
-    private static final Set<String> alreadyUsedEmails = new HashSet<>();
+    private static final Set<String> alreadyUsedEmails = ConcurrentHashMap.newKeySet();
 
     @EventListener
     public void onApplicationReadyEvent(final ApplicationReadyEvent event) {
@@ -228,14 +229,16 @@ public class TestDataCreator {
     public String newRandomEmail() {
         while (true) {
             final String email = randomString(10) + "@j2c.com";
-            if (!alreadyUsedEmails.contains(email)) {
-                alreadyUsedEmails.add(email);
+            if (alreadyUsedEmails.add(email)) {
                 return email;
             }
         }
     }
 
     private void emptyDB() {
+        if (flyway == null) {
+            return;
+        }
         flyway.clean();
         flyway.migrate();
     }
@@ -21,6 +21,7 @@ import static com.j2c.j2c.web.util.WebConstants.Bearer;
 import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -248,4 +249,16 @@ class AuthControllerTest extends BaseWebMvcTest {
                 .andExpect(header().string(HttpHeaders.AUTHORIZATION, new StringStartsWith(Bearer)));
     }
 
+    @Test
+    void anonymousSession_HappyPath_ShouldRespond204WithTokenHeaderWithoutCreatingUser() throws Exception {
+        final RequestBuilder request = post("/api/anonymous-session");
+
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent())
+                .andExpect(header().exists(HttpHeaders.AUTHORIZATION))
+                .andExpect(header().string(HttpHeaders.AUTHORIZATION, new StringStartsWith(Bearer)));
+
+        verifyNoInteractions(userService);
+    }
+
 }
@@ -1,26 +1,40 @@
 package com.j2c.j2c.web.controller;
 
+import com.j2c.j2c.service.dto.CheckoutDTO;
+import com.j2c.j2c.service.exception.CheckoutNotAdmittedException;
 import com.j2c.j2c.service.exception.InvalidInputException;
 import com.j2c.j2c.service.exception.ResourceNotFoundException;
 import com.j2c.j2c.service.exception.ServiceException;
+import com.j2c.j2c.web.security.token.TokenProvider;
 import com.j2c.j2c.web.test.BaseWebMvcTest;
+import org.hamcrest.core.StringStartsWith;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.Collections;
+import java.util.UUID;
 
 import static com.j2c.j2c.domain.enums.Authorities.READ_ACCESS;
 import static com.j2c.j2c.domain.enums.Authorities.WRITE_CHECKOUT;
+import static com.j2c.j2c.web.util.WebConstants.Bearer;
+import static com.j2c.j2c.web.util.WebConstants.WaitingRoomPositionHeader;
+import static com.j2c.j2c.web.util.WebConstants.WaitingRoomTicketHeader;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class CheckoutControllerTest extends BaseWebMvcTest {
 
+    @Autowired
+    private TokenProvider tokenProvider;
+
     @Test
     void getAll_NotAuthenticated_ShouldRespond401() throws Exception {
         final RequestBuilder request = MockMvcRequestBuilders.get("/api/checkouts");
@@ -204,6 +218,40 @@ class CheckoutControllerTest extends BaseWebMvcTest {
         assert422(request);
     }
 
+    @Test
+    @WithMockUser(value = "1")
+    void checkout_CheckoutNotAdmittedException_ShouldRespond429WithRetryAfterAndTicket() throws Exception {
+        final RequestBuilder request = post("/api/checkouts")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{}");
+        final UUID ticket = UUID.randomUUID();
+
+        when(checkoutService.checkout(any(), any(), any()))
+                .thenThrow(new CheckoutNotAdmittedException("queued", ticket, 42, 3));
+
+        mockMvc.perform(request)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(header().string(WaitingRoomPositionHeader, "42"))
+                .andExpect(header().string(WaitingRoomTicketHeader, ticket.toString()));
+    }
+
+    @Test
+    @WithMockUser(value = "1")
+    void checkout_WaitingRoomFull_ShouldRespond429WithoutTicket() throws Exception {
+        final RequestBuilder request = post("/api/checkouts")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{}");
+
+        when(checkoutService.checkout(any(), any(), any()))
+                .thenThrow(new CheckoutNotAdmittedException("full", null, 1000, 50));
+
+        mockMvc.perform(request)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "50"))
+                .andExpect(header().doesNotExist(WaitingRoomTicketHeader));
+    }
+
     @Test
     @WithMockUser(value = "1")
     void checkout_HappyPath_ShouldRespond200() throws Exception {
@@ -214,6 +262,31 @@ class CheckoutControllerTest extends BaseWebMvcTest {
         assert200(request);
     }
 
+    @Test
+    void checkout_AnonymousSession_ShouldRespond200WithTokenHeaderOfCreatedCustomer() throws Exception {
+        final RequestBuilder request = post("/api/checkouts")
+                .header(HttpHeaders.AUTHORIZATION, Bearer + tokenProvider.createAnonymous())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{}");
+
+        when(checkoutService.checkoutAnonymously(any(), any()))
+                .thenReturn(CheckoutDTO.builder().id(2L).customerId(2L).build());
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.AUTHORIZATION, new StringStartsWith(Bearer)));
+
+        verify(checkoutService, never()).checkout(any(), any(), any());
+    }
+
+    @Test
+    void get_AnonymousSession_ShouldRespond401() throws Exception {
+        final RequestBuilder request = MockMvcRequestBuilders.get("/api/checkouts/1")
+                .header(HttpHeaders.AUTHORIZATION, Bearer + tokenProvider.createAnonymous());
+
+        assert401AuthenticationRequired(request);
+    }
+
     @Test
     @WithMockUser(value = "1")
     void createShippingAddress_NoBody_ShouldRespond400() throws Exception {
@@ -1,14 +1,20 @@
 package com.j2c.j2c.web.security.filter.jwt;
 
+import com.j2c.j2c.web.security.token.TokenProvider;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import static com.j2c.j2c.web.util.WebConstants.AnonymousSessionAuthority;
 import static com.j2c.j2c.web.util.WebConstants.Bearer;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 class JWTVerifierTest {
 
@@ -23,28 +29,44 @@ class JWTVerifierTest {
 
     @Test
     public void verify_TokenWithPrefix_ShouldReturnNonEmptyOptional() {
-        final Optional<JWTAuthenticationToken> optional = jwtVerifier.verify(Bearer + token);
+        final Optional<AbstractAuthenticationToken> optional = jwtVerifier.verify(Bearer + token);
 
         assertTrue(optional.isPresent());
     }
 
+    @Test
+    public void verify_AnonymousSessionToken_ShouldReturnAnonymousAuthentication() {
+        final String anonymousToken = new TokenProvider(Keys.hmacShaKeyFor(SECRET.getBytes())).createAnonymous();
+
+        final Optional<AbstractAuthenticationToken> optional = jwtVerifier.verify(Bearer + anonymousToken);
+
+        assertTrue(optional.isPresent());
+        assertTrue(optional.get() instanceof AnonymousAuthenticationToken);
+        assertEquals(
+                Collections.singleton(AnonymousSessionAuthority),
+                optional.get().getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toSet())
+        );
+    }
+
     @Test
     public void verify_NullToken_ShouldReturnEmptyOptional() {
-        final Optional<JWTAuthenticationToken> optional = jwtVerifier.verify(null);
+        final Optional<AbstractAuthenticationToken> optional = jwtVerifier.verify(null);
 
         assertTrue(optional.isEmpty());
     }
 
     @Test
     public void verify_EmptyToken_ShouldReturnEmptyOptional() {
-        final Optional<JWTAuthenticationToken> optional = jwtVerifier.verify("");
+        final Optional<AbstractAuthenticationToken> optional = jwtVerifier.verify("");
 
         assertTrue(optional.isEmpty());
     }
 
     @Test
     public void verify_BlankToken_ShouldReturnEmptyOptional() {
-        final Optional<JWTAuthenticationToken> optional = jwtVerifier.verify("   ");
+        final Optional<AbstractAuthenticationToken> optional = jwtVerifier.verify("   ");
 
         assertTrue(optional.isEmpty());
     }
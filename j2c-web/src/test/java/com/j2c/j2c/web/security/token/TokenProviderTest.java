@@ -8,6 +8,7 @@ import java.util.Set;
 
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class TokenProviderTest {
@@ -32,4 +33,13 @@ class TokenProviderTest {
         assertFalse(token.isBlank());
     }
 
+    @Test
+    public void createAnonymous_ShouldReturnDifferentTokens() {
+        final String token = tokenProvider.createAnonymous();
+
+        assertNotNull(token);
+        assertFalse(token.isBlank());
+        assertNotEquals(token, tokenProvider.createAnonymous());
+    }
+
 }